@@ -0,0 +1,254 @@
+package com.cube.simple.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import org.springframework.data.redis.cache.CacheStatistics;
+import org.springframework.data.redis.cache.CacheStatisticsCollector;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.connection.RedisStringCommands.SetOption;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.types.Expiration;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시별 최대 항목 수(cache.redis.caches.이름.max-entries)를 지키는 RedisCacheWriter
+ *
+ * - 저장할 때마다 "cache:index:캐시이름" sorted set 에 (저장 시각, 키)를 기록하고,
+ *   항목 수가 최대치를 넘으면 가장 먼저 저장된 키부터 삭제한다. (Lua 스크립트 1회 왕복)
+ * - TTL 로 이미 만료된 키는 저장 시각이 최대 TTL 보다 오래된 것으로 판단하여 인덱스에서 먼저 정리한다.
+ * - 최대 항목 수가 없는 캐시는 기존 writer 그대로 동작 (추가 명령 없음)
+ * - 단일 Redis 기준 (스크립트가 인덱스 외 키를 삭제하므로 Redis Cluster 에서는 사용하지 않음)
+ * - 다건 조회/저장/삭제(CacheMultiGet)도 이 writer 를 거쳐 통계와 최대 항목 수가 단건과 같이 적용된다.
+ *   (조회는 MGET, 저장/삭제는 파이프라인 1회 왕복, 인덱스 기록은 스크립트 1회)
+ */
+@Slf4j
+public class BudgetedRedisCacheWriter implements RedisCacheWriter {
+
+    private static final String INDEX_PREFIX = "cache:index:";
+
+    // KEYS[1] = 인덱스, ARGV = 현재 시각, 최대 항목 수, 만료 기준 시각, 인덱스 TTL(ms), 캐시 키...
+    private static final byte[] TRIM = ("""
+            redis.call('ZREMRANGEBYSCORE', KEYS[1], '-inf', ARGV[3])
+            for i = 5, #ARGV do
+              redis.call('ZADD', KEYS[1], ARGV[1], ARGV[i])
+            end
+            redis.call('PEXPIRE', KEYS[1], ARGV[4])
+            local over = redis.call('ZCARD', KEYS[1]) - tonumber(ARGV[2])
+            if over > 0 then
+              local victims = redis.call('ZPOPMIN', KEYS[1], over)
+              for i = 1, #victims, 2 do
+                redis.call('DEL', victims[i])
+              end
+              return over
+            end
+            return 0
+            """).getBytes(StandardCharsets.UTF_8);
+
+    private final RedisCacheWriter delegate;
+    private final RedisConnectionFactory connectionFactory;
+    private final RedisCacheProperties properties;
+    // delegate 와 같은 수집기 (다건 조회/저장/삭제 통계 기록용)
+    private final CacheStatisticsCollector statistics;
+
+    public BudgetedRedisCacheWriter(RedisCacheWriter delegate, RedisConnectionFactory connectionFactory,
+                                    RedisCacheProperties properties) {
+        this(delegate, connectionFactory, properties, CacheStatisticsCollector.none());
+    }
+
+    private BudgetedRedisCacheWriter(RedisCacheWriter delegate, RedisConnectionFactory connectionFactory,
+                                     RedisCacheProperties properties, CacheStatisticsCollector statistics) {
+        this.delegate = delegate;
+        this.connectionFactory = connectionFactory;
+        this.properties = properties;
+        this.statistics = statistics;
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key) {
+        return delegate.get(name, key);
+    }
+
+    @Override
+    public byte[] get(String name, byte[] key, Duration ttl) {
+        return delegate.get(name, key, ttl);
+    }
+
+    @Override
+    public boolean supportsAsyncRetrieve() {
+        return delegate.supportsAsyncRetrieve();
+    }
+
+    @Override
+    public CompletableFuture<byte[]> retrieve(String name, byte[] key, Duration ttl) {
+        return delegate.retrieve(name, key, ttl);
+    }
+
+    @Override
+    public void put(String name, byte[] key, byte[] value, Duration ttl) {
+        delegate.put(name, key, value, ttl);
+        track(name, key);
+    }
+
+    @Override
+    public CompletableFuture<Void> store(String name, byte[] key, byte[] value, Duration ttl) {
+        return delegate.store(name, key, value, ttl).thenRun(() -> track(name, key));
+    }
+
+    @Override
+    public byte[] putIfAbsent(String name, byte[] key, byte[] value, Duration ttl) {
+        byte[] existing = delegate.putIfAbsent(name, key, value, ttl);
+        if (existing == null) {
+            track(name, key);
+        }
+        return existing;
+    }
+
+    @Override
+    public void remove(String name, byte[] key) {
+        delegate.remove(name, key);
+        if (properties.spec(name).getMaxEntries() != null) {
+            try (RedisConnection connection = connectionFactory.getConnection()) {
+                connection.zSetCommands().zRem(indexKey(name), key);
+            }
+        }
+    }
+
+    @Override
+    public void clean(String name, byte[] pattern) {
+        delegate.clean(name, pattern);
+        if (properties.spec(name).getMaxEntries() != null) {
+            try (RedisConnection connection = connectionFactory.getConnection()) {
+                connection.keyCommands().del(indexKey(name));
+            }
+        }
+    }
+
+    @Override
+    public void clearStatistics(String name) {
+        delegate.clearStatistics(name);
+    }
+
+    @Override
+    public RedisCacheWriter withStatisticsCollector(CacheStatisticsCollector cacheStatisticsCollector) {
+        return new BudgetedRedisCacheWriter(delegate.withStatisticsCollector(cacheStatisticsCollector),
+                connectionFactory, properties, cacheStatisticsCollector);
+    }
+
+    @Override
+    public CacheStatistics getCacheStatistics(String cacheName) {
+        return delegate.getCacheStatistics(cacheName);
+    }
+
+    /**
+     * 여러 키를 MGET 1회로 조회 (단건 get 과 같이 조회/적중/미스 통계 기록)
+     *
+     * @return 키 순서대로 값, 없는 키는 null
+     */
+    public List<byte[]> get(String name, byte[][] keys) {
+        List<byte[]> values;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            values = connection.stringCommands().mGet(keys);
+        }
+        recordGets(name, values, keys.length);
+        return values;
+    }
+
+    /**
+     * writer 를 거치지 않고 읽은 결과의 통계 기록 (TrackingRedisCache 의 클라이언트 측 캐시 조회)
+     *
+     * @param values 조회 결과 (null 이면 모두 미스)
+     * @param count  조회한 키 수
+     */
+    public void recordGets(String name, List<byte[]> values, int count) {
+        for (int i = 0; i < count; i++) {
+            statistics.incGets(name);
+            if (values != null && values.get(i) != null) {
+                statistics.incHits(name);
+            } else {
+                statistics.incMisses(name);
+            }
+        }
+    }
+
+    /**
+     * 여러 항목을 파이프라인 SET 1회로 저장하고 최대 항목 수 인덱스에 한 번에 기록
+     */
+    public void put(String name, List<Entry> entries) {
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            for (Entry entry : entries) {
+                Duration ttl = entry.ttl();
+                Expiration expiration = ttl == null || ttl.isZero() || ttl.isNegative()
+                        ? Expiration.persistent()
+                        : Expiration.from(ttl);
+                connection.stringCommands().set(entry.key(), entry.value(), expiration, SetOption.UPSERT);
+            }
+            connection.closePipeline();
+        }
+        entries.forEach(entry -> statistics.incPuts(name));
+        track(name, entries.stream().map(Entry::key).toArray(byte[][]::new));
+    }
+
+    /**
+     * 여러 키를 파이프라인 DEL 1회로 삭제 (최대 항목 수 인덱스에서도 제거)
+     */
+    public void remove(String name, byte[][] keys) {
+        boolean budgeted = properties.spec(name).getMaxEntries() != null;
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            connection.openPipeline();
+            for (byte[] key : keys) {
+                connection.keyCommands().del(key);
+            }
+            if (budgeted) {
+                connection.zSetCommands().zRem(indexKey(name), keys);
+            }
+            connection.closePipeline();
+        }
+        statistics.incDeletesBy(name, keys.length);
+    }
+
+    private void track(String name, byte[]... keys) {
+        RedisCacheProperties.Spec spec = properties.spec(name);
+        if (spec.getMaxEntries() == null || keys.length == 0) {
+            return;
+        }
+        long now = System.currentTimeMillis();
+        long maxTtl = spec.maxTtl().toMillis();
+        byte[][] keysAndArgs = new byte[keys.length + 5][];
+        keysAndArgs[0] = indexKey(name);
+        keysAndArgs[1] = bytes(now);
+        keysAndArgs[2] = bytes(spec.getMaxEntries());
+        keysAndArgs[3] = bytes(now - maxTtl);
+        keysAndArgs[4] = bytes(maxTtl);
+        System.arraycopy(keys, 0, keysAndArgs, 5, keys.length);
+        try (RedisConnection connection = connectionFactory.getConnection()) {
+            Long evicted = connection.scriptingCommands().eval(TRIM, ReturnType.INTEGER, 1, keysAndArgs);
+            if (evicted != null && evicted > 0) {
+                log.debug("Cache budget evicted : cache={}, count={}", name, evicted);
+            }
+        } catch (RuntimeException ex) {
+            // 값은 이미 저장됨 - 제한 초과분은 다음 저장 때 정리
+            log.warn("Cache budget tracking failed : cache={}", name, ex);
+        }
+    }
+
+    private byte[] indexKey(String name) {
+        return bytes(INDEX_PREFIX + name);
+    }
+
+    private byte[] bytes(Object value) {
+        return String.valueOf(value).getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * 다건 저장 항목 (직렬화된 키/값, TTL - null 이나 0 이하면 만료 없음)
+     */
+    public record Entry(byte[] key, byte[] value, Duration ttl) {
+    }
+}
@@ -0,0 +1,21 @@
+package com.cube.simple.cache;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 조기 갱신(refresh-ahead)용 캐시 값 래퍼 - CacheLoader 가 저장/해석
+ *
+ * - loadMillis: 값을 만드는 데 걸린 시간 (XFetch 의 delta)
+ * - expiresAt : 논리 만료 시각 (epoch ms, 캐시 저장소 TTL 과 같은 값)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheEntry {
+
+    private Object value;
+    private long loadMillis;
+    private long expiresAt;
+}
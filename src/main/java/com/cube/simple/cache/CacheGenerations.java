@@ -0,0 +1,218 @@
+package com.cube.simple.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 태그별 세대(generation) 카운터
+ *
+ * - 캐시 키에 관련 태그의 세대 번호를 넣어 두고, 쓰기 시 태그 세대만 1 증가시키면
+ *   이전 세대 키는 더 이상 조회되지 않고 TTL 로 자연 만료된다. (SCAN/DEL 없이 O(1) 무효화)
+ * - spring.cache.type=redis 이면 Redis(INCR "cache:gen:태그")에 저장하여 노드 간 공유하고,
+ *   노드 로컬에 짧게(TTL) 캐시하므로 요청마다 Redis 를 읽지 않는다.
+ *   다른 노드의 변경은 최대 TTL 만큼 늦게 반영되며, 같은 노드의 변경은 커밋 즉시 반영된다.
+ * - 그 외(로컬 simple 캐시)는 프로세스 메모리 카운터를 사용
+ * - Redis 장애 중(RedisCircuitBreaker)에는 마지막으로 읽은 세대를 계속 쓰고, 증가는 노드 로컬에만 반영했다가
+ *   복구 시 Redis 에 다시 증가시킨다. (장애 중 다른 노드의 변경은 복구 후에 반영됨)
+ */
+@Slf4j
+@Component
+public class CacheGenerations {
+
+    private static final String PREFIX = "cache:gen:";
+
+    private record CachedGeneration(long generation, long expiresAt) {}
+
+    @Autowired
+    private ObjectProvider<StringRedisTemplate> redisTemplate;
+
+    @Autowired
+    private RedisCircuitBreaker breaker;
+
+    @Value("${spring.cache.type:simple}")
+    private String cacheType;
+
+    @Value("${cache.generation.ttl-ms:1000}")
+    private long ttlMillis;
+
+    private final Map<String, CachedGeneration> cached = new ConcurrentHashMap<>();
+    private final Map<String, AtomicLong> local = new ConcurrentHashMap<>();
+    // 장애 중 Redis 에 반영하지 못한 증가
+    private final Set<String> pending = ConcurrentHashMap.newKeySet();
+
+    @PostConstruct
+    public void init() {
+        breaker.onRecovery(this::replay);
+    }
+
+    /**
+     * 세대를 Redis 에 공유하는지 여부 (false 면 프로세스 로컬 카운터)
+     */
+    public boolean isShared() {
+        return "redis".equalsIgnoreCase(cacheType);
+    }
+
+    /**
+     * 태그 세대를 "." 으로 이어 붙인 캐시 키 접두어 (예: "3.12")
+     *
+     * @param tags 키가 의존하는 태그 (순서 유지)
+     */
+    public String stamp(List<String> tags) {
+        long[] generations = new long[tags.size()];
+
+        if (!isShared()) {
+            for (int i = 0; i < tags.size(); i++) {
+                AtomicLong counter = local.get(tags.get(i));
+                generations[i] = counter == null ? 0L : counter.get();
+            }
+            return join(generations);
+        }
+
+        long now = System.currentTimeMillis();
+        List<Integer> misses = new ArrayList<>();
+        for (int i = 0; i < tags.size(); i++) {
+            CachedGeneration generation = cached.get(tags.get(i));
+            if (generation != null && generation.expiresAt() > now) {
+                generations[i] = generation.generation();
+            } else {
+                misses.add(i);
+            }
+        }
+        if (!misses.isEmpty()) {
+            List<String> keys = new ArrayList<>(misses.size());
+            misses.forEach(i -> keys.add(PREFIX + tags.get(i)));
+            List<String> values = read(keys);
+            if (values == null) {
+                // Redis 를 못 쓰면 만료된 값이라도 마지막 세대 사용
+                for (int i : misses) {
+                    CachedGeneration generation = cached.get(tags.get(i));
+                    generations[i] = generation == null ? 0L : generation.generation();
+                }
+                return join(generations);
+            }
+            for (int j = 0; j < misses.size(); j++) {
+                String value = values.get(j);
+                long generation = value == null ? 0L : Long.parseLong(value);
+                int i = misses.get(j);
+                generations[i] = generation;
+                cached.put(tags.get(i), new CachedGeneration(generation, now + ttlMillis));
+            }
+        }
+        return join(generations);
+    }
+
+    /**
+     * 프로세스 로컬 세대 (캐시 스냅샷 저장용, 공유 모드에서는 빈 값)
+     */
+    public Map<String, Long> localGenerations() {
+        Map<String, Long> generations = new HashMap<>();
+        local.forEach((tag, counter) -> generations.put(tag, counter.get()));
+        return generations;
+    }
+
+    /**
+     * 스냅샷의 로컬 세대 복원 - 복원한 목록 캐시 키가 다시 조회되도록 (이미 더 큰 세대는 유지)
+     */
+    public void restoreLocal(Map<String, Long> generations) {
+        generations.forEach((tag, generation) ->
+                local.computeIfAbsent(tag, t -> new AtomicLong()).accumulateAndGet(generation, Math::max));
+    }
+
+    /**
+     * 태그 세대 증가 - 트랜잭션 안이면 커밋 후에 증가
+     * (커밋 전에 증가시키면 다른 요청이 변경 전 데이터를 새 세대 키로 캐시할 수 있음)
+     */
+    public void bump(Collection<String> tags) {
+        List<String> copy = List.copyOf(tags);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    increase(copy);
+                }
+            });
+        } else {
+            increase(copy);
+        }
+    }
+
+    private void increase(List<String> tags) {
+        long now = System.currentTimeMillis();
+        for (String tag : tags) {
+            if (isShared()) {
+                Long generation = null;
+                if (breaker.isAvailable()) {
+                    try {
+                        generation = breaker.call(() -> redisTemplate.getObject().opsForValue().increment(PREFIX + tag));
+                    } catch (RuntimeException ex) {
+                        log.warn("Cache generation bump degraded : tag={}", tag, ex);
+                    }
+                }
+                if (generation == null) {
+                    // 이 노드만이라도 새 키를 쓰도록 로컬로 증가, 복구 시 Redis 에 반영
+                    CachedGeneration previous = cached.get(tag);
+                    generation = (previous == null ? 0L : previous.generation()) + 1;
+                    pending.add(tag);
+                }
+                cached.put(tag, new CachedGeneration(generation, now + ttlMillis));
+            } else {
+                local.computeIfAbsent(tag, t -> new AtomicLong()).incrementAndGet();
+            }
+        }
+    }
+
+    private List<String> read(List<String> keys) {
+        if (!breaker.isAvailable()) {
+            return null;
+        }
+        try {
+            return breaker.call(() -> redisTemplate.getObject().opsForValue().multiGet(keys));
+        } catch (RuntimeException ex) {
+            log.warn("Cache generation read degraded", ex);
+            return null;
+        }
+    }
+
+    // 복구 시 장애 중 증가를 Redis 에 반영하고 로컬 세대는 버림 (다음 조회 때 Redis 값 사용)
+    private void replay() {
+        List<String> tags = List.copyOf(pending);
+        pending.removeAll(tags);
+        for (String tag : tags) {
+            try {
+                redisTemplate.getObject().opsForValue().increment(PREFIX + tag);
+            } catch (RuntimeException ex) {
+                pending.add(tag);
+                throw ex;
+            }
+        }
+        cached.clear();
+    }
+
+    private String join(long[] generations) {
+        StringBuilder stamp = new StringBuilder();
+        for (int i = 0; i < generations.length; i++) {
+            if (i > 0) {
+                stamp.append('.');
+            }
+            stamp.append(generations[i]);
+        }
+        return stamp.toString();
+    }
+}
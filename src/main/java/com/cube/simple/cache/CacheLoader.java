@@ -0,0 +1,248 @@
+package com.cube.simple.cache;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 미스 동시 적재 방지(single-flight) + 만료 전 조기 갱신(XFetch)
+ *
+ * - 노드 안: 같은 키를 적재 중이면 다른 스레드는 새로 쿼리하지 않고 그 결과를 기다린다.
+ * - 노드 간: spring.cache.type=redis 이면 짧은 Redis 락(SET NX PX)을 잡은 노드만 적재하고,
+ *   락을 못 잡은 노드는 캐시에 값이 채워지기를 잠시 기다린 뒤 그래도 없으면 직접 적재한다.
+ * - 조기 갱신: 적중 시 now - delta * beta * ln(rand) >= expiresAt 이면 백그라운드에서 다시 적재한다.
+ *   (delta = 적재 소요 시간, 자주 조회되는 키일수록 만료 전에 갱신될 확률이 높아 사용자 요청이 적재를 기다리지 않음)
+ *   백그라운드 갱신은 기다릴 수 있는 결과를 공개하지 않으므로, 갱신을 건너뛰거나(락 실패, 큐 가득 참) 실패해도
+ *   미스 요청은 직접 적재 경로(loadShared)로 간다.
+ * - 다른 스레드의 적재 결과는 최대 lock-ttl 만큼만 기다리고, 넘으면 직접 적재한다.
+ * - 값은 CacheEntry 로 감싸서 저장하므로 이 클래스로 저장한 캐시는 이 클래스로만 조회해야 한다.
+ */
+@Slf4j
+@Component
+public class CacheLoader {
+
+    private static final String LOCK_PREFIX = "cache:";
+    private static final long PEER_POLL_MILLIS = 50L;
+
+    @Autowired
+    private RedisLocks redisLocks;
+
+    // 저장소 TTL 을 알 수 없는 캐시(로컬 simple 등)의 논리 만료 시간
+    @Value("${cache.refresh.default-ttl:60s}")
+    private Duration defaultTtl;
+
+    // 1 보다 크면 더 일찍, 작으면 더 늦게 갱신
+    @Value("${cache.refresh.beta:1.0}")
+    private double beta;
+
+    // 노드 간 적재 락 유지 시간 (적재 시간보다 길게)
+    @Value("${cache.refresh.lock-ttl:10s}")
+    private Duration lockTtl;
+
+    @Value("${cache.refresh.threads:2}")
+    private int threads;
+
+    @Value("${cache.refresh.queue-capacity:100}")
+    private int queueCapacity;
+
+    // 요청 경로의 적재 (다른 미스 요청이 기다릴 수 있음)
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    // 백그라운드 갱신 중인 키 (중복 예약 방지용, 미스 요청은 기다리지 않음)
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+    private ThreadPoolTaskExecutor executor;
+
+    @PostConstruct
+    public void init() {
+        executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("cache-refresh-");
+        // 큐가 차면 예외(TaskRejectedException)로 알려 refreshing 표시를 지움 (갱신은 생략, 만료 시 요청 경로에서 적재)
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+    }
+
+    @PreDestroy
+    public void destroy() {
+        executor.shutdown();
+    }
+
+    /**
+     * 캐시 조회, 미스면 키당 한 번만 적재하여 저장
+     *
+     * @param cache  대상 캐시
+     * @param key    캐시 키
+     * @param loader 값 적재 (DB 조회 등)
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T get(Cache cache, Object key, Callable<T> loader) {
+        Cache.ValueWrapper wrapper = cache.get(key);
+        if (wrapper != null && wrapper.get() instanceof CacheEntry entry) {
+            if (shouldRefresh(entry)) {
+                refreshAsync(cache, key, loader);
+            }
+            return (T) entry.getValue();
+        }
+        return (T) load(cache, key, loader);
+    }
+
+    private boolean shouldRefresh(CacheEntry entry) {
+        double random = ThreadLocalRandom.current().nextDouble();
+        long now = System.currentTimeMillis();
+        return now - entry.getLoadMillis() * beta * Math.log(random) >= entry.getExpiresAt();
+    }
+
+    private Object load(Cache cache, Object key, Callable<?> loader) {
+        String flightKey = cache.getName() + ":" + key;
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> running = inFlight.putIfAbsent(flightKey, mine);
+        if (running != null) {
+            return join(running, cache, key, loader, flightKey);
+        }
+        try {
+            Object value = loadShared(cache, key, loader, flightKey);
+            mine.complete(value);
+            return value;
+        } catch (RuntimeException ex) {
+            mine.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlight.remove(flightKey, mine);
+        }
+    }
+
+    private void refreshAsync(Cache cache, Object key, Callable<?> loader) {
+        String flightKey = cache.getName() + ":" + key;
+        if (inFlight.containsKey(flightKey) || !refreshing.add(flightKey)) {
+            return;
+        }
+        try {
+            executor.execute(() -> {
+                try {
+                    String token = lock(flightKey);
+                    if (token == null) {
+                        // 다른 노드가 갱신 중
+                        return;
+                    }
+                    try {
+                        store(cache, key, loader);
+                    } finally {
+                        unlock(flightKey, token);
+                    }
+                } catch (RuntimeException ex) {
+                    log.warn("Cache refresh failed : cache={}, key={}", cache.getName(), key, ex);
+                } finally {
+                    refreshing.remove(flightKey);
+                }
+            });
+        } catch (RuntimeException ex) {
+            refreshing.remove(flightKey);
+            log.debug("Cache refresh skipped : cache={}, key={}", cache.getName(), key);
+        }
+    }
+
+    // 노드 간 락을 잡으면 적재, 못 잡으면 다른 노드의 적재 결과를 기다림
+    private Object loadShared(Cache cache, Object key, Callable<?> loader, String flightKey) {
+        String token = lock(flightKey);
+        if (token == null) {
+            long deadline = System.currentTimeMillis() + lockTtl.toMillis();
+            while (System.currentTimeMillis() < deadline) {
+                Cache.ValueWrapper wrapper = cache.get(key);
+                if (wrapper != null && wrapper.get() instanceof CacheEntry entry) {
+                    return entry.getValue();
+                }
+                try {
+                    Thread.sleep(PEER_POLL_MILLIS);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+            log.debug("Cache peer load timed out, loading locally : cache={}, key={}", cache.getName(), key);
+            return store(cache, key, loader);
+        }
+        try {
+            return store(cache, key, loader);
+        } finally {
+            unlock(flightKey, token);
+        }
+    }
+
+    private Object store(Cache cache, Object key, Callable<?> loader) {
+        long started = System.currentTimeMillis();
+        Object value;
+        try {
+            value = loader.call();
+        } catch (RuntimeException ex) {
+            throw ex;
+        } catch (Exception ex) {
+            throw new Cache.ValueRetrievalException(key, loader, ex);
+        }
+        long now = System.currentTimeMillis();
+        cache.put(key, new CacheEntry(value, now - started, now + ttl(cache, key, value).toMillis()));
+        return value;
+    }
+
+    // 저장소 TTL 과 논리 만료를 맞춤 (TwoLevelCache 는 L2 기준)
+    // jitter 는 키별로 고정(RedisCacheProperties.Spec.ttl(key))이라 cache.put 에서 Redis 에 적용되는 TTL 과 같은 값
+    private Duration ttl(Cache cache, Object key, Object value) {
+        Cache target = cache instanceof ResilientCache resilientCache ? resilientCache.getDelegate() : cache;
+        target = target instanceof TwoLevelCache twoLevelCache ? twoLevelCache.getLevel2() : target;
+        if (target instanceof RedisCache redisCache) {
+            Duration ttl = redisCache.getCacheConfiguration().getTtlFunction().getTimeToLive(key, value);
+            if (ttl != null && !ttl.isZero() && !ttl.isNegative()) {
+                return ttl;
+            }
+        }
+        return defaultTtl;
+    }
+
+    /**
+     * @return 락 토큰 (Redis 를 쓰지 않으면 노드 안 single-flight 만으로 충분하므로 항상 획득), 획득 실패 시 null
+     */
+    private String lock(String flightKey) {
+        return redisLocks.tryLock(LOCK_PREFIX + flightKey, lockTtl);
+    }
+
+    private void unlock(String flightKey, String token) {
+        redisLocks.unlock(LOCK_PREFIX + flightKey, token);
+    }
+
+    // 같은 노드의 적재를 기다림, lock-ttl 을 넘기면 직접 적재 (적재 스레드가 멈춰도 요청 스레드가 묶이지 않도록)
+    private Object join(CompletableFuture<Object> running, Cache cache, Object key, Callable<?> loader, String flightKey) {
+        try {
+            return running.get(lockTtl.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException ex) {
+            log.warn("Cache load wait timed out, loading directly : cache={}, key={}", cache.getName(), key);
+            return loadShared(cache, key, loader, flightKey);
+        } catch (ExecutionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new Cache.ValueRetrievalException(key, loader, ex.getCause());
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new Cache.ValueRetrievalException(key, loader, ex);
+        }
+    }
+}
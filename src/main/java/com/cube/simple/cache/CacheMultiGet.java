@@ -0,0 +1,235 @@
+package com.cube.simple.cache;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.NullValue;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 여러 키를 한 번에 조회/저장/삭제하는 캐시 유틸 (Spring Cache 는 단건 get/put/evict 만 제공)
+ *
+ * - RedisCache: MGET 1회로 조회, 미스 back-fill 은 파이프라인 SET(EX) 1회로 저장, 삭제는 파이프라인 DEL 1회
+ *   키/값 직렬화와 TTL 은 RedisCache 설정(RedisCacheConfiguration)을 그대로 사용하므로
+ *   @Cacheable 로 저장한 항목과 서로 호환된다.
+ *   명령은 BudgetedRedisCacheWriter 로 보내므로 캐시 통계와 최대 항목 수가 단건과 같이 적용된다.
+ *   (다른 writer 를 쓰는 캐시는 키마다 get/put/evict)
+ * - TwoLevelCache: L1 에 있는 키는 바로 반환하고 나머지만 L2(Redis) MGET, 결과는 L1 에도 채움
+ * - TrackingRedisCache: MGET 을 클라이언트 측 캐시 Jedis 로 보냄 (저장은 RedisCache 와 동일)
+ * - ResilientCache: Redis 를 쓸 수 있으면 원래 캐시로 위 방식 처리, 실패하거나 회로가 열려 있으면 로컬 대체 캐시 사용
+ * - 그 외 캐시(로컬 simple 등): 키마다 get/put (메모리 접근이라 왕복 비용 없음)
+ */
+@Slf4j
+@Component
+public class CacheMultiGet {
+
+    /**
+     * 캐시에 있는 키만 반환합니다. null 이 캐시된 키(존재하지 않는 행)는 값이 null 인 항목으로 포함됩니다.
+     *
+     * @param cache 대상 캐시
+     * @param keys  조회할 키 (중복 없음)
+     * @return 키 → 값 (캐시 미스 키는 포함되지 않음)
+     */
+    @SuppressWarnings("unchecked")
+    public <K, V> Map<K, V> get(Cache cache, List<K> keys) {
+        Map<K, V> found = new HashMap<>();
+        if (keys.isEmpty()) {
+            return found;
+        }
+
+        if (cache instanceof ResilientCache resilientCache) {
+            if (resilientCache.isAvailable()) {
+                try {
+                    return resilientCache.call(() -> get(resilientCache.getDelegate(), keys));
+                } catch (RuntimeException ex) {
+                    log.debug("Cache multi-get degraded : cache={}", cache.getName(), ex);
+                }
+            }
+            for (K key : keys) {
+                Cache.ValueWrapper wrapper = resilientCache.getLocal(key);
+                if (wrapper != null) {
+                    found.put(key, (V) wrapper.get());
+                }
+            }
+            return found;
+        }
+
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            List<K> misses = new ArrayList<>();
+            for (K key : keys) {
+                Cache.ValueWrapper wrapper = twoLevelCache.getLocal(key);
+                if (wrapper != null) {
+                    found.put(key, (V) wrapper.get());
+                } else {
+                    misses.add(key);
+                }
+            }
+            if (!misses.isEmpty()) {
+                long stamp = twoLevelCache.stamp();
+                Map<K, V> remote = get(twoLevelCache.getLevel2(), misses);
+                remote.forEach((key, value) -> twoLevelCache.putLocal(key, value, stamp));
+                twoLevelCache.recordLevel2(remote.size(), misses.size() - remote.size());
+                found.putAll(remote);
+            }
+            return found;
+        }
+
+        if (cache instanceof RedisCache redisCache && writer(redisCache) != null) {
+            RedisCacheConfiguration config = redisCache.getCacheConfiguration();
+            byte[][] rawKeys = rawKeys(redisCache, keys);
+
+            List<byte[]> rawValues;
+            if (redisCache instanceof TrackingRedisCache trackingCache) {
+                rawValues = trackingCache.multiGet(rawKeys);
+            } else {
+                rawValues = writer(redisCache).get(redisCache.getName(), rawKeys);
+            }
+            for (int i = 0; rawValues != null && i < keys.size(); i++) {
+                byte[] raw = rawValues.get(i);
+                if (raw == null) {
+                    continue;
+                }
+                Object value = config.getValueSerializationPair().read(ByteBuffer.wrap(raw));
+                found.put(keys.get(i), value instanceof NullValue ? null : (V) value);
+            }
+            return found;
+        }
+
+        for (K key : keys) {
+            Cache.ValueWrapper wrapper = cache.get(key);
+            if (wrapper != null) {
+                found.put(key, (V) wrapper.get());
+            }
+        }
+        return found;
+    }
+
+    /**
+     * 여러 항목을 한 번에 저장합니다. (Redis 는 파이프라인 1회 왕복)
+     *
+     * @param cache  대상 캐시
+     * @param values 키 → 값
+     */
+    public <K, V> void put(Cache cache, Map<K, V> values) {
+        if (values.isEmpty()) {
+            return;
+        }
+
+        if (cache instanceof ResilientCache resilientCache) {
+            if (resilientCache.isAvailable()) {
+                try {
+                    resilientCache.call(() -> {
+                        put(resilientCache.getDelegate(), values);
+                        return null;
+                    });
+                    return;
+                } catch (RuntimeException ex) {
+                    log.debug("Cache multi-put degraded : cache={}", cache.getName(), ex);
+                }
+            }
+            values.forEach(resilientCache::putLocal);
+            return;
+        }
+
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            long stamp = twoLevelCache.stamp();
+            put(twoLevelCache.getLevel2(), values);
+            values.forEach((key, value) -> twoLevelCache.putLocal(key, value, stamp));
+            return;
+        }
+
+        if (cache instanceof RedisCache redisCache && writer(redisCache) != null) {
+            RedisCacheConfiguration config = redisCache.getCacheConfiguration();
+            List<BudgetedRedisCacheWriter.Entry> entries = new ArrayList<>(values.size());
+            values.forEach((key, value) -> entries.add(new BudgetedRedisCacheWriter.Entry(rawKey(redisCache, key),
+                    toBytes(config.getValueSerializationPair().write(value)),
+                    config.getTtlFunction().getTimeToLive(key, value))));
+            writer(redisCache).put(redisCache.getName(), entries);
+            log.debug("Cache back-fill : cache={}, size={}", cache.getName(), values.size());
+            return;
+        }
+
+        values.forEach(cache::put);
+    }
+
+    /**
+     * 여러 키를 한 번에 삭제합니다. (Redis 는 파이프라인 1회 왕복, TwoLevelCache 는 키마다 L1 무효화 방송)
+     *
+     * @param cache 대상 캐시
+     * @param keys  삭제할 키
+     */
+    public <K> void evict(Cache cache, Collection<K> keys) {
+        if (keys.isEmpty()) {
+            return;
+        }
+
+        if (cache instanceof ResilientCache resilientCache) {
+            keys.forEach(resilientCache::evictLocal);
+            if (resilientCache.isAvailable()) {
+                try {
+                    resilientCache.call(() -> {
+                        evict(resilientCache.getDelegate(), keys);
+                        return null;
+                    });
+                    return;
+                } catch (RuntimeException ex) {
+                    log.debug("Cache multi-evict degraded : cache={}", cache.getName(), ex);
+                }
+            }
+            keys.forEach(resilientCache::markDirty);
+            return;
+        }
+
+        if (cache instanceof TwoLevelCache twoLevelCache) {
+            evict(twoLevelCache.getLevel2(), keys);
+            keys.forEach(twoLevelCache::invalidateLocal);
+            return;
+        }
+
+        if (cache instanceof RedisCache redisCache && writer(redisCache) != null) {
+            writer(redisCache).remove(redisCache.getName(), rawKeys(redisCache, keys));
+            log.debug("Cache multi-evict : cache={}, size={}", cache.getName(), keys.size());
+            return;
+        }
+
+        keys.forEach(cache::evict);
+    }
+
+    private BudgetedRedisCacheWriter writer(RedisCache cache) {
+        RedisCacheWriter writer = cache.getCacheWriter();
+        return writer instanceof BudgetedRedisCacheWriter budgeted ? budgeted : null;
+    }
+
+    private byte[][] rawKeys(RedisCache cache, Collection<?> keys) {
+        byte[][] rawKeys = new byte[keys.size()][];
+        int i = 0;
+        for (Object key : keys) {
+            rawKeys[i++] = rawKey(cache, key);
+        }
+        return rawKeys;
+    }
+
+    // RedisCache 의 키 생성 규칙과 동일: (prefix) + 변환된 키 문자열
+    private byte[] rawKey(RedisCache cache, Object key) {
+        RedisCacheConfiguration config = cache.getCacheConfiguration();
+        String converted = config.getConversionService().convert(key, String.class);
+        String full = config.usePrefix() ? config.getKeyPrefixFor(cache.getName()) + converted : converted;
+        return toBytes(config.getKeySerializationPair().write(full));
+    }
+
+    private byte[] toBytes(ByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.remaining()];
+        buffer.get(bytes);
+        return bytes;
+    }
+}
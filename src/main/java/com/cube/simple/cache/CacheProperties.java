@@ -0,0 +1,75 @@
+package com.cube.simple.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 2단 캐시(L1 프로세스 메모리 + L2 Redis) 설정 - cache.near.*
+ *
+ * - mode=pubsub  : Caffeine L1 + 앱 pub/sub 무효화 (TwoLevelCacheManager, 캐시별 크기/TTL)
+ * - mode=tracking: Redis 클라이언트 측 캐시 (RESP3 CLIENT TRACKING, 서버가 무효화) - TrackingRedisCacheManager
+ *
+ * 예)
+ *   cache.near.enabled=true
+ *   cache.near.mode=pubsub
+ *   cache.near.channel=cache:invalidate
+ *   cache.near.defaults.max-weight=10000
+ *   cache.near.defaults.ttl=30s
+ *   cache.near.caches.item.max-weight=50000
+ *   cache.near.caches.items.ttl=10s
+ */
+@Data
+@ConfigurationProperties(prefix = "cache.near")
+public class CacheProperties {
+
+    // false 면 L1 없이 RedisCacheManager 만 사용
+    private boolean enabled = true;
+
+    private Mode mode = Mode.PUBSUB;
+
+    // mode=tracking 일 때 클라이언트 측 캐시 최대 항목 수 (모든 캐시 합계)
+    private int trackingMaxSize = 10000;
+
+    // 노드 간 L1 무효화 메시지를 주고받는 Redis pub/sub 채널
+    private String channel = "cache:invalidate";
+
+    // 캐시별 설정이 없을 때 사용하는 기본값
+    private Spec defaults = new Spec(10000L, Duration.ofSeconds(30));
+
+    // 캐시 이름 → 개별 설정 (지정하지 않은 항목은 defaults 값 사용)
+    private Map<String, Spec> caches = new HashMap<>();
+
+    /**
+     * 캐시 이름에 해당하는 설정 (개별 설정의 빈 항목은 defaults 로 채움)
+     */
+    public Spec spec(String name) {
+        Spec spec = caches.get(name);
+        return new Spec(
+                spec != null && spec.getMaxWeight() != null ? spec.getMaxWeight() : defaults.getMaxWeight(),
+                spec != null && spec.getTtl() != null ? spec.getTtl() : defaults.getTtl());
+    }
+
+    public enum Mode {
+        PUBSUB,
+        TRACKING
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+
+        // L1 최대 가중치 (단건 = 1, 목록 = 원소 수)
+        private Long maxWeight;
+
+        // L1 보관 시간 (L2 TTL 보다 짧게 두어 무효화 메시지 유실 시에도 오래된 값이 오래 남지 않도록 함)
+        private Duration ttl;
+    }
+}
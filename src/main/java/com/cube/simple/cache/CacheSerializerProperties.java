@@ -0,0 +1,37 @@
+package com.cube.simple.cache;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Data;
+
+/**
+ * Redis 캐시 값 직렬화 설정 - cache.serializer.*
+ *
+ * 예)
+ *   cache.serializer.format=json
+ *   cache.serializer.caches.items=smile
+ *   cache.serializer.compress-threshold=1024
+ */
+@Data
+@ConfigurationProperties(prefix = "cache.serializer")
+public class CacheSerializerProperties {
+
+    // 기본 쓰기 형식
+    private CompactRedisSerializer.Format format = CompactRedisSerializer.Format.JSON;
+
+    // 캐시 이름 → 쓰기 형식 (지정하지 않은 캐시는 format 사용)
+    private Map<String, CompactRedisSerializer.Format> caches = new HashMap<>();
+
+    // 이 크기(바이트) 이상인 값은 LZ4 압축, 음수면 압축하지 않음
+    private int compressThreshold = -1;
+
+    /**
+     * 압축/형식 헤더 없이 기존 JSON 직렬화를 그대로 쓰는지 여부
+     */
+    public boolean isPlainJson(CompactRedisSerializer.Format format) {
+        return format == CompactRedisSerializer.Format.JSON && compressThreshold < 0;
+    }
+}
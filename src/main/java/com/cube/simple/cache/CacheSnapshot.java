@@ -0,0 +1,283 @@
+package com.cube.simple.cache;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.cube.simple.mapper.read.ReadItemMapper;
+import com.cube.simple.model.Item;
+import com.cube.simple.service.EntityVersionService;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 내 캐시 스냅샷 - 종료 시 저장, 기동 시 복원 (재시작 후 캐시를 처음부터 다시 채우지 않도록)
+ *
+ * - 대상: spring.cache.type=redis 가 아닐 때의 "item", "items", "itemCount" (simple 또는 off-heap 캐시)
+ *   (redis 모드의 L1 은 TTL 이 짧고 L2 에서 다시 채워지므로 대상 아님)
+ * - 저장: 정상 종료(@PreDestroy, 웹 서버가 요청 처리를 끝낸 뒤) 시 memory-mapped 파일에 기록 후 원자적 이름 변경
+ *   형식: [MAGIC][FORMAT][저장 시각][Item 테이블 버전][로컬 태그 세대][건수][레코드...]
+ *   레코드: [캐시 번호 1바이트][키 길이][키][값 길이][값][만료 시각(epoch ms, 0 = 없음)] - 키/값은 SMILE + LZ4
+ * - 복원: readiness 전(ApplicationRunner, 예열보다 먼저)에 읽고 파일은 삭제 (비정상 종료 후 오래된 스냅샷 재사용 방지)
+ *   · max-age 보다 오래된 스냅샷, 만료 시각이 지난 값은 버림
+ *   · "item": id 별 update_date 를 묶어서 조회해 다르거나 삭제된 행은 버림
+ *   · "items"/"itemCount": 중단 중 Item 테이블 버전(EntityVersion)이 바뀌었으면 모두 버림,
+ *     같으면 로컬 태그 세대도 복원해 저장된 키가 그대로 조회되게 함
+ */
+@Slf4j
+@Order(10)
+@Component
+public class CacheSnapshot implements ApplicationRunner {
+
+    private static final int MAGIC = 0x43534E50;
+    private static final int FORMAT = 1;
+    private static final List<String> CACHES = List.of("item", ItemCacheKeys.ITEMS, ItemCacheKeys.ITEM_COUNT);
+    private static final int ITEM = 0;
+    private static final int ID_CHUNK = 1000;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private CacheGenerations generations;
+
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    @Autowired
+    private ReadItemMapper readItemMapper;
+
+    @Value("${spring.cache.type:simple}")
+    private String cacheType;
+
+    @Value("${cache.snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${cache.snapshot.path:${java.io.tmpdir}/simple-cache.snapshot}")
+    private Path path;
+
+    @Value("${cache.snapshot.max-age:1h}")
+    private Duration maxAge;
+
+    @Value("${cache.snapshot.max-size:512MB}")
+    private DataSize maxSize;
+
+    private final RedisSerializer<Object> serializer = new CompactRedisSerializer(
+            new GenericJackson2JsonRedisSerializer(), CompactRedisSerializer.Format.SMILE, 1024);
+
+    private record Entry(int cache, Object key, Object value, long expiresAt) {}
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!isEnabled() || !Files.exists(path)) {
+            return;
+        }
+        try {
+            restore();
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Cache snapshot restore failed : {}", path, ex);
+        } finally {
+            try {
+                Files.deleteIfExists(path);
+            } catch (IOException ex) {
+                log.warn("Cache snapshot delete failed : {}", path, ex);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (!isEnabled()) {
+            return;
+        }
+        try {
+            save();
+        } catch (IOException | RuntimeException ex) {
+            log.warn("Cache snapshot save failed : {}", path, ex);
+        }
+    }
+
+    private void save() throws IOException {
+        long started = System.currentTimeMillis();
+        byte[] localGenerations = serializer.serialize(generations.localGenerations());
+        long itemVersion = entityVersionService.version(EntityVersionService.ITEM);
+
+        List<byte[]> records = new ArrayList<>();
+        long size = 4 + 4 + 8 + 8 + 4 + localGenerations.length + 4;
+        for (int i = 0; i < CACHES.size(); i++) {
+            Cache cache = cacheManager.getCache(CACHES.get(i));
+            for (Object key : keys(cache)) {
+                Cache.ValueWrapper wrapper = cache.get(key);
+                Object value = wrapper != null ? wrapper.get() : null;
+                if (value == null) {
+                    continue;
+                }
+                byte[] record = record(i, key, value);
+                if (size + record.length > maxSize.toBytes()) {
+                    log.warn("Cache snapshot truncated at {} entries (max size {})", records.size(), maxSize);
+                    break;
+                }
+                records.add(record);
+                size += record.length;
+            }
+        }
+
+        Files.createDirectories(path.toAbsolutePath().getParent());
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+                StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, size);
+            buffer.putInt(MAGIC).putInt(FORMAT).putLong(started).putLong(itemVersion);
+            buffer.putInt(localGenerations.length).put(localGenerations);
+            buffer.putInt(records.size());
+            records.forEach(buffer::put);
+            buffer.force();
+        }
+        Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        log.info("Cache snapshot saved : {} entries, {} bytes, {}ms", records.size(), size,
+                System.currentTimeMillis() - started);
+    }
+
+    private byte[] record(int cache, Object key, Object value) {
+        byte[] keyBytes = serializer.serialize(key);
+        byte[] valueBytes = serializer.serialize(value);
+        long expiresAt = value instanceof CacheEntry entry ? entry.getExpiresAt() : 0L;
+        return ByteBuffer.allocate(1 + 4 + keyBytes.length + 4 + valueBytes.length + 8)
+                .put((byte) cache)
+                .putInt(keyBytes.length).put(keyBytes)
+                .putInt(valueBytes.length).put(valueBytes)
+                .putLong(expiresAt)
+                .array();
+    }
+
+    @SuppressWarnings("unchecked")
+    private void restore() throws IOException {
+        long started = System.currentTimeMillis();
+        List<Entry> entries = new ArrayList<>();
+        long savedAt;
+        long itemVersion;
+        Map<String, Long> localGenerations;
+        int skipped = 0;
+
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            if (buffer.getInt() != MAGIC || buffer.getInt() != FORMAT) {
+                log.warn("Cache snapshot ignored, unknown format : {}", path);
+                return;
+            }
+            savedAt = buffer.getLong();
+            itemVersion = buffer.getLong();
+            if (started - savedAt > maxAge.toMillis()) {
+                log.info("Cache snapshot ignored, saved {}s ago", (started - savedAt) / 1000);
+                return;
+            }
+            localGenerations = (Map<String, Long>) serializer.deserialize(bytes(buffer));
+            int count = buffer.getInt();
+            for (int i = 0; i < count; i++) {
+                int cache = buffer.get();
+                byte[] key = bytes(buffer);
+                byte[] value = bytes(buffer);
+                long expiresAt = buffer.getLong();
+                if (cache < 0 || cache >= CACHES.size() || (expiresAt > 0 && expiresAt <= started)) {
+                    skipped++;
+                    continue;
+                }
+                try {
+                    entries.add(new Entry(cache, serializer.deserialize(key), serializer.deserialize(value), expiresAt));
+                } catch (RuntimeException ex) {
+                    // 클래스 구조가 바뀐 배포 등으로 읽을 수 없는 값은 건너뜀
+                    skipped++;
+                }
+            }
+        }
+
+        boolean listsValid = itemVersion == entityVersionService.version(EntityVersionService.ITEM);
+        if (listsValid && localGenerations != null) {
+            generations.restoreLocal(localGenerations);
+        }
+        Map<Long, Item> current = currentItems(entries);
+
+        int restored = 0;
+        for (Entry entry : entries) {
+            boolean valid = entry.cache() == ITEM ? unchanged(entry, current) : listsValid;
+            if (!valid) {
+                skipped++;
+                continue;
+            }
+            cacheManager.getCache(CACHES.get(entry.cache())).put(entry.key(), entry.value());
+            restored++;
+        }
+        log.info("Cache snapshot restored : {} entries, {} dropped (lists {}), {}ms", restored, skipped,
+                listsValid ? "kept" : "stale", System.currentTimeMillis() - started);
+    }
+
+    // 스냅샷의 "item" 값과 비교할 현재 행의 update_date (id 묶음 조회)
+    private Map<Long, Item> currentItems(List<Entry> entries) {
+        List<Long> ids = new ArrayList<>();
+        for (Entry entry : entries) {
+            if (entry.cache() == ITEM && entry.value() instanceof Item item) {
+                ids.add(item.getId());
+            }
+        }
+        Map<Long, Item> current = new HashMap<>();
+        for (int from = 0; from < ids.size(); from += ID_CHUNK) {
+            readItemMapper.selectUpdateDates(ids.subList(from, Math.min(from + ID_CHUNK, ids.size())))
+                    .forEach(item -> current.put(item.getId(), item));
+        }
+        return current;
+    }
+
+    private boolean unchanged(Entry entry, Map<Long, Item> current) {
+        if (!(entry.value() instanceof Item item)) {
+            return false;
+        }
+        Item row = current.get(item.getId());
+        return row != null && Objects.equals(row.getUpdateDate(), item.getUpdateDate());
+    }
+
+    private Collection<?> keys(Cache cache) {
+        if (cache instanceof ConcurrentMapCache concurrentMapCache) {
+            return List.copyOf(concurrentMapCache.getNativeCache().keySet());
+        }
+        if (cache instanceof OffHeapCache offHeapCache) {
+            return offHeapCache.keys();
+        }
+        return List.of();
+    }
+
+    private static byte[] bytes(MappedByteBuffer buffer) {
+        byte[] bytes = new byte[buffer.getInt()];
+        buffer.get(bytes);
+        return bytes;
+    }
+
+    private boolean isEnabled() {
+        return enabled && !"redis".equalsIgnoreCase(cacheType);
+    }
+}
@@ -0,0 +1,121 @@
+package com.cube.simple.cache;
+
+import java.nio.ByteBuffer;
+
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.data.redis.serializer.SerializationException;
+
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import net.jpountz.lz4.LZ4Compressor;
+import net.jpountz.lz4.LZ4Factory;
+import net.jpountz.lz4.LZ4FastDecompressor;
+
+/**
+ * Redis 캐시 값 직렬화 - JSON 또는 Smile(바이너리 JSON) + 크기 기준 LZ4 압축
+ *
+ * - 저장 형식: [MAGIC 1바이트][FLAGS 1바이트][(LZ4 이면) 원본 길이 4바이트][본문]
+ *   FLAGS: bit0 = LZ4 압축, bit1 = Smile (없으면 JSON)
+ * - 읽을 때는 저장된 FLAGS 로 형식을 판단하므로 캐시별 형식/압축 설정을 바꿔도 기존 값을 읽을 수 있다.
+ *   MAGIC 이 없는 값은 기존 GenericJackson2JsonRedisSerializer 형식(JSON)으로 읽는다.
+ * - Smile 은 @class 타입 정보와 필드 이름을 백 참조로 한 번만 기록하므로 Item 목록처럼
+ *   같은 구조가 반복되는 값에서 JSON 보다 작고 빠르다.
+ */
+public class CompactRedisSerializer implements RedisSerializer<Object> {
+
+    public enum Format { JSON, SMILE }
+
+    private static final byte MAGIC = (byte) 0xC5;
+    private static final int FLAG_LZ4 = 1;
+    private static final int FLAG_SMILE = 1 << 1;
+    private static final int HEADER = 2;
+
+    private static final LZ4Compressor COMPRESSOR = LZ4Factory.fastestInstance().fastCompressor();
+    private static final LZ4FastDecompressor DECOMPRESSOR = LZ4Factory.fastestInstance().fastDecompressor();
+
+    private final RedisSerializer<Object> json;
+    private final RedisSerializer<Object> smile;
+    private final Format format;
+    private final int compressThreshold;
+
+    /**
+     * @param json              기존 JSON 직렬화 (MAGIC 없는 값 읽기에도 사용)
+     * @param format            쓰기 형식
+     * @param compressThreshold 이 크기(바이트) 이상이면 LZ4 압축, 음수면 압축하지 않음
+     */
+    public CompactRedisSerializer(RedisSerializer<Object> json, Format format, int compressThreshold) {
+        this.json = json;
+        this.smile = new GenericJackson2JsonRedisSerializer(smileMapper());
+        this.format = format;
+        this.compressThreshold = compressThreshold;
+    }
+
+    // GenericJackson2JsonRedisSerializer 기본 설정과 같은 타입 정보(@class) 규칙을 Smile 에 적용
+    @SuppressWarnings("deprecation")
+    private static ObjectMapper smileMapper() {
+        ObjectMapper mapper = new ObjectMapper(new SmileFactory());
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.disable(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES);
+        mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        GenericJackson2JsonRedisSerializer.registerNullValueSerializer(mapper, null);
+        return mapper;
+    }
+
+    @Override
+    public byte[] serialize(Object value) throws SerializationException {
+        int flags = format == Format.SMILE ? FLAG_SMILE : 0;
+        byte[] body = (format == Format.SMILE ? smile : json).serialize(value);
+        if (body == null) {
+            return null;
+        }
+
+        if (compressThreshold >= 0 && body.length >= compressThreshold) {
+            byte[] compressed = new byte[COMPRESSOR.maxCompressedLength(body.length)];
+            int length = COMPRESSOR.compress(body, 0, body.length, compressed, 0, compressed.length);
+            // 압축 이득이 없으면 원본 저장
+            if (length + Integer.BYTES < body.length) {
+                ByteBuffer out = ByteBuffer.allocate(HEADER + Integer.BYTES + length);
+                out.put(MAGIC).put((byte) (flags | FLAG_LZ4)).putInt(body.length).put(compressed, 0, length);
+                return out.array();
+            }
+        }
+
+        ByteBuffer out = ByteBuffer.allocate(HEADER + body.length);
+        out.put(MAGIC).put((byte) flags).put(body);
+        return out.array();
+    }
+
+    @Override
+    public Object deserialize(byte[] bytes) throws SerializationException {
+        if (bytes == null || bytes.length == 0) {
+            return null;
+        }
+        if (bytes.length < HEADER || bytes[0] != MAGIC) {
+            return json.deserialize(bytes);
+        }
+
+        int flags = bytes[1];
+        byte[] body;
+        if ((flags & FLAG_LZ4) != 0) {
+            int length = ByteBuffer.wrap(bytes, HEADER, Integer.BYTES).getInt();
+            body = new byte[length];
+            try {
+                DECOMPRESSOR.decompress(bytes, HEADER + Integer.BYTES, body, 0, length);
+            } catch (RuntimeException ex) {
+                throw new SerializationException("Could not decompress cache value", ex);
+            }
+        } else {
+            body = new byte[bytes.length - HEADER];
+            System.arraycopy(bytes, HEADER, body, 0, body.length);
+        }
+        return ((flags & FLAG_SMILE) != 0 ? smile : json).deserialize(body);
+    }
+}
@@ -0,0 +1,47 @@
+package com.cube.simple.cache;
+
+import java.util.Objects;
+
+/**
+ * 캐시 구조(Bloom filter, Count-Min Sketch, TTL jitter)가 함께 쓰는 해시 함수
+ *
+ * - mix: SplitMix64 finalizer (연속된 id 도 64비트 전체에 고르게 퍼짐)
+ * - k 개의 해시는 double hashing (Kirsch-Mitzenmacher): i 번째 = h1 + i * h2
+ *   (h1 = mix(key), h2 = step(h1), 범위로 줄이는 방법(mask/floorMod)은 호출 측에서 선택)
+ */
+final class Hashing {
+
+    // 2^64 / 황금비 (SplitMix64 증분)
+    static final long GOLDEN = 0x9E3779B97F4A7C15L;
+
+    private Hashing() {
+    }
+
+    static long mix(long z) {
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+
+    /**
+     * double hashing 의 두 번째 해시 (홀수이므로 2의 거듭제곱 범위에서도 모든 칸을 지남)
+     */
+    static long step(long h1) {
+        return mix(h1 ^ GOLDEN) | 1L;
+    }
+
+    /**
+     * i 번째 해시 (h1 + i * h2)
+     */
+    static long probe(long h1, long h2, int i) {
+        return h1 + i * h2;
+    }
+
+    /**
+     * 키 해시를 [-1, 1) 구간의 실수로 (같은 키는 항상 같은 값)
+     */
+    static double unit(Object key) {
+        long hash = mix(Objects.hashCode(key) * GOLDEN);
+        return (hash >>> 11) * 0x1.0p-53 * 2.0 - 1.0;
+    }
+}
@@ -0,0 +1,237 @@
+package com.cube.simple.cache;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.cube.simple.dto.HotKey;
+import com.cube.simple.mapper.read.ReadItemMapper;
+import com.cube.simple.model.Item;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 단건 조회("item" 캐시) 핫 키 감지 + 로컬 고정(pinning)
+ *
+ * - 감지: 조회마다 count-min sketch(DEPTH x sketch-width) 에 더하고, 추정치가 상위 top-k 하한을 넘는 id 만 후보로 유지
+ *   decay-interval-ms 마다 모든 카운터를 절반으로 줄여 "최근" 조회가 많은 id 만 남도록 함
+ * - 고정: 추정치가 min-count 이상인 상위 top-k id 는 refresh-interval-ms 마다 읽기 DB 에서 한 번(IN 조회)에 다시 읽어
+ *   프로세스 메모리 사본으로 응답 → 캠페인 상품처럼 몰리는 키가 Redis 한 샤드에 집중되지 않음
+ *   (다른 노드에서 수정된 값은 최대 refresh-interval-ms 늦게 반영, 같은 노드의 쓰기는 evict 로 즉시 해제)
+ * - 복제(replicas > 0, spring.cache.type=redis 일 때만): 고정 전이거나 해제 직후의 조회는 "item" 캐시의
+ *   "id#n" 키 replicas 개 중 하나를 무작위로 읽어 같은 값을 여러 Redis 키(슬롯)로 분산, evict 시 복제 키도 함께 삭제
+ */
+@Slf4j
+@Component
+public class HotItemCache {
+
+    private static final int DEPTH = 4;
+    private static final String REPLICA = "#";
+
+    @Autowired
+    private ReadItemMapper readItemMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Value("${spring.cache.type:simple}")
+    private String cacheType;
+
+    @Value("${cache.hot.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.hot.top-k:20}")
+    private int topK;
+
+    @Value("${cache.hot.min-count:50}")
+    private long minCount;
+
+    @Value("${cache.hot.sketch-width:4096}")
+    private int sketchWidth;
+
+    @Value("${cache.hot.replicas:0}")
+    private int replicas;
+
+    private AtomicLongArray sketch;
+    private int mask;
+
+    // 후보 id → 추정치 (top-k 하한 floor 를 넘은 id 만, 최대 top-k * 4 개)
+    private final Map<Long, Long> candidates = new ConcurrentHashMap<>();
+    private volatile long floor;
+
+    private volatile Set<Long> hotIds = Set.of();
+    private final Map<Long, Item> pinned = new ConcurrentHashMap<>();
+
+    // 고정 사본 적재 중 무효화된 id 는 적재 결과를 버림 (id → 무효화 시각 nanoTime)
+    private final Map<Long, Long> evictedAt = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        int width = Integer.highestOneBit(Math.max(64, sketchWidth));
+        sketch = new AtomicLongArray(DEPTH * width);
+        mask = width - 1;
+    }
+
+    /**
+     * 단건 조회 1회 기록
+     */
+    public void record(Long id) {
+        if (!enabled || id == null) {
+            return;
+        }
+        // double hashing (Kirsch-Mitzenmacher): 행 d 의 열 = h1 + d * h2
+        long h1 = Hashing.mix(id);
+        long h2 = Hashing.step(h1);
+        long estimate = Long.MAX_VALUE;
+        for (int d = 0; d < DEPTH; d++) {
+            int index = d * (mask + 1) + (int) (Hashing.probe(h1, h2, d) & mask);
+            estimate = Math.min(estimate, sketch.incrementAndGet(index));
+        }
+        if (estimate >= minCount && estimate > floor
+                && (candidates.containsKey(id) || candidates.size() < topK * 4)) {
+            candidates.put(id, estimate);
+        }
+    }
+
+    /**
+     * 고정된 사본 (없으면 null)
+     */
+    public Item get(Long id) {
+        return enabled ? pinned.get(id) : null;
+    }
+
+    /**
+     * 핫 키이고 복제를 사용하면 무작위 복제 키, 아니면 null
+     */
+    public String replicaKey(Long id) {
+        if (replicas <= 0 || !isShared() || !hotIds.contains(id)) {
+            return null;
+        }
+        return id + REPLICA + ThreadLocalRandom.current().nextInt(replicas);
+    }
+
+    /**
+     * 쓰기 후 고정 사본과 복제 키 해제 (다음 refresh 에서 새 값으로 다시 고정)
+     */
+    public void evict(Long id) {
+        evictedAt.put(id, System.nanoTime());
+        pinned.remove(id);
+        if (replicas > 0 && isShared()) {
+            Cache cache = cacheManager.getCache("item");
+            for (int n = 0; n < replicas; n++) {
+                cache.evict(id + REPLICA + n);
+            }
+        }
+    }
+
+    /**
+     * 대량 수정 후 고정 사본 해제 - 복제 키는 호출한 쪽이 "item" 캐시 삭제와 한 번에 지우도록 반환
+     *
+     * @return 함께 삭제할 복제 키 (복제를 쓰지 않으면 빈 목록)
+     */
+    public List<String> unpin(Collection<Long> ids) {
+        List<String> replicaKeys = new ArrayList<>();
+        boolean replicated = replicas > 0 && isShared();
+        long now = System.nanoTime();
+        for (Long id : ids) {
+            evictedAt.put(id, now);
+            pinned.remove(id);
+            for (int n = 0; replicated && n < replicas; n++) {
+                replicaKeys.add(id + REPLICA + n);
+            }
+        }
+        return replicaKeys;
+    }
+
+    /**
+     * 현재 핫 키 (추정치 내림차순)
+     */
+    public List<HotKey> top() {
+        List<HotKey> keys = new ArrayList<>();
+        for (Long id : hotIds) {
+            keys.add(HotKey.builder()
+                    .id(id)
+                    .estimate(candidates.getOrDefault(id, 0L))
+                    .pinned(pinned.containsKey(id))
+                    .build());
+        }
+        keys.sort(Comparator.comparingLong(HotKey::getEstimate).reversed());
+        return keys;
+    }
+
+    @Scheduled(fixedDelayString = "${cache.hot.refresh-interval-ms:1000}")
+    public void refresh() {
+        if (!enabled) {
+            return;
+        }
+        List<Long> hot = candidates.entrySet().stream()
+                .filter(entry -> entry.getValue() >= minCount)
+                .sorted(Map.Entry.<Long, Long>comparingByValue().reversed())
+                .limit(topK)
+                .map(Map.Entry::getKey)
+                .toList();
+        hotIds = Set.copyOf(hot);
+        pinned.keySet().retainAll(hotIds);
+        if (hot.isEmpty()) {
+            evictedAt.clear();
+            return;
+        }
+
+        long started = System.nanoTime();
+        Map<Long, Item> loaded = new HashMap<>();
+        try {
+            readItemMapper.selectByIds(hot).forEach(item -> loaded.put(item.getId(), item));
+        } catch (RuntimeException ex) {
+            log.warn("Hot item refresh failed : {} ids", hot.size(), ex);
+            return;
+        }
+        // 삭제된 행은 해제, 적재 중 무효화된 id 는 다음 refresh 까지 고정하지 않음
+        pinned.keySet().retainAll(loaded.keySet());
+        loaded.forEach((id, item) -> {
+            Long evicted = evictedAt.get(id);
+            if (evicted == null || evicted - started < 0) {
+                pinned.put(id, item);
+            }
+        });
+        evictedAt.values().removeIf(evicted -> evicted - started < 0);
+    }
+
+    /**
+     * 최근 조회만 반영되도록 카운터 절반으로 감소, 후보는 top-k 로 정리
+     */
+    @Scheduled(fixedDelayString = "${cache.hot.decay-interval-ms:10000}")
+    public void decay() {
+        if (!enabled) {
+            return;
+        }
+        for (int i = 0; i < sketch.length(); i++) {
+            sketch.getAndUpdate(i, count -> count >> 1);
+        }
+        candidates.replaceAll((id, count) -> count >> 1);
+        List<Map.Entry<Long, Long>> ranked = new ArrayList<>(candidates.entrySet());
+        ranked.sort(Map.Entry.<Long, Long>comparingByValue().reversed());
+        for (int i = topK; i < ranked.size(); i++) {
+            candidates.remove(ranked.get(i).getKey());
+        }
+        floor = topK > 0 && ranked.size() >= topK ? ranked.get(topK - 1).getValue() : 0L;
+    }
+
+    private boolean isShared() {
+        return "redis".equalsIgnoreCase(cacheType);
+    }
+}
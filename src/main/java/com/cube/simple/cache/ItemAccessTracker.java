@@ -0,0 +1,108 @@
+package com.cube.simple.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 캐시 아이템 단건 조회 횟수 집계 (다음 기동 시 캐시 예열 대상 선정용)
+ *
+ * - 요청마다 Redis 에 쓰지 않고 노드 메모리에 모았다가 주기적으로(그리고 종료 시) Redis sorted set 에 ZINCRBY 로 합산
+ * - spring.cache.type=redis 가 아니면 현재 실행 중 집계만 사용 (이전 실행 기록 없음)
+ */
+@Slf4j
+@Component
+public class ItemAccessTracker {
+
+    private static final String KEY = "stats:item:access";
+
+    @Autowired
+    private ObjectProvider<StringRedisTemplate> redisTemplate;
+
+    @Value("${spring.cache.type:simple}")
+    private String cacheType;
+
+    private final Map<Long, LongAdder> counts = new ConcurrentHashMap<>();
+
+    public void record(Long id) {
+        if (id != null) {
+            counts.computeIfAbsent(id, k -> new LongAdder()).increment();
+        }
+    }
+
+    public void record(List<Long> ids) {
+        ids.forEach(this::record);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.warm.access-flush-interval-ms:60000}")
+    public void flush() {
+        if (!isShared() || counts.isEmpty()) {
+            return;
+        }
+        Map<Long, Long> snapshot = new HashMap<>();
+        for (Long id : Set.copyOf(counts.keySet())) {
+            LongAdder adder = counts.remove(id);
+            if (adder != null) {
+                snapshot.put(id, adder.sum());
+            }
+        }
+        try {
+            StringRedisTemplate template = redisTemplate.getObject();
+            template.executePipelined((RedisCallback<Object>) connection -> {
+                byte[] key = KEY.getBytes(StandardCharsets.UTF_8);
+                snapshot.forEach((id, count) ->
+                        connection.zSetCommands().zIncrBy(key, count, String.valueOf(id).getBytes(StandardCharsets.UTF_8)));
+                return null;
+            });
+        } catch (RuntimeException ex) {
+            log.warn("Item access stats flush failed", ex);
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        flush();
+    }
+
+    /**
+     * 조회가 많은 id 순서로 최대 limit 개
+     */
+    public List<Long> top(int limit) {
+        List<Long> ids = new ArrayList<>();
+        if (limit <= 0) {
+            return ids;
+        }
+        if (isShared()) {
+            Set<String> values = redisTemplate.getObject().opsForZSet().reverseRange(KEY, 0, limit - 1);
+            if (values != null) {
+                values.forEach(value -> ids.add(Long.valueOf(value)));
+            }
+            return ids;
+        }
+        counts.entrySet().stream()
+                .sorted((a, b) -> Long.compare(b.getValue().sum(), a.getValue().sum()))
+                .limit(limit)
+                .forEach(entry -> ids.add(entry.getKey()));
+        return ids;
+    }
+
+    private boolean isShared() {
+        return "redis".equalsIgnoreCase(cacheType);
+    }
+}
@@ -0,0 +1,94 @@
+package com.cube.simple.cache;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+
+/**
+ * Item 목록/건수 캐시("items", "itemCount") 키와 태그 무효화
+ *
+ * - 태그: "category:카테고리" (category 조건 조회), "all" (category 조건 없는 조회), "epoch" (모든 조회)
+ *   검색 결과도 category 범위 안에서만 달라지므로 같은 태그를 사용한다.
+ * - 키 = 태그 세대 + 조회 조건. 쓰기 시 변경된 카테고리와 "all" 세대만 올리므로
+ *   카테고리 A 수정이 카테고리 B 의 캐시된 페이지/건수를 지우지 않는다.
+ * - 변경 전 카테고리를 모르는 대량 수정은 "epoch" 를 올려 전체 무효화
+ * - CachedItemService 가 CacheLoader 적재 키로 사용
+ */
+@Component
+public class ItemCacheKeys {
+
+    public static final String ITEMS = "items";
+    public static final String ITEM_COUNT = "itemCount";
+
+    private static final String EPOCH = "epoch";
+    private static final String ALL = "all";
+    private static final String CATEGORY = "category:";
+
+    @Autowired
+    private CacheGenerations generations;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    public String list(int page, int size, String category, String search) {
+        return stamp(category) + ":" + page + "-" + size + "-" + text(category) + "-" + text(search);
+    }
+
+    public String count(String category, String search, boolean approximate) {
+        return stamp(category) + ":" + text(category) + "-" + text(search) + "-" + approximate;
+    }
+
+    /**
+     * 해당 카테고리 조회와 category 조건 없는 조회만 무효화
+     *
+     * @param categories 변경 전/후 카테고리 (null 은 무시)
+     */
+    public void evict(Collection<String> categories) {
+        Set<String> tags = new LinkedHashSet<>();
+        tags.add(ALL);
+        for (String category : categories) {
+            if (StringUtils.hasText(category)) {
+                tags.add(CATEGORY + category);
+            }
+        }
+        generations.bump(tags);
+        clearUnshared();
+    }
+
+    /**
+     * 모든 목록/건수 캐시 무효화
+     */
+    public void evictAll() {
+        generations.bump(List.of(EPOCH));
+        clearUnshared();
+    }
+
+    private String stamp(String category) {
+        String tag = StringUtils.hasText(category) ? CATEGORY + category : ALL;
+        return generations.stamp(List.of(EPOCH, tag));
+    }
+
+    // 로컬 simple 캐시는 TTL 이 없어 이전 세대 키가 계속 쌓이므로 기존처럼 전체 비움
+    private void clearUnshared() {
+        if (generations.isShared()) {
+            return;
+        }
+        for (String name : List.of(ITEMS, ITEM_COUNT)) {
+            Cache cache = cacheManager.getCache(name);
+            if (cache != null) {
+                cache.clear();
+            }
+        }
+    }
+
+    private String text(String value) {
+        return value == null ? "" : value;
+    }
+}
@@ -0,0 +1,463 @@
+package com.cube.simple.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.function.Consumer;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.annotation.Order;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.cube.simple.mapper.write.WriteItemMapper;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 존재하는 Item id 의 Bloom filter + 없는 id 의 짧은 부정 캐시("itemMissing")
+ *
+ * - mightExist 가 false 이면 캐시/DB 를 조회하지 않고 바로 없음으로 처리 (false negative 없음)
+ * - 필터를 통과했지만 DB 에 없는 id(오탐 ~fpp, 삭제된 id)는 "itemMissing" 캐시에 표시하여 TTL 동안 DB 조회 생략
+ * - 등록은 커밋 후 필터에 추가하고 부정 캐시를 지움 (ItemService 의 모든 등록 경로)
+ * - 삭제는 필터에서 뺄 수 없으므로 rebuild-interval 마다 쓰기 DB 의 id 로 다시 만든다.
+ *   재구성 중 등록된 id 는 현재 필터와 만드는 중인 필터 양쪽에 추가하여 교체 후에도 빠지지 않게 한다.
+ * - spring.cache.type=redis 이면 Redis 비트맵(SETBIT/GETBIT)으로 노드 간 공유하고 재구성은 락을 잡은 한 노드만 수행,
+ *   아니면 프로세스 메모리 비트 배열 사용
+ * - 첫 구성이 끝나기 전이나 공유 비트맵이 없으면(Redis 재시작 등) 모든 id 를 통과시킨다.
+ * - Redis 장애 중(회로 열림/호출 실패) 등록된 id 는 기억해 두고 통과시키며, 다음 추가나 Redis 복구 때 공유 비트맵에 다시 추가한다.
+ *   (너무 많으면 복구 때 공유 비트맵을 지워 다음 재구성까지 필터를 끔)
+ * - 크기는 expected-items/fpp 로 고정되므로 아이템 수가 expected-items 를 넘으면 오탐률이 올라간다.
+ */
+@Slf4j
+@Order(50)
+@Component
+public class ItemIdFilter implements ApplicationRunner {
+
+    public static final String MISSING = "itemMissing";
+
+    private static final String KEY = "bloom:item:id";
+    private static final String BUILDING = KEY + ":building";
+    private static final String LOCK = "bloom:item:id";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(5);
+    private static final int SCAN_SIZE = 10000;
+    // Redis 장애 중 기억해 둘 최대 id 수 (넘으면 복구 후 공유 비트맵을 지움)
+    private static final int MAX_PENDING = 100000;
+    // 필터(KEYS[1])가 있을 때만 추가하고 (지워졌거나 아직 없으면 일부 비트만 가진 필터가 생겨 false negative),
+    // 재구성 중일 수 있는 임시 키(KEYS[2])에는 항상 추가 (재구성이 없으면 ARGV[1] ms 뒤 만료)
+    private static final RedisScript<Long> ADD = new DefaultRedisScript<>(
+            "local exists = redis.call('exists', KEYS[1]) == 1 "
+            + "for i = 2, #ARGV do "
+            + "if exists then redis.call('setbit', KEYS[1], ARGV[i], 1) end "
+            + "redis.call('setbit', KEYS[2], ARGV[i], 1) end "
+            + "redis.call('pexpire', KEYS[2], ARGV[1]) return 1", Long.class);
+
+    // 재구성 스캔은 쓰기 DB (읽기 DB 는 복제 지연으로 방금 커밋된 id 가 빠질 수 있음 → false negative)
+    @Autowired
+    private WriteItemMapper writeItemMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private RedisLocks redisLocks;
+
+    @Autowired
+    private RedisCircuitBreaker breaker;
+
+    @Autowired
+    private ObjectProvider<StringRedisTemplate> redisTemplate;
+
+    @Value("${spring.cache.type:simple}")
+    private String cacheType;
+
+    @Value("${item.bloom.enabled:true}")
+    private boolean enabled;
+
+    @Value("${item.bloom.expected-items:1000000}")
+    private long expectedItems;
+
+    @Value("${item.bloom.fpp:0.01}")
+    private double fpp;
+
+    private long bits;
+    private int hashes;
+
+    private volatile AtomicLongArray local;
+    // 재구성 중인 로컬 비트 배열 (등록된 id 를 교체 전까지 양쪽에 추가)
+    private volatile AtomicLongArray building;
+    // 로컬 비트 배열 사용 가능 여부 (공유 비트맵은 키 존재 여부로 판단)
+    private volatile boolean ready;
+    // 공유 비트맵에 추가하지 못한 id (조회 시 있는 것으로 보고 다음 추가/Redis 복구 때 다시 추가)
+    private final Set<Long> pending = ConcurrentHashMap.newKeySet();
+    // pending 이 MAX_PENDING 을 넘음 (복구 전까지 필터 통과)
+    private volatile boolean overflow;
+
+    @PostConstruct
+    public void init() {
+        // m = -n ln p / (ln 2)^2, k = m / n ln 2
+        bits = Math.max(64L, (long) Math.ceil(-expectedItems * Math.log(fpp) / (Math.log(2) * Math.log(2))));
+        hashes = Math.max(1, (int) Math.round((double) bits / expectedItems * Math.log(2)));
+        breaker.onRecovery(this::replay);
+    }
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        // 다른 노드가 이미 만든 공유 필터가 있으면 그대로 사용
+        if (isShared() && Boolean.TRUE.equals(redisTemplate.getObject().hasKey(KEY))) {
+            return;
+        }
+        rebuild();
+    }
+
+    /**
+     * 삭제된 id 를 필터에서 빼기 위해 주기적으로 재구성
+     */
+    @Scheduled(initialDelayString = "${item.bloom.rebuild-interval-ms:3600000}",
+               fixedDelayString = "${item.bloom.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        if (!enabled) {
+            return;
+        }
+        String token = redisLocks.tryLock(LOCK, LOCK_TTL);
+        if (token == null) {
+            return;
+        }
+        try {
+            long started = System.currentTimeMillis();
+            long count = isShared() ? rebuildShared() : rebuildLocal();
+            log.info("Item id filter rebuilt : {} ids, {} bits, {} hashes, {}ms",
+                    count, bits, hashes, System.currentTimeMillis() - started);
+        } catch (RuntimeException ex) {
+            log.warn("Item id filter rebuild failed", ex);
+        } finally {
+            redisLocks.unlock(LOCK, token);
+        }
+    }
+
+    /**
+     * @return false 이면 확실히 없는 id, true 이면 있을 수 있음
+     */
+    public boolean mightExist(Long id) {
+        return id != null && !mightExist(List.of(id)).isEmpty();
+    }
+
+    /**
+     * 있을 수 있는 id 만 순서대로 (공유 비트맵은 파이프라인 1회 왕복)
+     */
+    public List<Long> mightExist(List<Long> ids) {
+        if (!enabled || ids.isEmpty()) {
+            return ids;
+        }
+        List<long[]> offsets = new ArrayList<>(ids.size());
+        ids.forEach(id -> offsets.add(offsets(id)));
+        try {
+            List<Long> found = new ArrayList<>(ids.size());
+            if (isShared()) {
+                if (!breaker.isAvailable() || overflow) {
+                    return ids;
+                }
+                // EXISTS + id 마다 GETBIT k 개 (키가 없으면 첫 결과가 0)
+                List<Object> results = breaker.call(() -> redisTemplate.getObject().executePipelined((RedisCallback<Object>) connection -> {
+                    connection.keyCommands().exists(key());
+                    for (long[] each : offsets) {
+                        for (long offset : each) {
+                            connection.stringCommands().getBit(key(), offset);
+                        }
+                    }
+                    return null;
+                }));
+                Object exists = results.get(0);
+                if (!Boolean.TRUE.equals(exists) && !(exists instanceof Number count && count.longValue() > 0)) {
+                    return ids;
+                }
+                int index = 1;
+                for (Long id : ids) {
+                    boolean all = true;
+                    for (int i = 0; i < hashes; i++) {
+                        all &= Boolean.TRUE.equals(results.get(index++));
+                    }
+                    if (all || pending.contains(id)) {
+                        found.add(id);
+                    }
+                }
+                return found;
+            }
+            AtomicLongArray words = local;
+            if (!ready || words == null) {
+                return ids;
+            }
+            for (int i = 0; i < ids.size(); i++) {
+                if (contains(words, offsets.get(i))) {
+                    found.add(ids.get(i));
+                }
+            }
+            return found;
+        } catch (RuntimeException ex) {
+            // 필터를 못 쓰면 캐시/DB 조회로 진행
+            log.warn("Item id filter lookup failed", ex);
+            return ids;
+        }
+    }
+
+    /**
+     * 최근에 없는 것으로 확인된 id 인지
+     */
+    public boolean isMissing(Long id) {
+        Cache cache = cacheManager.getCache(MISSING);
+        return cache != null && cache.get(id) != null;
+    }
+
+    public void markMissing(Long id) {
+        Cache cache = cacheManager.getCache(MISSING);
+        if (cache != null) {
+            cache.put(id, Boolean.TRUE);
+        }
+    }
+
+    public void unmarkMissing(Long id) {
+        Cache cache = cacheManager.getCache(MISSING);
+        if (cache != null) {
+            cache.evict(id);
+        }
+    }
+
+    /**
+     * 등록된 id 를 필터에 추가하고 부정 캐시에서 제거 (트랜잭션 안이면 커밋 후)
+     */
+    public void added(Collection<Long> ids) {
+        List<Long> copy = List.copyOf(ids);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(copy);
+                }
+            });
+        } else {
+            apply(copy);
+        }
+    }
+
+    private void apply(List<Long> ids) {
+        Cache cache = cacheManager.getCache(MISSING);
+        for (Long id : ids) {
+            if (cache != null) {
+                cache.evict(id);
+            }
+        }
+        if (!enabled) {
+            return;
+        }
+        if (isShared()) {
+            applyShared(ids);
+            return;
+        }
+        try {
+            // building 을 먼저 읽어야 교체 직전에 읽은 local(이전 배열)에만 추가되는 경우가 없음
+            AtomicLongArray next = building;
+            AtomicLongArray current = local;
+            if (current != null) {
+                ids.forEach(id -> setBits(current, id));
+            }
+            if (next != null) {
+                ids.forEach(id -> setBits(next, id));
+            }
+        } catch (RuntimeException ex) {
+            // 필터에 빠진 id 는 조회 시 없는 것으로 보이므로 다음 재구성 전까지 필터를 끔
+            ready = false;
+            log.warn("Item id filter update failed, bypassing filter until rebuild", ex);
+        }
+    }
+
+    // 이전에 반영하지 못한 id 와 함께 추가, Redis 를 못 쓰면 기억해 두고 다음 추가/복구 때 다시 추가
+    private void applyShared(List<Long> ids) {
+        if (!breaker.isAvailable()) {
+            remember(ids);
+            return;
+        }
+        List<Long> all = new ArrayList<>(ids);
+        all.addAll(pending);
+        if (all.isEmpty()) {
+            return;
+        }
+        List<String> args = new ArrayList<>(all.size() * hashes + 1);
+        args.add(String.valueOf(LOCK_TTL.toMillis()));
+        all.forEach(id -> {
+            for (long offset : offsets(id)) {
+                args.add(String.valueOf(offset));
+            }
+        });
+        try {
+            breaker.call(() -> redisTemplate.getObject().execute(ADD, List.of(KEY, BUILDING), args.toArray()));
+            pending.removeAll(all);
+        } catch (RuntimeException ex) {
+            remember(ids);
+            log.warn("Item id filter update failed, retrying after Redis recovers : {} ids pending", pending.size(), ex);
+        }
+    }
+
+    private void remember(Collection<Long> ids) {
+        if (overflow) {
+            return;
+        }
+        if (pending.size() + ids.size() > MAX_PENDING) {
+            overflow = true;
+            pending.clear();
+            return;
+        }
+        pending.addAll(ids);
+    }
+
+    // Redis 복구 후 장애 중 빠진 id 를 다시 추가, 너무 많아 기억하지 못했으면 공유 비트맵을 지워 다음 재구성까지 필터를 끔
+    private void replay() {
+        if (!enabled || !isShared()) {
+            return;
+        }
+        if (overflow) {
+            try {
+                redisTemplate.getObject().delete(KEY);
+                overflow = false;
+                log.warn("Item id filter dropped after Redis recovery, bypassing filter until rebuild");
+            } catch (RuntimeException ex) {
+                log.warn("Item id filter drop failed", ex);
+            }
+            return;
+        }
+        applyShared(List.of());
+    }
+
+    // 스캔하는 동안 등록된 id 는 apply 가 새 배열에도 추가, 교체 후 마지막 id 다음을 한 번 더 스캔
+    private long rebuildLocal() {
+        AtomicLongArray words = new AtomicLongArray((int) ((bits + 63) >>> 6));
+        building = words;
+        try {
+            Long[] last = new Long[1];
+            long count = scan(null, ids -> {
+                ids.forEach(id -> setBits(words, id));
+                last[0] = ids.get(ids.size() - 1);
+            });
+            local = words;
+            ready = true;
+            scan(last[0], ids -> ids.forEach(id -> setBits(words, id)));
+            return count;
+        } finally {
+            building = null;
+        }
+    }
+
+    // 임시 키에 만든 뒤 RENAME 으로 교체, 스캔 중 등록된 id 는 apply 가 임시 키에도 추가
+    // apply 가 임시 키에 건 만료는 스캔 묶음마다 해제하고 교체 후 KEY 에서도 해제
+    private long rebuildShared() {
+        StringRedisTemplate template = redisTemplate.getObject();
+        byte[] buildingKey = buildingKey();
+        template.delete(BUILDING);
+
+        Long[] last = new Long[1];
+        long count = scan(null, ids -> {
+            template.executePipelined((RedisCallback<Object>) connection -> {
+                ids.forEach(id -> setBits(connection, buildingKey, id));
+                connection.keyCommands().persist(buildingKey);
+                return null;
+            });
+            last[0] = ids.get(ids.size() - 1);
+        });
+        if (count == 0) {
+            // 켜진 비트가 없으면 키가 생기지 않으므로 0 비트로 키만 만들어 둠
+            template.opsForValue().setBit(BUILDING, 0, false);
+        }
+        template.rename(BUILDING, KEY);
+        template.persist(KEY);
+
+        scan(last[0], ids -> template.executePipelined((RedisCallback<Object>) connection -> {
+            ids.forEach(id -> setBits(connection, key(), id));
+            return null;
+        }));
+        return count;
+    }
+
+    private long scan(Long afterId, Consumer<List<Long>> consumer) {
+        long count = 0;
+        Long after = afterId;
+        while (true) {
+            List<Long> ids = writeItemMapper.selectIds(after, SCAN_SIZE);
+            if (ids.isEmpty()) {
+                return count;
+            }
+            consumer.accept(ids);
+            count += ids.size();
+            after = ids.get(ids.size() - 1);
+        }
+    }
+
+    private void setBits(RedisConnection connection, byte[] key, Long id) {
+        for (long offset : offsets(id)) {
+            connection.stringCommands().setBit(key, offset, true);
+        }
+    }
+
+    private boolean contains(AtomicLongArray words, long[] offsets) {
+        for (long offset : offsets) {
+            if ((words.get((int) (offset >>> 6)) & (1L << offset)) == 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void setBits(AtomicLongArray words, Long id) {
+        for (long offset : offsets(id)) {
+            int index = (int) (offset >>> 6);
+            long mask = 1L << offset;
+            long current;
+            do {
+                current = words.get(index);
+            } while ((current & mask) == 0 && !words.compareAndSet(index, current, current | mask));
+        }
+    }
+
+    // double hashing (Kirsch-Mitzenmacher): h1 + i * h2
+    private long[] offsets(long id) {
+        long h1 = Hashing.mix(id);
+        long h2 = Hashing.step(h1);
+        long[] offsets = new long[hashes];
+        for (int i = 0; i < hashes; i++) {
+            offsets[i] = Math.floorMod(Hashing.probe(h1, h2, i), bits);
+        }
+        return offsets;
+    }
+
+    private byte[] key() {
+        return KEY.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private byte[] buildingKey() {
+        return BUILDING.getBytes(StandardCharsets.UTF_8);
+    }
+
+    private boolean isShared() {
+        return "redis".equalsIgnoreCase(cacheType);
+    }
+}
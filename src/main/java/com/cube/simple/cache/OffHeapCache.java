@@ -0,0 +1,107 @@
+package com.cube.simple.cache;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import org.springframework.cache.support.AbstractValueAdaptingCache;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+/**
+ * OffHeapStore 를 저장소로 쓰는 Spring Cache
+ *
+ * - 값은 직렬화(CompactRedisSerializer, SMILE + LZ4)해서 힙 밖에 두고, 조회 시마다 역직렬화한 복사본을 반환
+ *   (ConcurrentMapCache 와 달리 반환 객체를 수정해도 캐시에 영향 없음)
+ * - null 값은 저장하지 않음 (put(null) 은 기존 값 제거)
+ * - 여러 캐시가 하나의 저장소(메모리 예산)를 공유하며 키는 (캐시 이름, 키) 쌍
+ */
+public class OffHeapCache extends AbstractValueAdaptingCache {
+
+    record Key(String cache, Object key) {}
+
+    private static final int LOCKS = 64;
+
+    private final String name;
+    private final OffHeapStore store;
+    private final RedisSerializer<Object> serializer;
+    // get(key, loader) 의 키별 중복 적재 방지 (키 해시로 나눈 락)
+    private final Object[] locks = new Object[LOCKS];
+
+    public OffHeapCache(String name, OffHeapStore store, RedisSerializer<Object> serializer) {
+        super(false);
+        this.name = name;
+        this.store = store;
+        this.serializer = serializer;
+        for (int i = 0; i < LOCKS; i++) {
+            locks[i] = new Object();
+        }
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return store;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        byte[] bytes = store.get(new Key(name, key));
+        return bytes != null ? serializer.deserialize(bytes) : null;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        Object value = lookup(key);
+        if (value != null) {
+            return (T) value;
+        }
+        synchronized (locks[Math.floorMod(key.hashCode(), LOCKS)]) {
+            value = lookup(key);
+            if (value != null) {
+                return (T) value;
+            }
+            try {
+                T loaded = valueLoader.call();
+                put(key, loaded);
+                return loaded;
+            } catch (Exception ex) {
+                throw new ValueRetrievalException(key, valueLoader, ex);
+            }
+        }
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (value == null) {
+            evict(key);
+            return;
+        }
+        store.put(new Key(name, key), serializer.serialize(value));
+    }
+
+    @Override
+    public void evict(Object key) {
+        store.remove(new Key(name, key));
+    }
+
+    /**
+     * 이 캐시에 저장된 키 목록 (캐시 스냅샷 저장용)
+     */
+    public List<Object> keys() {
+        List<Object> keys = new ArrayList<>();
+        for (Object key : store.keys(key -> key instanceof Key k && name.equals(k.cache()))) {
+            keys.add(((Key) key).key());
+        }
+        return keys;
+    }
+
+    @Override
+    public void clear() {
+        store.removeIf(key -> key instanceof Key k && name.equals(k.cache()));
+    }
+}
@@ -0,0 +1,70 @@
+package com.cube.simple.cache;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+
+import com.cube.simple.dto.CacheStats;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 프로세스 내 off-heap 캐시 관리자 (spring.cache.type=simple 의 ConcurrentMapCacheManager 대체)
+ *
+ * - 캐시는 처음 요청될 때 만들어지며 모두 하나의 OffHeapStore(메모리 예산)를 공유
+ * - 로컬 전용이므로 다른 노드와 무효화를 주고받지 않음 (spring.cache.type=redis 와 함께 쓰지 않음)
+ */
+@Slf4j
+public class OffHeapCacheManager implements CacheManager {
+
+    private final Map<String, OffHeapCache> caches = new ConcurrentHashMap<>();
+
+    private final OffHeapStore store;
+    private final RedisSerializer<Object> serializer;
+
+    public OffHeapCacheManager(OffHeapCacheProperties properties) {
+        this.store = new OffHeapStore(properties.getMaxSize().toBytes(), (int) properties.getSlabSize().toBytes(),
+                properties.getSegments(), properties.getEviction());
+        this.serializer = new CompactRedisSerializer(new GenericJackson2JsonRedisSerializer(),
+                CompactRedisSerializer.Format.SMILE, properties.getCompressThreshold());
+        log.info("Off-heap cache created : maxSize={}, slabSize={}, segments={}, eviction={}",
+                properties.getMaxSize(), properties.getSlabSize(), properties.getSegments(), properties.getEviction());
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        return caches.computeIfAbsent(name, n -> new OffHeapCache(n, store, serializer));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return Collections.unmodifiableSet(caches.keySet());
+    }
+
+    /**
+     * 저장소 전체 통계 (캐시들이 예산을 공유하므로 한 줄로 집계)
+     */
+    public List<CacheStats> stats() {
+        OffHeapStore.Stats stats = store.stats();
+        long requests = stats.hits + stats.misses;
+        return List.of(CacheStats.builder()
+                .name("*")
+                .offHeapSize(stats.entries)
+                .offHeapHits(stats.hits)
+                .offHeapMisses(stats.misses)
+                .offHeapHitRatio(requests == 0 ? 0 : (double) stats.hits / requests)
+                .offHeapEvictions(stats.evictions)
+                .offHeapBytes(stats.usedBytes)
+                .offHeapAllocatedBytes(stats.allocatedBytes)
+                .offHeapRejected(stats.rejected)
+                .offHeapRebalances(stats.rebalances)
+                .build());
+    }
+}
@@ -0,0 +1,37 @@
+package com.cube.simple.cache;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Data;
+
+/**
+ * 프로세스 내 off-heap 캐시 설정 - cache.offheap.*
+ *
+ * 예)
+ *   cache.offheap.enabled=true
+ *   cache.offheap.max-size=256MB
+ *   cache.offheap.slab-size=1MB
+ *   cache.offheap.eviction=lru
+ */
+@Data
+@ConfigurationProperties(prefix = "cache.offheap")
+public class OffHeapCacheProperties {
+
+    // spring.cache.type=redis 가 아닐 때 simple(ConcurrentMap) 대신 off-heap 저장소 사용
+    private boolean enabled = false;
+
+    // direct 메모리 전체 예산 (JVM 옵션 -XX:MaxDirectMemorySize 보다 작아야 함)
+    private DataSize maxSize = DataSize.ofMegabytes(256);
+
+    // slab 크기 = 캐시할 수 있는 값(직렬화 후)의 최대 크기
+    private DataSize slabSize = DataSize.ofMegabytes(1);
+
+    // 락 분할 수 (segment 마다 max-size / segments 예산)
+    private int segments = 16;
+
+    private OffHeapStore.Eviction eviction = OffHeapStore.Eviction.LRU;
+
+    // 이 크기(바이트) 이상인 값은 LZ4 압축, 음수면 압축하지 않음
+    private int compressThreshold = 1024;
+}
@@ -0,0 +1,404 @@
+package com.cube.simple.cache;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Predicate;
+
+/**
+ * 힙 밖(direct ByteBuffer) 바이트 저장소 - slab 할당 + LRU/LFU 제거
+ *
+ * - 전체 예산(maxBytes)을 segments 개로 나누고, 키 해시로 segment 를 고른다. (segment 마다 락 1개)
+ * - segment 는 slabSize 크기의 direct 버퍼(slab)를 필요할 때 예산 안에서만 할당하고,
+ *   slab 을 크기 등급(chunk 크기, 1.25배 간격)별 chunk 로 나누어 쓴다. (memcached 방식, 외부 단편화 없음)
+ * - 등급에 빈 chunk 가 없고 새 slab 도 할당할 수 없으면 같은 등급에서 하나를 제거한다.
+ *   LRU: 가장 오래 사용하지 않은 항목, LFU: 오래 사용하지 않은 항목 SAMPLE 개 중 조회 수가 가장 적은 항목
+ * - slab 재배치(rebalance): 등급에 제거할 항목이 없거나, 마지막 재배치 이후 slab 한 개 분량 이상을 제거했고
+ *   요청(조회 적중 + 저장) 수가 더 적은 등급이 있으면, 요청이 가장 적은 등급의 slab 하나를 비워 옮겨 온다.
+ *   (값 크기 분포가 바뀌어도 초기에 slab 을 받은 등급이 예산을 계속 차지하지 않도록 함, 재배치 후 요청 수는 절반으로 감소)
+ * - slab 보다 큰 값이나 옮겨 올 slab 도 없어 공간을 만들 수 없는 값은 저장하지 않는다. (rejected)
+ * - 힙에는 키와 위치 정보만 남으므로 캐시 값 크기가 GC 대상 힙 크기/정지 시간에 영향을 주지 않는다.
+ */
+public class OffHeapStore {
+
+    public enum Eviction { LRU, LFU }
+
+    private static final int MIN_CHUNK = 64;
+    private static final double GROWTH = 1.25;
+    private static final int SAMPLE = 8;
+
+    private final Segment[] segments;
+    private final int slabSize;
+    private final int[] chunkSizes;
+    private final Eviction eviction;
+
+    /**
+     * @param maxBytes 전체 메모리 예산 (할당되는 slab 합계의 상한)
+     * @param slabSize slab 크기 (저장 가능한 값의 최대 크기)
+     * @param segments 락 분할 수
+     * @param eviction 제거 정책
+     */
+    public OffHeapStore(long maxBytes, int slabSize, int segments, Eviction eviction) {
+        long slabsPerSegment = maxBytes / segments / slabSize;
+        if (slabsPerSegment < 1) {
+            throw new IllegalArgumentException("max size " + maxBytes + " is too small for "
+                    + segments + " segments of " + slabSize + " byte slabs");
+        }
+        this.slabSize = slabSize;
+        this.eviction = eviction;
+
+        List<Integer> sizes = new ArrayList<>();
+        for (int size = MIN_CHUNK; size < slabSize; size = Math.max(size + 8, (int) (size * GROWTH) & ~7)) {
+            sizes.add(size);
+        }
+        sizes.add(slabSize);
+        this.chunkSizes = sizes.stream().mapToInt(Integer::intValue).toArray();
+
+        this.segments = new Segment[segments];
+        for (int i = 0; i < segments; i++) {
+            this.segments[i] = new Segment((int) slabsPerSegment);
+        }
+    }
+
+    /**
+     * @return 저장 여부 (너무 크거나 공간을 만들 수 없으면 false)
+     */
+    public boolean put(Object key, byte[] value) {
+        return segment(key).put(key, value);
+    }
+
+    /**
+     * @return 저장된 바이트 복사본, 없으면 null
+     */
+    public byte[] get(Object key) {
+        return segment(key).get(key);
+    }
+
+    public void remove(Object key) {
+        segment(key).remove(key);
+    }
+
+    public void removeIf(Predicate<Object> filter) {
+        for (Segment segment : segments) {
+            segment.removeIf(filter);
+        }
+    }
+
+    /**
+     * 조건에 맞는 키 목록 (세그먼트별로 잠그고 복사하므로 호출 도중의 변경은 반영되지 않을 수 있음)
+     */
+    public List<Object> keys(Predicate<Object> filter) {
+        List<Object> keys = new ArrayList<>();
+        for (Segment segment : segments) {
+            segment.collect(filter, keys);
+        }
+        return keys;
+    }
+
+    public Stats stats() {
+        Stats total = new Stats();
+        for (Segment segment : segments) {
+            segment.addTo(total);
+        }
+        return total;
+    }
+
+    private Segment segment(Object key) {
+        int hash = key.hashCode();
+        hash ^= hash >>> 16;
+        return segments[Math.floorMod(hash, segments.length)];
+    }
+
+    private int chunkClass(int length) {
+        int low = 0;
+        int high = chunkSizes.length - 1;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (chunkSizes[mid] >= length) {
+                high = mid;
+            } else {
+                low = mid + 1;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * 저장소 사용량/적중 통계 (모든 segment 합계)
+     */
+    public static class Stats {
+        public long entries;
+        public long usedBytes;
+        public long allocatedBytes;
+        public long hits;
+        public long misses;
+        public long evictions;
+        public long rejected;
+        public long rebalances;
+    }
+
+    private static final class Entry {
+        final int chunkClass;
+        final int slab;
+        final int offset;
+        final int length;
+        int hits;
+
+        Entry(int chunkClass, int slab, int offset, int length) {
+            this.chunkClass = chunkClass;
+            this.slab = slab;
+            this.offset = offset;
+            this.length = length;
+        }
+    }
+
+    private final class Segment {
+
+        private final ReentrantLock lock = new ReentrantLock();
+        private final int maxSlabs;
+        private final List<ByteBuffer> slabs = new ArrayList<>();
+        // slab 번호 → 등급
+        private final List<Integer> owners = new ArrayList<>();
+        private final Map<Object, Entry> index = new HashMap<>();
+        // 등급별 사용 순서 (accessOrder=true → 앞쪽이 가장 오래 사용하지 않은 항목)
+        private final List<LinkedHashMap<Object, Entry>> recency = new ArrayList<>();
+        // 등급별 빈 chunk (slab 번호 << 32 | offset)
+        private final List<ArrayDeque<Long>> free = new ArrayList<>();
+
+        private long usedBytes;
+        private long hits;
+        private long misses;
+        private long evictions;
+        private long rejected;
+        private long rebalances;
+        // 등급별 요청 수 (조회 적중 + 저장, 재배치마다 절반) / 마지막 재배치 이후 제거 수
+        private final long[] requests = new long[chunkSizes.length];
+        private final long[] pressure = new long[chunkSizes.length];
+
+        Segment(int maxSlabs) {
+            this.maxSlabs = maxSlabs;
+            for (int i = 0; i < chunkSizes.length; i++) {
+                recency.add(new LinkedHashMap<>(16, 0.75f, true));
+                free.add(new ArrayDeque<>());
+            }
+        }
+
+        boolean put(Object key, byte[] value) {
+            lock.lock();
+            try {
+                delete(key);
+                if (value.length > slabSize) {
+                    rejected++;
+                    return false;
+                }
+                int chunkClass = chunkClass(value.length);
+                requests[chunkClass]++;
+                Long chunk = allocate(chunkClass);
+                if (chunk == null) {
+                    rejected++;
+                    return false;
+                }
+                int slab = (int) (chunk >>> 32);
+                int offset = (int) (long) chunk;
+                slabs.get(slab).put(offset, value);
+
+                Entry entry = new Entry(chunkClass, slab, offset, value.length);
+                index.put(key, entry);
+                recency.get(chunkClass).put(key, entry);
+                usedBytes += value.length;
+                return true;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        byte[] get(Object key) {
+            lock.lock();
+            try {
+                Entry entry = index.get(key);
+                if (entry == null) {
+                    misses++;
+                    return null;
+                }
+                recency.get(entry.chunkClass).get(key);
+                requests[entry.chunkClass]++;
+                entry.hits++;
+                hits++;
+                byte[] value = new byte[entry.length];
+                slabs.get(entry.slab).get(entry.offset, value);
+                return value;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void remove(Object key) {
+            lock.lock();
+            try {
+                delete(key);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void removeIf(Predicate<Object> filter) {
+            lock.lock();
+            try {
+                List<Object> keys = new ArrayList<>();
+                collect(filter, keys);
+                keys.forEach(this::delete);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void collect(Predicate<Object> filter, List<Object> keys) {
+            lock.lock();
+            try {
+                for (Object key : index.keySet()) {
+                    if (filter.test(key)) {
+                        keys.add(key);
+                    }
+                }
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void addTo(Stats total) {
+            lock.lock();
+            try {
+                total.entries += index.size();
+                total.usedBytes += usedBytes;
+                total.allocatedBytes += (long) slabs.size() * slabSize;
+                total.hits += hits;
+                total.misses += misses;
+                total.evictions += evictions;
+                total.rejected += rejected;
+                total.rebalances += rebalances;
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private Long allocate(int chunkClass) {
+            Long chunk = free.get(chunkClass).poll();
+            if (chunk != null) {
+                return chunk;
+            }
+            if (slabs.size() < maxSlabs) {
+                int slab = slabs.size();
+                slabs.add(ByteBuffer.allocateDirect(slabSize));
+                owners.add(chunkClass);
+                carve(slab, chunkClass);
+                return free.get(chunkClass).poll();
+            }
+            Object victim = victim(recency.get(chunkClass));
+            if (victim == null || pressure[chunkClass] >= slabSize / chunkSizes[chunkClass]) {
+                int donor = coldest(chunkClass, victim == null);
+                if (donor >= 0) {
+                    move(donor, chunkClass);
+                    return free.get(chunkClass).poll();
+                }
+            }
+            if (victim == null) {
+                return null;
+            }
+            delete(victim);
+            evictions++;
+            pressure[chunkClass]++;
+            return free.get(chunkClass).poll();
+        }
+
+        private void carve(int slab, int chunkClass) {
+            int chunkSize = chunkSizes[chunkClass];
+            for (int offset = 0; offset + chunkSize <= slabSize; offset += chunkSize) {
+                free.get(chunkClass).add(((long) slab << 32) | offset);
+            }
+        }
+
+        /**
+         * slab 을 내줄 등급 - slab 을 가진 다른 등급 중 요청이 가장 적은 등급 (없으면 -1)
+         *
+         * @param starved 요청한 등급에 제거할 항목이 없음 (요청 수와 관계없이 옮김)
+         */
+        private int coldest(int chunkClass, boolean starved) {
+            int[] owned = new int[chunkSizes.length];
+            owners.forEach(owner -> owned[owner]++);
+            int donor = -1;
+            for (int c = 0; c < chunkSizes.length; c++) {
+                if (c == chunkClass || owned[c] == 0 || (!starved && requests[c] >= requests[chunkClass])) {
+                    continue;
+                }
+                if (donor < 0 || requests[c] < requests[donor]) {
+                    donor = c;
+                }
+            }
+            return donor;
+        }
+
+        // donor 의 slab 중 살아 있는 항목이 가장 적은 slab 을 비워 chunkClass 로 다시 나눔
+        private void move(int donor, int chunkClass) {
+            int[] live = new int[slabs.size()];
+            recency.get(donor).values().forEach(entry -> live[entry.slab]++);
+            int slab = -1;
+            for (int i = 0; i < owners.size(); i++) {
+                if (owners.get(i) == donor && (slab < 0 || live[i] < live[slab])) {
+                    slab = i;
+                }
+            }
+            int moved = slab;
+
+            List<Object> keys = new ArrayList<>();
+            recency.get(donor).forEach((key, entry) -> {
+                if (entry.slab == moved) {
+                    keys.add(key);
+                }
+            });
+            keys.forEach(this::delete);
+            evictions += keys.size();
+            free.get(donor).removeIf(chunk -> (int) (chunk >>> 32) == moved);
+
+            owners.set(moved, chunkClass);
+            carve(moved, chunkClass);
+            rebalances++;
+            pressure[chunkClass] = 0;
+            for (int c = 0; c < requests.length; c++) {
+                requests[c] >>= 1;
+            }
+        }
+
+        private Object victim(LinkedHashMap<Object, Entry> candidates) {
+            Object victim = null;
+            int fewest = Integer.MAX_VALUE;
+            Iterator<Map.Entry<Object, Entry>> iterator = candidates.entrySet().iterator();
+            for (int i = 0; iterator.hasNext() && i < SAMPLE; i++) {
+                Map.Entry<Object, Entry> candidate = iterator.next();
+                if (eviction == Eviction.LRU) {
+                    return candidate.getKey();
+                }
+                if (candidate.getValue().hits < fewest) {
+                    fewest = candidate.getValue().hits;
+                    victim = candidate.getKey();
+                }
+            }
+            return victim;
+        }
+
+        private void delete(Object key) {
+            Entry entry = index.remove(key);
+            if (entry == null) {
+                return;
+            }
+            recency.get(entry.chunkClass).remove(key);
+            free.get(entry.chunkClass).add(((long) entry.slab << 32) | entry.offset);
+            usedBytes -= entry.length;
+        }
+    }
+}
@@ -0,0 +1,84 @@
+package com.cube.simple.cache;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis 캐시(L2) 캐시별 TTL / 만료 분산 / 최대 항목 수 설정 - cache.redis.*
+ *
+ * - 만료 분산(jitter)은 저장할 때마다 무작위로 고르지 않고 키 해시로 정한다.
+ *   키마다 ttl*(1±jitter) 안의 서로 다른 값이지만 같은 키는 다시 저장해도 항상 같은 TTL 이다.
+ *
+ * 예)
+ *   cache.redis.defaults.ttl=60s
+ *   cache.redis.defaults.jitter=0.1
+ *   cache.redis.caches.item.ttl=10m
+ *   cache.redis.caches.items.max-entries=5000
+ */
+@Data
+@ConfigurationProperties(prefix = "cache.redis")
+public class RedisCacheProperties {
+
+    // 캐시별 설정이 없을 때 사용하는 기본값
+    private Spec defaults = new Spec(Duration.ofMinutes(1), 0.0, null);
+
+    // 캐시 이름 → 개별 설정 (지정하지 않은 항목은 defaults 값 사용)
+    private Map<String, Spec> caches = new HashMap<>();
+
+    /**
+     * 캐시 이름에 해당하는 설정 (개별 설정의 빈 항목은 defaults 로 채움)
+     */
+    public Spec spec(String name) {
+        Spec spec = caches.get(name);
+        return new Spec(
+                spec != null && spec.getTtl() != null ? spec.getTtl() : defaults.getTtl(),
+                spec != null && spec.getJitter() != null ? spec.getJitter() : defaults.getJitter(),
+                spec != null && spec.getMaxEntries() != null ? spec.getMaxEntries() : defaults.getMaxEntries());
+    }
+
+    @Data
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Spec {
+
+        // 기본 TTL
+        private Duration ttl;
+
+        // TTL 을 키마다 ±비율 안에서 다르게 늘리고 줄여 같은 시점에 만들어진 항목이 한꺼번에 만료되지 않도록 함 (0.1 = ±10%)
+        private Double jitter;
+
+        // 캐시 최대 항목 수 (초과 시 가장 먼저 저장된 항목부터 삭제), null 이면 제한 없음
+        private Long maxEntries;
+
+        /**
+         * 키의 TTL (jitter 적용)
+         *
+         * jitter 는 키 해시로 정하므로 같은 키는 항상 같은 TTL - Redis 저장과 CacheLoader 의 논리 만료(CacheEntry)가
+         * 각각 TTL 을 계산해도 값이 일치함
+         */
+        public Duration ttlFor(Object key) {
+            if (jitter == null || jitter <= 0) {
+                return ttl;
+            }
+            double unit = Hashing.unit(key);
+            return Duration.ofMillis(Math.max(1L, Math.round(ttl.toMillis() * (1.0 + jitter * unit))));
+        }
+
+        /**
+         * jitter 를 적용했을 때 가능한 최대 TTL
+         */
+        public Duration maxTtl() {
+            if (jitter == null || jitter <= 0) {
+                return ttl;
+            }
+            return Duration.ofMillis(Math.round(ttl.toMillis() * (1.0 + jitter)));
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package com.cube.simple.cache;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.cube.simple.dto.CacheHealth;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 장애/지연 감지 회로 차단기
+ *
+ * - 연속 실패(예외 또는 slow-call-ms 보다 느린 호출)가 failure-threshold 번이면 열림(OPEN)
+ *   → 열린 동안 캐시/락/세대 카운터는 Redis 를 호출하지 않고 프로세스 로컬로 동작 (요청이 Jedis 풀에서 막히지 않음)
+ * - 열린 동안 probe-interval-ms 마다 PING 으로 확인하고 성공하면 닫힘(CLOSED) + 복구 작업 실행
+ *   (장애 중 Redis 에 반영하지 못한 무효화를 다시 적용 - ResilientCacheManager, CacheGenerations)
+ * - 개별 호출 시간 제한은 spring.data.redis.timeout / connect-timeout / jedis.pool.max-wait 로 지정
+ * - spring.cache.type=redis 가 아니면 항상 닫힘
+ */
+@Slf4j
+@Component
+public class RedisCircuitBreaker {
+
+    @Autowired
+    private ObjectProvider<RedisConnectionFactory> connectionFactory;
+
+    @Value("${spring.cache.type:simple}")
+    private String cacheType;
+
+    @Value("${cache.resilience.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.resilience.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${cache.resilience.slow-call-ms:100}")
+    private long slowCallMillis;
+
+    private final AtomicInteger consecutiveFailures = new AtomicInteger();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong slowCalls = new AtomicLong();
+    private final AtomicLong opened = new AtomicLong();
+    private final AtomicLong degradedMillis = new AtomicLong();
+    private final List<Runnable> recoveryActions = new CopyOnWriteArrayList<>();
+
+    private volatile boolean open;
+    private volatile long openedAt;
+    private volatile LocalDateTime openedSince;
+
+    /**
+     * Redis 를 호출해도 되는지 (닫힘 상태)
+     */
+    public boolean isAvailable() {
+        return !open;
+    }
+
+    /**
+     * Redis 호출 - 소요 시간과 성공/실패를 기록, 예외는 그대로 던짐
+     */
+    public <T> T call(Supplier<T> operation) {
+        long started = System.nanoTime();
+        try {
+            T result = operation.get();
+            long elapsedMillis = (System.nanoTime() - started) / 1_000_000L;
+            if (elapsedMillis > slowCallMillis) {
+                slowCalls.incrementAndGet();
+                failure();
+            } else {
+                consecutiveFailures.set(0);
+            }
+            return result;
+        } catch (RuntimeException ex) {
+            failures.incrementAndGet();
+            failure();
+            throw ex;
+        }
+    }
+
+    public void run(Runnable operation) {
+        call(() -> {
+            operation.run();
+            return null;
+        });
+    }
+
+    /**
+     * 닫힘으로 돌아올 때 실행할 작업 등록
+     */
+    public void onRecovery(Runnable action) {
+        recoveryActions.add(action);
+    }
+
+    @Scheduled(fixedDelayString = "${cache.resilience.probe-interval-ms:1000}")
+    public void probe() {
+        if (!open) {
+            return;
+        }
+        try (RedisConnection connection = connectionFactory.getObject().getConnection()) {
+            connection.ping();
+        } catch (RuntimeException ex) {
+            log.debug("Redis probe failed : {}", ex.getMessage());
+            return;
+        }
+        close();
+    }
+
+    public CacheHealth health() {
+        long now = System.currentTimeMillis();
+        boolean degraded = open;
+        return CacheHealth.builder()
+                .state(degraded ? "OPEN" : "CLOSED")
+                .openedAt(degraded ? openedSince : null)
+                .opened(opened.get())
+                .degradedMillis(degradedMillis.get() + (degraded ? now - openedAt : 0L))
+                .failures(failures.get())
+                .slowCalls(slowCalls.get())
+                .build();
+    }
+
+    private void failure() {
+        if (!enabled || !"redis".equalsIgnoreCase(cacheType)) {
+            return;
+        }
+        if (consecutiveFailures.incrementAndGet() >= failureThreshold) {
+            trip();
+        }
+    }
+
+    private synchronized void trip() {
+        if (open) {
+            return;
+        }
+        openedAt = System.currentTimeMillis();
+        openedSince = LocalDateTime.now();
+        open = true;
+        opened.incrementAndGet();
+        log.warn("Redis circuit opened after {} consecutive failures, using local fallback", consecutiveFailures.get());
+    }
+
+    private synchronized void close() {
+        if (!open) {
+            return;
+        }
+        // 복구 작업이 Redis 를 다시 호출하므로 먼저 닫음
+        open = false;
+        consecutiveFailures.set(0);
+        long degraded = System.currentTimeMillis() - openedAt;
+        degradedMillis.addAndGet(degraded);
+        for (Runnable action : recoveryActions) {
+            try {
+                action.run();
+            } catch (RuntimeException ex) {
+                log.warn("Redis recovery action failed", ex);
+            }
+        }
+        log.info("Redis circuit closed after {}ms degraded", degraded);
+    }
+}
@@ -0,0 +1,107 @@
+package com.cube.simple.cache;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 노드 간 짧은 배타 락 (SET NX PX + 토큰 비교 삭제)
+ *
+ * - spring.cache.type=redis 가 아니면(단일 노드 로컬) 항상 획득한 것으로 본다.
+ * - Redis 장애 중(RedisCircuitBreaker 열림 또는 호출 실패)에도 획득한 것으로 보고 진행 (노드 간 배타성보다 가용성 우선)
+ * - 락은 ttl 이 지나면 자동 해제되므로 작업 시간보다 길게 잡아야 한다.
+ */
+@Slf4j
+@Component
+public class RedisLocks {
+
+    private static final String PREFIX = "lock:";
+    private static final String LOCAL = "";
+    private static final RedisScript<Long> UNLOCK = new DefaultRedisScript<>(
+            "if redis.call('get', KEYS[1]) == ARGV[1] then return redis.call('del', KEYS[1]) else return 0 end",
+            Long.class);
+
+    @Autowired
+    private ObjectProvider<StringRedisTemplate> redisTemplate;
+
+    @Autowired
+    private RedisCircuitBreaker breaker;
+
+    @Value("${spring.cache.type:simple}")
+    private String cacheType;
+
+    /**
+     * @return 락 토큰, 다른 노드가 잡고 있으면 null
+     */
+    public String tryLock(String name, Duration ttl) {
+        if (!"redis".equalsIgnoreCase(cacheType) || !breaker.isAvailable()) {
+            return LOCAL;
+        }
+        String token = UUID.randomUUID().toString();
+        try {
+            Boolean acquired = breaker.call(() -> redisTemplate.getObject().opsForValue().setIfAbsent(PREFIX + name, token, ttl));
+            return Boolean.TRUE.equals(acquired) ? token : null;
+        } catch (RuntimeException ex) {
+            log.warn("Lock acquire degraded to local : name={}", name, ex);
+            return LOCAL;
+        }
+    }
+
+    /**
+     * Redis 장애로 다른 노드와 배타적이지 않은 토큰인지 (spring.cache.type=redis 가 아니면 항상 true)
+     */
+    public boolean isLocal(String token) {
+        return LOCAL.equals(token);
+    }
+
+    /**
+     * 락을 아직 잡고 있을 때만 실행되는 스크립트 (작업이 ttl 을 넘겨 다른 노드가 락을 잡았으면 0 반환 - fencing)
+     *
+     * @param body KEYS[1]/ARGV[1] 은 락 키/토큰이므로 KEYS[2]/ARGV[2] 부터 사용, 0 이 아닌 값을 반환해야 함
+     */
+    public static RedisScript<Long> fenced(String body) {
+        return new DefaultRedisScript<>("if redis.call('get', KEYS[1]) ~= ARGV[1] then return 0 end " + body, Long.class);
+    }
+
+    /**
+     * fenced 스크립트 실행 (keys/args 는 락 키/토큰 뒤에 붙음)
+     *
+     * @return 스크립트 결과, 락을 잃었거나 로컬 토큰이면 0
+     */
+    public long executeFenced(String name, String token, RedisScript<Long> script, List<String> keys, List<String> args) {
+        if (token == null || LOCAL.equals(token)) {
+            return 0;
+        }
+        List<String> fencedKeys = new ArrayList<>(keys.size() + 1);
+        fencedKeys.add(PREFIX + name);
+        fencedKeys.addAll(keys);
+        List<String> fencedArgs = new ArrayList<>(args.size() + 1);
+        fencedArgs.add(token);
+        fencedArgs.addAll(args);
+        Long result = redisTemplate.getObject().execute(script, fencedKeys, fencedArgs.toArray());
+        return result == null ? 0 : result;
+    }
+
+    public void unlock(String name, String token) {
+        if (token == null || LOCAL.equals(token)) {
+            return;
+        }
+        try {
+            redisTemplate.getObject().execute(UNLOCK, List.of(PREFIX + name), token);
+        } catch (RuntimeException ex) {
+            // ttl 후 자동 해제됨
+            log.warn("Lock release failed : name={}", name, ex);
+        }
+    }
+}
@@ -0,0 +1,207 @@
+package com.cube.simple.cache;
+
+import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+import org.springframework.cache.Cache;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 기반 캐시(RedisCache, TwoLevelCache, TrackingRedisCache)를 감싸 Redis 장애 시 로컬 캐시로 대체
+ *
+ * - RedisCircuitBreaker 가 닫혀 있으면 원래 캐시를 사용하고, 호출이 실패하면 로컬 캐시로 처리 (요청은 실패하지 않음)
+ *   조회 실패는 미스로 처리되어 DB 에서 읽는다.
+ * - 열려 있으면 Redis 를 호출하지 않고 로컬 캐시(fallback)만 사용
+ * - TwoLevelCache 의 L1 적중은 Redis 를 호출하지 않으므로 회로 차단기에 기록하지 않음
+ *   (L1 적중이 성공으로 집계되면 장애 중에도 연속 실패 수가 계속 0 으로 돌아가 회로가 열리지 않음)
+ * - Redis 에 반영하지 못한 삭제/전체 삭제는 기억해 두었다가 복구 시 다시 적용 (recover)
+ *   기억할 키가 max-dirty-keys 를 넘으면 복구 시 캐시 전체를 비움
+ */
+@Slf4j
+public class ResilientCache implements Cache {
+
+    @Getter
+    private final Cache delegate;
+    private final Cache fallback;
+    private final RedisCircuitBreaker breaker;
+    private final int maxDirtyKeys;
+
+    private final Set<Object> dirtyKeys = ConcurrentHashMap.newKeySet();
+    private volatile boolean dirtyAll;
+
+    public ResilientCache(Cache delegate, Cache fallback, RedisCircuitBreaker breaker, int maxDirtyKeys) {
+        this.delegate = delegate;
+        this.fallback = fallback;
+        this.breaker = breaker;
+        this.maxDirtyKeys = maxDirtyKeys;
+    }
+
+    @Override
+    public String getName() {
+        return delegate.getName();
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return delegate.getNativeCache();
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        if (!breaker.isAvailable()) {
+            return fallback.get(key);
+        }
+        if (delegate instanceof TwoLevelCache twoLevelCache) {
+            ValueWrapper local = twoLevelCache.getLocal(key);
+            if (local != null) {
+                return local;
+            }
+        }
+        try {
+            return breaker.call(() -> delegate.get(key));
+        } catch (RuntimeException ex) {
+            log.debug("Cache get degraded : cache={}, key={}", getName(), key, ex);
+            return fallback.get(key);
+        }
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        T value;
+        try {
+            value = valueLoader.call();
+        } catch (Exception ex) {
+            throw new ValueRetrievalException(key, valueLoader, ex);
+        }
+        put(key, value);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        if (breaker.isAvailable()) {
+            try {
+                breaker.run(() -> delegate.put(key, value));
+                return;
+            } catch (RuntimeException ex) {
+                log.debug("Cache put degraded : cache={}, key={}", getName(), key, ex);
+            }
+        }
+        if (value != null) {
+            fallback.put(key, value);
+        }
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = get(key);
+        if (existing != null) {
+            return existing;
+        }
+        put(key, value);
+        return null;
+    }
+
+    @Override
+    public void evict(Object key) {
+        fallback.evict(key);
+        if (breaker.isAvailable()) {
+            try {
+                breaker.run(() -> delegate.evict(key));
+                return;
+            } catch (RuntimeException ex) {
+                log.debug("Cache evict degraded : cache={}, key={}", getName(), key, ex);
+            }
+        }
+        markDirty(key);
+    }
+
+    @Override
+    public void clear() {
+        fallback.clear();
+        if (breaker.isAvailable()) {
+            try {
+                breaker.run(delegate::clear);
+                return;
+            } catch (RuntimeException ex) {
+                log.debug("Cache clear degraded : cache={}", getName(), ex);
+            }
+        }
+        dirtyAll = true;
+    }
+
+    /**
+     * 복구 시 - 장애 중 놓친 삭제를 Redis 에 적용하고 로컬 대체 캐시는 비움
+     * (장애 중 다른 노드의 변경을 알 수 없으므로 로컬 값은 버림)
+     */
+    void recover() {
+        fallback.clear();
+        if (dirtyAll) {
+            delegate.clear();
+            dirtyAll = false;
+            dirtyKeys.clear();
+            log.info("Cache cleared after Redis recovery : cache={}", getName());
+            return;
+        }
+        for (Object key : Set.copyOf(dirtyKeys)) {
+            delegate.evict(key);
+            dirtyKeys.remove(key);
+        }
+    }
+
+    boolean isAvailable() {
+        return breaker.isAvailable();
+    }
+
+    /**
+     * 원래 캐시에 대한 묶음 작업 (CacheMultiGet 용) - 실패는 회로 차단기에 기록하고 그대로 던짐
+     */
+    <T> T call(Supplier<T> operation) {
+        return breaker.call(operation);
+    }
+
+    ValueWrapper getLocal(Object key) {
+        return fallback.get(key);
+    }
+
+    void putLocal(Object key, Object value) {
+        if (value != null) {
+            fallback.put(key, value);
+        }
+    }
+
+    void evictLocal(Object key) {
+        fallback.evict(key);
+    }
+
+    /**
+     * Redis 에 반영하지 못한 삭제를 기억 (복구 시 recover 에서 적용)
+     */
+    void markDirty(Object key) {
+        if (dirtyKeys.size() < maxDirtyKeys) {
+            dirtyKeys.add(key);
+        } else {
+            dirtyAll = true;
+        }
+    }
+}
@@ -0,0 +1,96 @@
+package com.cube.simple.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Redis 기반 CacheManager 의 캐시를 ResilientCache 로 감싸서 제공 (cache.resilience.enabled=true)
+ *
+ * - 캐시마다 로컬 대체 캐시(Caffeine, 최대 fallback-max-size 개, fallback-ttl 보관)를 둔다.
+ * - Redis 가 복구되면(RedisCircuitBreaker 닫힘) 모든 캐시의 놓친 삭제를 다시 적용
+ */
+@Slf4j
+public class ResilientCacheManager implements CacheManager, DisposableBean {
+
+    @Getter
+    private final CacheManager delegate;
+    private final RedisCircuitBreaker breaker;
+    private final long fallbackMaxSize;
+    private final Duration fallbackTtl;
+    private final int maxDirtyKeys;
+
+    private final Map<String, ResilientCache> caches = new ConcurrentHashMap<>();
+
+    public ResilientCacheManager(CacheManager delegate, RedisCircuitBreaker breaker,
+                                 long fallbackMaxSize, Duration fallbackTtl, int maxDirtyKeys) {
+        this.delegate = delegate;
+        this.breaker = breaker;
+        this.fallbackMaxSize = fallbackMaxSize;
+        this.fallbackTtl = fallbackTtl;
+        this.maxDirtyKeys = maxDirtyKeys;
+        breaker.onRecovery(this::recover);
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        ResilientCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache target = delegate.getCache(name);
+        if (target == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> new ResilientCache(target, fallback(n), breaker, maxDirtyKeys));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return delegate.getCacheNames();
+    }
+
+    private Cache fallback(String name) {
+        return new CaffeineCache(name, Caffeine.newBuilder()
+                .maximumSize(fallbackMaxSize)
+                .expireAfterWrite(fallbackTtl)
+                .build(), false);
+    }
+
+    /**
+     * 감싸기 전 CacheManager (TwoLevelCacheManager 등 구현별 기능 사용 시)
+     */
+    public static CacheManager unwrap(CacheManager cacheManager) {
+        return cacheManager instanceof ResilientCacheManager resilientCacheManager
+                ? resilientCacheManager.getDelegate()
+                : cacheManager;
+    }
+
+    @Override
+    public void destroy() throws Exception {
+        if (delegate instanceof DisposableBean disposable) {
+            disposable.destroy();
+        }
+    }
+
+    private void recover() {
+        caches.values().forEach(cache -> {
+            try {
+                cache.recover();
+            } catch (RuntimeException ex) {
+                log.warn("Cache recovery failed : cache={}", cache.getName(), ex);
+            }
+        });
+    }
+}
@@ -0,0 +1,129 @@
+package com.cube.simple.cache;
+
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.cube.simple.dto.ResponseCacheStats;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+
+import jakarta.annotation.PostConstruct;
+
+/**
+ * 공개 GET 응답 캐시 저장소 (ResponseCacheFilter 가 사용, 노드 로컬)
+ *
+ * - 값: 직렬화가 끝난 응답 본문 바이트 (gzip 요청이면 압축된 본문) + Content-Type/ETag/Cache-Control
+ * - 항목마다 저장 시점의 테이블 버전(EntityVersion)을 함께 보관하고, 조회 시 현재 버전과 다르면 버림
+ *   (다른 노드의 변경은 entity.version.ttl-ms 안에 반영)
+ * - 같은 노드의 쓰기는 EntityVersionService.bump() 에서 해당 테이블 항목을 즉시 제거
+ * - 본문 바이트 합이 max-size 를 넘으면 Caffeine(W-TinyLFU) 정책으로 제거, 적중/미스/제거 수는 Caffeine 통계 사용
+ */
+@Component
+public class ResponseCache {
+
+    /**
+     * 캐시된 응답
+     *
+     * @param entity     테이블 이름 (EntityVersionService.DEMO 등)
+     * @param version    저장 시점 테이블 버전
+     * @param compressed body 가 gzip 인지
+     */
+    public record Entry(String entity, long version, String contentType, String etag, String cacheControl,
+            byte[] body, boolean compressed) {
+
+        long bytes() {
+            return body.length;
+        }
+    }
+
+    @Value("${cache.response.max-size:32MB}")
+    private DataSize maxSize;
+
+    @Value("${cache.response.max-entry-size:1MB}")
+    private DataSize maxEntrySize;
+
+    // 본문 바이트 수를 가중치로 max-size 까지 보관 (Caffeine W-TinyLFU)
+    private Cache<String, Entry> entries;
+
+    // Caffeine 통계에 없는 항목만 직접 집계
+    private final LongAdder stale = new LongAdder();
+    private final LongAdder invalidations = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+
+    @PostConstruct
+    public void init() {
+        entries = Caffeine.newBuilder()
+                .maximumWeight(maxSize.toBytes())
+                .weigher((String key, Entry entry) -> entry.body().length)
+                .recordStats()
+                .build();
+    }
+
+    /**
+     * @param version 현재 테이블 버전 (다르면 제거 후 미스)
+     */
+    public Entry get(String key, long version) {
+        Entry entry = entries.getIfPresent(key);
+        if (entry != null && entry.version() != version) {
+            entries.asMap().remove(key, entry);
+            stale.increment();
+            return null;
+        }
+        return entry;
+    }
+
+    /**
+     * @return 저장 여부 (max-entry-size 를 넘으면 저장하지 않음)
+     */
+    public boolean put(String key, Entry entry) {
+        if (entry.bytes() > maxEntrySize.toBytes()) {
+            rejected.increment();
+            return false;
+        }
+        entries.put(key, entry);
+        return true;
+    }
+
+    /**
+     * 테이블의 응답 전체 제거 (쓰기 서비스 → EntityVersionService.bump)
+     */
+    public void evict(String entity) {
+        entries.asMap().forEach((key, entry) -> {
+            if (entry.entity().equals(entity) && entries.asMap().remove(key, entry)) {
+                invalidations.increment();
+            }
+        });
+    }
+
+    public void clear() {
+        invalidations.add(entries.estimatedSize());
+        entries.invalidateAll();
+    }
+
+    /**
+     * Caffeine 은 버전이 달라 버린 항목도 적중으로 세므로 stale 만큼 적중에서 빼고 미스에 더함
+     */
+    public ResponseCacheStats stats() {
+        entries.cleanUp();
+        CacheStats cacheStats = entries.stats();
+        long staleCount = stale.sum();
+        long hitCount = cacheStats.hitCount() - staleCount;
+        long missCount = cacheStats.missCount() + staleCount;
+        long total = hitCount + missCount;
+        return ResponseCacheStats.builder()
+                .entries(entries.estimatedSize())
+                .bytes(entries.policy().eviction().map(eviction -> eviction.weightedSize().orElse(0L)).orElse(0L))
+                .hits(hitCount)
+                .misses(missCount)
+                .hitRatio(total == 0 ? 0.0 : (double) hitCount / total)
+                .stale(staleCount)
+                .evictions(cacheStats.evictionCount())
+                .invalidations(invalidations.sum())
+                .rejected(rejected.sum())
+                .build();
+    }
+}
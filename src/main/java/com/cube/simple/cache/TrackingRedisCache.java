@@ -0,0 +1,52 @@
+package com.cube.simple.cache;
+
+import java.util.Collections;
+import java.util.List;
+
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import redis.clients.jedis.UnifiedJedis;
+
+/**
+ * 조회를 Redis 클라이언트 측 캐시(RESP3 CLIENT TRACKING)로 처리하는 RedisCache
+ *
+ * - GET/MGET 은 클라이언트 측 캐시를 켠 Jedis 로 보내므로, 한 번 읽은 키는 다음부터 프로세스 메모리에서 바로 반환된다.
+ *   Redis 가 해당 키 변경(다른 노드의 SET/DEL, TTL 만료 포함)을 invalidate 메시지로 알려주면 Jedis 가 로컬 항목을 지운다.
+ * - 저장/삭제는 기존 RedisCacheWriter(BudgetedRedisCacheWriter) 그대로 사용
+ *   → 키/값 직렬화, TTL, 최대 항목 수 설정이 RedisCache 와 같고 같은 Redis 키를 공유한다.
+ * - 조회 통계는 writer 를 거치지 않으므로 BudgetedRedisCacheWriter 에 직접 기록한다.
+ */
+public class TrackingRedisCache extends RedisCache {
+
+    private final UnifiedJedis jedis;
+
+    protected TrackingRedisCache(String name, RedisCacheWriter cacheWriter, RedisCacheConfiguration cacheConfiguration,
+                                 UnifiedJedis jedis) {
+        super(name, cacheWriter, cacheConfiguration);
+        this.jedis = jedis;
+    }
+
+    @Override
+    protected Object lookup(Object key) {
+        byte[] value = jedis.get(serializeCacheKey(createCacheKey(key)));
+        recordGets(Collections.singletonList(value), 1);
+        return value != null ? deserializeCacheValue(value) : null;
+    }
+
+    /**
+     * 직렬화된 Redis 키 MGET (CacheMultiGet 에서 사용)
+     */
+    public List<byte[]> multiGet(byte[][] keys) {
+        List<byte[]> values = jedis.mget(keys);
+        recordGets(values, keys.length);
+        return values;
+    }
+
+    private void recordGets(List<byte[]> values, int count) {
+        if (getCacheWriter() instanceof BudgetedRedisCacheWriter writer) {
+            writer.recordGets(getName(), values, count);
+        }
+    }
+}
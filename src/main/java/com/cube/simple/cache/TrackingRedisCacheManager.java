@@ -0,0 +1,65 @@
+package com.cube.simple.cache;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+
+import com.cube.simple.dto.CacheStats;
+
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.csc.Cache;
+
+/**
+ * 모든 캐시를 TrackingRedisCache 로 만드는 RedisCacheManager (cache.near.mode=tracking)
+ *
+ * - 로컬 사본 무효화는 Redis 서버가 invalidate 메시지로 처리하므로 TwoLevelCacheManager 의 pub/sub 방송이 필요 없다.
+ * - 클라이언트 측 캐시는 Jedis 커넥션 풀 전체가 하나를 공유하며 크기는 cache.near.tracking-max-size (항목 수)
+ */
+@Slf4j
+public class TrackingRedisCacheManager extends RedisCacheManager implements DisposableBean {
+
+    private final UnifiedJedis jedis;
+
+    public TrackingRedisCacheManager(RedisCacheWriter cacheWriter, RedisCacheConfiguration defaultCacheConfiguration,
+                                     Map<String, RedisCacheConfiguration> initialCacheConfigurations, UnifiedJedis jedis) {
+        super(cacheWriter, defaultCacheConfiguration, true, initialCacheConfigurations);
+        this.jedis = jedis;
+    }
+
+    @Override
+    protected RedisCache createRedisCache(String name, RedisCacheConfiguration cacheConfiguration) {
+        return new TrackingRedisCache(name, getCacheWriter(), cacheConfiguration, jedis);
+    }
+
+    /**
+     * 클라이언트 측 캐시 통계 (캐시 이름 구분 없이 전체 1건, L2 = 로컬 미스로 Redis 에서 읽은 건)
+     */
+    public List<CacheStats> stats() {
+        Cache cache = jedis.getCache();
+        if (cache == null) {
+            return List.of();
+        }
+        var stats = cache.getStats();
+        long requests = stats.getHits() + stats.getMisses();
+        return List.of(CacheStats.builder()
+                .name("*")
+                .l1Size(cache.getSize())
+                .l1Hits(stats.getHits())
+                .l1Misses(stats.getMisses())
+                .l1HitRatio(requests == 0 ? 0 : (double) stats.getHits() / requests)
+                .l1Evictions(stats.getEvicts())
+                .build());
+    }
+
+    @Override
+    public void destroy() {
+        jedis.close();
+        log.info("Client tracking cache closed");
+    }
+}
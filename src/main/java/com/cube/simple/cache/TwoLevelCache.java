@@ -0,0 +1,250 @@
+package com.cube.simple.cache;
+
+import java.util.Collection;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.support.SimpleValueWrapper;
+
+import com.cube.simple.dto.CacheStats;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * L1(프로세스 메모리, Caffeine) + L2(Redis) 2단 캐시
+ *
+ * - 조회: L1 → L2 → 로더(DB) 순서로 찾고, 하위 계층에서 찾은 값은 상위 계층에 채운다.
+ * - L1 은 Caffeine(W-TinyLFU 빈도 기반 입장 정책)으로 용량을 제한하며, 목록 값은 원소 수만큼 가중치를 준다.
+ * - evict/clear 는 L2 와 자신의 L1 을 지운 뒤 pub/sub 으로 다른 노드의 L1 무효화를 요청한다.
+ *   put 은 미스 적재 경로(DB 에서 막 읽은 값)이므로 방송하지 않는다.
+ *   (값 변경은 쓰기 경로에서 커밋 후 evict 로 처리, 저장된 행으로 갱신할 때도 evict 후 put)
+ * - L2 를 읽는 동안 L1 무효화(다른 노드 방송 포함)가 있었으면 읽은 값을 L1 에 남기지 않는다.
+ *   (무효화 전 L2 에서 읽은 이전 값이 무효화 후 L1 에 채워져 TTL 까지 남는 것 방지, 무효화 횟수를 L2 조회 전후로 비교)
+ * - L1 은 값을 복사하지 않고 객체 참조를 보관하므로, 캐시에서 꺼낸 객체를 수정하면 안 된다.
+ */
+@Slf4j
+public class TwoLevelCache implements Cache {
+
+    private final String name;
+    private final com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> level1;
+    private final Cache level2;
+    private final Function<Object, String> keyConverter;
+    // (캐시 이름, L1 키) → 다른 노드에 무효화 방송. 키가 null 이면 전체 무효화
+    private final BiConsumer<String, String> publisher;
+
+    // L1 무효화 횟수 (키 구분 없음, 늘어나면 그 사이 L2 에서 읽은 값은 L1 에 남기지 않음)
+    private final AtomicLong invalidations = new AtomicLong();
+
+    private final LongAdder level2Hits = new LongAdder();
+    private final LongAdder level2Misses = new LongAdder();
+
+    public TwoLevelCache(String name,
+                         com.github.benmanes.caffeine.cache.Cache<String, ValueWrapper> level1,
+                         Cache level2,
+                         Function<Object, String> keyConverter,
+                         BiConsumer<String, String> publisher) {
+        this.name = name;
+        this.level1 = level1;
+        this.level2 = level2;
+        this.keyConverter = keyConverter;
+        this.publisher = publisher;
+    }
+
+    /**
+     * L1 가중치 - 목록은 원소 수, 그 외는 1 (CacheLoader 가 저장한 CacheEntry 는 감싼 값 기준)
+     */
+    public static int weigh(String key, ValueWrapper wrapper) {
+        Object value = wrapper.get();
+        if (value instanceof CacheEntry entry) {
+            value = entry.getValue();
+        }
+        if (value instanceof Collection<?> collection) {
+            return Math.max(1, collection.size());
+        }
+        return 1;
+    }
+
+    @Override
+    public String getName() {
+        return name;
+    }
+
+    @Override
+    public Object getNativeCache() {
+        return level1;
+    }
+
+    public Cache getLevel2() {
+        return level2;
+    }
+
+    @Override
+    public ValueWrapper get(Object key) {
+        String localKey = keyConverter.apply(key);
+        ValueWrapper local = level1.getIfPresent(localKey);
+        if (local != null) {
+            return local;
+        }
+
+        long stamp = stamp();
+        ValueWrapper remote = level2.get(key);
+        recordLevel2(remote != null ? 1 : 0, remote != null ? 0 : 1);
+        if (remote != null) {
+            fill(localKey, remote.get(), stamp);
+        }
+        return remote;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Class<T> type) {
+        ValueWrapper wrapper = get(key);
+        Object value = wrapper != null ? wrapper.get() : null;
+        if (value != null && type != null && !type.isInstance(value)) {
+            throw new IllegalStateException("Cached value is not of required type [" + type.getName() + "]: " + value);
+        }
+        return (T) value;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public <T> T get(Object key, Callable<T> valueLoader) {
+        ValueWrapper wrapper = get(key);
+        if (wrapper != null) {
+            return (T) wrapper.get();
+        }
+        long stamp = stamp();
+        T value = level2.get(key, valueLoader);
+        fill(keyConverter.apply(key), value, stamp);
+        return value;
+    }
+
+    @Override
+    public void put(Object key, Object value) {
+        long stamp = stamp();
+        level2.put(key, value);
+        fill(keyConverter.apply(key), value, stamp);
+    }
+
+    @Override
+    public ValueWrapper putIfAbsent(Object key, Object value) {
+        ValueWrapper existing = level2.putIfAbsent(key, value);
+        invalidateLevel1(keyConverter.apply(key));
+        return existing;
+    }
+
+    @Override
+    public void evict(Object key) {
+        String localKey = keyConverter.apply(key);
+        level2.evict(key);
+        invalidateLevel1(localKey);
+        publisher.accept(name, localKey);
+    }
+
+    @Override
+    public boolean evictIfPresent(Object key) {
+        String localKey = keyConverter.apply(key);
+        boolean present = level2.evictIfPresent(key);
+        invalidateLevel1(localKey);
+        publisher.accept(name, localKey);
+        return present;
+    }
+
+    @Override
+    public void clear() {
+        level2.clear();
+        invalidateLevel1(null);
+        publisher.accept(name, null);
+    }
+
+    @Override
+    public boolean invalidate() {
+        boolean present = level2.invalidate();
+        invalidateLevel1(null);
+        publisher.accept(name, null);
+        return present;
+    }
+
+    /**
+     * L1 만 조회 (다건 조회에서 L2 를 MGET 으로 묶기 위해 사용)
+     */
+    public ValueWrapper getLocal(Object key) {
+        return level1.getIfPresent(keyConverter.apply(key));
+    }
+
+    /**
+     * 현재 L1 무효화 횟수 - L2 를 읽거나 쓰기 전에 받아 putLocal 에 전달
+     */
+    public long stamp() {
+        return invalidations.get();
+    }
+
+    /**
+     * L1 에만 저장 (L2 에서 읽었거나 L2 에 이미 저장한 값), stamp 이후 무효화가 있었으면 저장하지 않음
+     */
+    public void putLocal(Object key, Object value, long stamp) {
+        fill(keyConverter.apply(key), value, stamp);
+    }
+
+    /**
+     * L1 에서 지우고 다른 노드에 무효화 방송 (L2 는 호출한 쪽이 이미 묶음으로 지움)
+     */
+    public void invalidateLocal(Object key) {
+        String localKey = keyConverter.apply(key);
+        invalidateLevel1(localKey);
+        publisher.accept(name, localKey);
+    }
+
+    public void recordLevel2(long hits, long misses) {
+        level2Hits.add(hits);
+        level2Misses.add(misses);
+    }
+
+    /**
+     * 다른 노드의 무효화 메시지 처리 - L1 만 지움 (L2 는 보낸 노드가 이미 지움)
+     *
+     * @param localKey L1 키, null 이면 전체
+     */
+    void evictLocal(String localKey) {
+        invalidateLevel1(localKey);
+        log.debug("L1 invalidated by peer : cache={}, key={}", name, localKey != null ? localKey : "*");
+    }
+
+    // 횟수를 먼저 올려야 무효화 직후 채우는 쪽이 변화를 봄 (채운 뒤 확인하므로 무효화 전에 채운 값은 무효화가 지움)
+    private void invalidateLevel1(String localKey) {
+        invalidations.incrementAndGet();
+        if (localKey == null) {
+            level1.invalidateAll();
+        } else {
+            level1.invalidate(localKey);
+        }
+    }
+
+    private void fill(String localKey, Object value, long stamp) {
+        level1.put(localKey, new SimpleValueWrapper(value));
+        if (invalidations.get() != stamp) {
+            level1.invalidate(localKey);
+        }
+    }
+
+    public CacheStats stats() {
+        com.github.benmanes.caffeine.cache.stats.CacheStats local = level1.stats();
+        long hits = level2Hits.sum();
+        long misses = level2Misses.sum();
+        return CacheStats.builder()
+                .name(name)
+                .l1Size(level1.estimatedSize())
+                .l1Hits(local.hitCount())
+                .l1Misses(local.missCount())
+                .l1HitRatio(local.hitRate())
+                .l1Evictions(local.evictionCount())
+                .l2Hits(hits)
+                .l2Misses(misses)
+                .l2HitRatio(hits + misses == 0 ? 1.0 : (double) hits / (hits + misses))
+                .build();
+    }
+}
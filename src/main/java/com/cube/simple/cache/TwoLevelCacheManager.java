@@ -0,0 +1,124 @@
+package com.cube.simple.cache;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.core.convert.ConversionService;
+import org.springframework.data.redis.cache.RedisCache;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.StringRedisTemplate;
+
+import com.cube.simple.dto.CacheStats;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * L2 CacheManager(RedisCacheManager) 의 캐시를 TwoLevelCache 로 감싸서 제공
+ *
+ * - 캐시별 L1 크기/TTL 은 CacheProperties(cache.near.*) 로 설정
+ * - 무효화 메시지: "노드ID|캐시이름|L1키" (전체 무효화는 L1키 자리에 "*")
+ *   자기 노드가 보낸 메시지는 무시한다. (이미 자신의 L1 은 지운 상태)
+ * - 메시지 수신은 RedisConfig 의 RedisMessageListenerContainer 에 이 객체를 등록하여 처리
+ */
+@Slf4j
+public class TwoLevelCacheManager implements CacheManager, MessageListener {
+
+    private static final String SEPARATOR = "|";
+    private static final String ALL = "*";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final Map<String, TwoLevelCache> caches = new ConcurrentHashMap<>();
+
+    private final CacheManager level2;
+    private final CacheProperties properties;
+    private final StringRedisTemplate redisTemplate;
+
+    public TwoLevelCacheManager(CacheManager level2, CacheProperties properties, StringRedisTemplate redisTemplate) {
+        this.level2 = level2;
+        this.properties = properties;
+        this.redisTemplate = redisTemplate;
+    }
+
+    @Override
+    public Cache getCache(String name) {
+        TwoLevelCache cache = caches.get(name);
+        if (cache != null) {
+            return cache;
+        }
+        Cache remote = level2.getCache(name);
+        if (remote == null) {
+            return null;
+        }
+        return caches.computeIfAbsent(name, n -> create(n, remote));
+    }
+
+    @Override
+    public Collection<String> getCacheNames() {
+        return level2.getCacheNames();
+    }
+
+    /**
+     * 사용 중인 캐시의 계층별 적중 통계
+     */
+    public List<CacheStats> stats() {
+        List<CacheStats> stats = new ArrayList<>();
+        caches.values().forEach(cache -> stats.add(cache.stats()));
+        stats.sort((a, b) -> a.getName().compareTo(b.getName()));
+        return stats;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] parts = new String(message.getBody(), StandardCharsets.UTF_8).split("\\" + SEPARATOR, 3);
+        if (parts.length < 3 || nodeId.equals(parts[0])) {
+            return;
+        }
+        TwoLevelCache cache = caches.get(parts[1]);
+        if (cache != null) {
+            cache.evictLocal(ALL.equals(parts[2]) ? null : parts[2]);
+        }
+    }
+
+    private TwoLevelCache create(String name, Cache remote) {
+        CacheProperties.Spec spec = properties.spec(name);
+        com.github.benmanes.caffeine.cache.Cache<String, Cache.ValueWrapper> local = Caffeine.newBuilder()
+                .maximumWeight(spec.getMaxWeight())
+                .weigher(TwoLevelCache::weigh)
+                .expireAfterWrite(spec.getTtl())
+                .recordStats()
+                .build();
+        log.info("Near cache created : cache={}, maxWeight={}, ttl={}", name, spec.getMaxWeight(), spec.getTtl());
+        return new TwoLevelCache(name, local, remote, keyConverter(remote), this::publish);
+    }
+
+    // L1 키는 Redis 키와 같은 규칙으로 문자열화 (노드 간 무효화 메시지에 그대로 실어 보내기 위함)
+    private Function<Object, String> keyConverter(Cache remote) {
+        if (remote instanceof RedisCache redisCache) {
+            ConversionService conversion = redisCache.getCacheConfiguration().getConversionService();
+            return key -> conversion.canConvert(key.getClass(), String.class)
+                    ? conversion.convert(key, String.class)
+                    : String.valueOf(key);
+        }
+        return String::valueOf;
+    }
+
+    private void publish(String name, String localKey) {
+        String message = nodeId + SEPARATOR + name + SEPARATOR + (localKey != null ? localKey : ALL);
+        try {
+            redisTemplate.convertAndSend(properties.getChannel(), message);
+        } catch (RuntimeException ex) {
+            // L2 는 이미 지워졌으므로 다른 노드는 L1 TTL 이 지나면 새 값을 읽음
+            log.warn("Near cache invalidation publish failed : cache={}, key={}", name, localKey, ex);
+        }
+    }
+}
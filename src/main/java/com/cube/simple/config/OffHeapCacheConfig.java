@@ -0,0 +1,27 @@
+package com.cube.simple.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnExpression;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import com.cube.simple.cache.OffHeapCacheManager;
+import com.cube.simple.cache.OffHeapCacheProperties;
+
+/**
+ * off-heap 캐시 설정
+ *
+ * - cache.offheap.enabled=true 이고 spring.cache.type=redis 가 아닐 때만 적용
+ * - CacheManager 빈을 직접 등록하므로 Spring Boot 의 simple(ConcurrentMapCacheManager) 자동 설정은 물러남
+ */
+@Configuration
+@EnableConfigurationProperties(OffHeapCacheProperties.class)
+@ConditionalOnExpression("${cache.offheap.enabled:false} and '${spring.cache.type:simple}' != 'redis'")
+public class OffHeapCacheConfig {
+
+    @Bean
+    public CacheManager cacheManager(OffHeapCacheProperties properties) {
+        return new OffHeapCacheManager(properties);
+    }
+}
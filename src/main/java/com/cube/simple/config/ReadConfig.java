@@ -8,6 +8,7 @@ import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.SqlSessionTemplate;
 import org.mybatis.spring.annotation.MapperScan;
 import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.boot.jdbc.DataSourceBuilder;
 import org.springframework.context.annotation.Bean;
@@ -33,6 +34,10 @@ import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
 )
 public class ReadConfig {
 	
+    // Export(스트리밍) 조회 시 JDBC fetch size (매퍼 XML 에서 ${exportFetchSize} 로 참조)
+    @Value("${item.export.fetch-size:1000}")
+    private int exportFetchSize;
+
     /**
      * 읽기 전용 DataSource Bean
      * - prefix 아래의 구성 값을 바인딩한다.
@@ -63,6 +68,11 @@ public class ReadConfig {
         cfg.setMapUnderscoreToCamelCase(true);
         cfg.setJdbcTypeForNull(org.apache.ibatis.type.JdbcType.NULL);
         sessionFactory.setConfiguration(cfg);
+
+        // 매퍼 XML 의 ${...} 치환 변수
+        var variables = new java.util.Properties();
+        variables.setProperty("exportFetchSize", String.valueOf(exportFetchSize));
+        sessionFactory.setConfigurationProperties(variables);
         
         // 도메인 모델의 패키지(별칭 등록)
         sessionFactory.setTypeAliasesPackage("com.cube.simple.model");
@@ -1,20 +1,49 @@
 package com.cube.simple.config;
 
 import java.time.Duration;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.data.redis.RedisProperties;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.cache.CacheManager;
 import org.springframework.cache.annotation.EnableCaching;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.cache.RedisCacheConfiguration;
 import org.springframework.data.redis.cache.RedisCacheManager;
+import org.springframework.data.redis.cache.RedisCacheWriter;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
 import org.springframework.data.redis.serializer.RedisSerializationContext;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
+import org.springframework.util.StringUtils;
 
+import com.cube.simple.cache.BudgetedRedisCacheWriter;
+import com.cube.simple.cache.CacheProperties;
+import com.cube.simple.cache.CacheSerializerProperties;
+import com.cube.simple.cache.CompactRedisSerializer;
+import com.cube.simple.cache.RedisCacheProperties;
+import com.cube.simple.cache.RedisCircuitBreaker;
+import com.cube.simple.cache.ResilientCacheManager;
+import com.cube.simple.cache.TrackingRedisCacheManager;
+import com.cube.simple.cache.TwoLevelCacheManager;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisPooled;
+import redis.clients.jedis.RedisProtocol;
+import redis.clients.jedis.UnifiedJedis;
+import redis.clients.jedis.csc.CacheConfig;
+
 /**
  * Redis 캐시 설정
  *
@@ -24,6 +53,7 @@ import com.fasterxml.jackson.databind.ObjectMapper;
  */
 @Configuration
 @EnableCaching
+@EnableConfigurationProperties({ CacheProperties.class, CacheSerializerProperties.class, RedisCacheProperties.class })
 @ConditionalOnProperty(name = "spring.cache.type", havingValue = "redis", matchIfMissing = false)
 public class RedisConfig {
 
@@ -89,17 +119,123 @@ public class RedisConfig {
     }
 
     /**
-     * RedisCacheManager
+     * 캐시 이름별 설정 - cacheConfiguration 에 값 형식(cache.serializer.*)과 TTL/jitter(cache.redis.*)를 덮어씀
+     *
+     * @param name 캐시 이름, null 이면 기본값
+     */
+    private RedisCacheConfiguration cacheConfiguration(String name, CacheSerializerProperties serializers, RedisCacheProperties policies) {
+        CompactRedisSerializer.Format format = name != null
+            ? serializers.getCaches().getOrDefault(name, serializers.getFormat())
+            : serializers.getFormat();
+        RedisCacheProperties.Spec spec = name != null ? policies.spec(name) : policies.getDefaults();
+
+        RedisCacheConfiguration config = cacheConfiguration()
+            // 키별로 고정된 jitter 를 적용한 TTL (CacheLoader 의 논리 만료와 같은 값)
+            .entryTtl((key, value) -> spec.ttlFor(key));
+        if (serializers.isPlainJson(format)) {
+            return config;
+        }
+        var serializer = new CompactRedisSerializer(new GenericJackson2JsonRedisSerializer(), format, serializers.getCompressThreshold());
+        return config
+            .serializeValuesWith(RedisSerializationContext.SerializationPair.fromSerializer(serializer));
+    }
+
+    /**
+     * CacheManager
      * - Spring Cache 추상화를 통해 Redis 를 캐시 저장소로 사용
      * - 위에서 정의한 기본 설정(cacheConfiguration)을 모든 캐시에 적용
+     * - cache.serializer.* 로 캐시별 값 형식(JSON/Smile)과 LZ4 압축 기준 크기를 지정
+     * - cache.redis.* 로 캐시별 TTL, 만료 분산(jitter), 최대 항목 수를 지정 (BudgetedRedisCacheWriter)
+     * - cache.near.enabled=true(기본)이면 RedisCacheManager(L2) 앞에 프로세스 메모리 L1 을 두는
+     *   TwoLevelCacheManager 를 사용 (캐시별 L1 크기/TTL 은 cache.near.caches.* 로 지정)
+     * - cache.near.mode=tracking 이면 L1 대신 Redis 클라이언트 측 캐시(RESP3)를 쓰는 TrackingRedisCacheManager 사용
+     *   (조회만 별도 Jedis 풀로 보내고 저장/삭제는 같은 writer 사용, 무효화는 Redis 서버가 처리)
+     * - cache.resilience.enabled=true(기본)이면 위 CacheManager 를 ResilientCacheManager 로 감싸
+     *   Redis 장애/지연 시 요청을 실패시키지 않고 캐시별 로컬 대체 캐시로 동작 (RedisCircuitBreaker)
      *
      * 필요 시 withInitialCacheConfigurations(Map<String, RedisCacheConfiguration>) 을 통해
      * 캐시 이름별 TTL/직렬화 전략을 개별 지정할 수 있음.
      */
     @Bean
-    public RedisCacheManager cacheManager(RedisConnectionFactory factory) {
-        return RedisCacheManager.builder(factory)
-            .cacheDefaults(cacheConfiguration())
+    public CacheManager cacheManager(RedisConnectionFactory factory, CacheProperties properties,
+                                     CacheSerializerProperties serializers, RedisCacheProperties policies,
+                                     StringRedisTemplate redisTemplate, RedisProperties redisProperties,
+                                     RedisCircuitBreaker breaker,
+                                     @Value("${cache.resilience.enabled:true}") boolean resilient,
+                                     @Value("${cache.resilience.fallback-max-size:10000}") long fallbackMaxSize,
+                                     @Value("${cache.resilience.fallback-ttl:30s}") Duration fallbackTtl,
+                                     @Value("${cache.resilience.max-dirty-keys:10000}") int maxDirtyKeys) {
+        CacheManager cacheManager = redisCacheManager(factory, properties, serializers, policies, redisTemplate, redisProperties);
+        if (!resilient) {
+            return cacheManager;
+        }
+        return new ResilientCacheManager(cacheManager, breaker, fallbackMaxSize, fallbackTtl, maxDirtyKeys);
+    }
+
+    private CacheManager redisCacheManager(RedisConnectionFactory factory, CacheProperties properties,
+                                           CacheSerializerProperties serializers, RedisCacheProperties policies,
+                                           StringRedisTemplate redisTemplate, RedisProperties redisProperties) {
+        RedisCacheWriter writer = new BudgetedRedisCacheWriter(
+            RedisCacheWriter.nonLockingRedisCacheWriter(factory), factory, policies);
+
+        Set<String> names = new HashSet<>(serializers.getCaches().keySet());
+        names.addAll(policies.getCaches().keySet());
+        Map<String, RedisCacheConfiguration> configurations = new HashMap<>();
+        names.forEach(name -> configurations.put(name, cacheConfiguration(name, serializers, policies)));
+
+        if (properties.isEnabled() && properties.getMode() == CacheProperties.Mode.TRACKING) {
+            TrackingRedisCacheManager trackingCacheManager = new TrackingRedisCacheManager(writer,
+                cacheConfiguration(null, serializers, policies), configurations,
+                trackingJedis(redisProperties, properties.getTrackingMaxSize()));
+            trackingCacheManager.afterPropertiesSet();
+            return trackingCacheManager;
+        }
+
+        RedisCacheManager redisCacheManager = RedisCacheManager.builder(writer)
+            .cacheDefaults(cacheConfiguration(null, serializers, policies))
+            .withInitialCacheConfigurations(configurations)
             .build();
+        if (!properties.isEnabled()) {
+            return redisCacheManager;
+        }
+        redisCacheManager.afterPropertiesSet();
+        return new TwoLevelCacheManager(redisCacheManager, properties, redisTemplate);
+    }
+
+    /**
+     * 클라이언트 측 캐시를 켠 Jedis 풀 (RESP3 필요: Redis 6+ 또는 호환 서버)
+     * - spring.data.redis.* 접속 정보를 그대로 사용
+     */
+    private UnifiedJedis trackingJedis(RedisProperties redis, int maxSize) {
+        DefaultJedisClientConfig.Builder config = DefaultJedisClientConfig.builder()
+            .protocol(RedisProtocol.RESP3)
+            .database(redis.getDatabase())
+            .ssl(redis.getSsl().isEnabled());
+        if (StringUtils.hasText(redis.getUsername())) {
+            config.user(redis.getUsername());
+        }
+        if (StringUtils.hasText(redis.getPassword())) {
+            config.password(redis.getPassword());
+        }
+        if (redis.getTimeout() != null) {
+            config.timeoutMillis((int) redis.getTimeout().toMillis());
+        }
+        return new JedisPooled(new HostAndPort(redis.getHost(), redis.getPort()), config.build(),
+            CacheConfig.builder().maxSize(maxSize).build());
+    }
+
+    /**
+     * 다른 노드가 보낸 L1 무효화 메시지 수신 (cache.near.channel 구독)
+     */
+    @Bean
+    public RedisMessageListenerContainer cacheInvalidationListenerContainer(RedisConnectionFactory factory,
+                                                                            CacheManager cacheManager,
+                                                                            CacheProperties properties) {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(factory);
+        if (ResilientCacheManager.unwrap(cacheManager) instanceof TwoLevelCacheManager twoLevelCacheManager) {
+            container.addMessageListener(twoLevelCacheManager, new ChannelTopic(properties.getChannel()));
+        }
+        return container;
     }
 }
@@ -131,7 +131,7 @@ public class SecurityConfig {
 
                 // 아이템 API: 조회는 USER/ADMIN, 쓰기/수정/삭제는 ADMIN
                 .requestMatchers(HttpMethod.GET,  "/api/items", "/api/items/**").hasAnyRole(RoleCode.USER.name(),RoleCode.ADMIN.name())
-                .requestMatchers(HttpMethod.POST, "/api/items").hasRole(RoleCode.ADMIN.name())
+                .requestMatchers(HttpMethod.POST, "/api/items", "/api/items/batch").hasRole(RoleCode.ADMIN.name())
                 .requestMatchers(HttpMethod.PUT,  "/api/items/**").hasRole(RoleCode.ADMIN.name())
                 .requestMatchers(HttpMethod.DELETE,"/api/items/**").hasRole(RoleCode.ADMIN.name())
 
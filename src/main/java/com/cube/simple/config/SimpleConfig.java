@@ -48,6 +48,9 @@ public class SimpleConfig implements WebMvcConfigurer {
             // 인증 엔드포인트(민감 페이로드 노출 방지)
             .excludePathPatterns("/api/auth/login")
 
+            // 스트리밍 Export (응답 바디 로깅 대상 아님)
+            .excludePathPatterns("/api/items/export")
+
             // 인터셉터 체인 내 실행 우선순위(여러 인터셉터가 있을 때 낮을수록 먼저 실행)
             .order(0);
     }
@@ -3,6 +3,7 @@ package com.cube.simple.config;
 import javax.sql.DataSource;
 
 import org.apache.ibatis.mapping.VendorDatabaseIdProvider;
+import org.apache.ibatis.session.ExecutorType;
 import org.apache.ibatis.session.SqlSessionFactory;
 import org.mybatis.spring.SqlSessionFactoryBean;
 import org.mybatis.spring.SqlSessionTemplate;
@@ -56,6 +57,48 @@ public class WriteConfig {
     public SqlSessionFactory writeSqlSessionFactory(
             @Qualifier("writeDataSource") DataSource dataSource) throws Exception {
 
+        return sqlSessionFactory(dataSource);
+    }
+
+    /**
+     * 쓰기용 SqlSessionTemplate
+     * - 스레드-세이프한 SqlSession 대체 객체
+     * - 트랜잭션/예외 변환 등 스프링과의 연동 이점을 제공
+     */
+    @Primary
+    @Bean(name = "writeSqlSessionTemplate")
+    public SqlSessionTemplate writeSqlSessionTemplate(
+            @Qualifier("writeSqlSessionFactory") SqlSessionFactory sqlSessionFactory) {
+
+        return new SqlSessionTemplate(sqlSessionFactory);
+    }
+
+    /**
+     * 대량 등록/수정용 SqlSessionFactory (writeDataSource 공유)
+     * - 한 트랜잭션 안에서 SqlSession 은 SqlSessionFactory 별로 하나이고 ExecutorType 을 바꿀 수 없으므로
+     *   SIMPLE(writeSqlSessionTemplate)과 BATCH 를 함께 쓰려면 별도 팩토리가 필요
+     * - 같은 DataSource 이므로 Spring 트랜잭션 안에서는 같은 커넥션/트랜잭션에 참여함
+     */
+    @Bean(name = "writeBatchSqlSessionFactory")
+    public SqlSessionFactory writeBatchSqlSessionFactory(
+            @Qualifier("writeDataSource") DataSource dataSource) throws Exception {
+
+        return sqlSessionFactory(dataSource);
+    }
+
+    /**
+     * 대량 등록/수정용 BATCH SqlSessionTemplate
+     * - statement 는 flushStatements() 또는 커밋 시 한 번에 전송
+     */
+    @Bean(name = "writeBatchSqlSessionTemplate")
+    public SqlSessionTemplate writeBatchSqlSessionTemplate(
+            @Qualifier("writeBatchSqlSessionFactory") SqlSessionFactory sqlSessionFactory) {
+
+        return new SqlSessionTemplate(sqlSessionFactory, ExecutorType.BATCH);
+    }
+
+    private SqlSessionFactory sqlSessionFactory(DataSource dataSource) throws Exception {
+
         SqlSessionFactoryBean sessionFactory = new SqlSessionFactoryBean();
         sessionFactory.setDataSource(dataSource);
 
@@ -69,7 +112,10 @@ public class WriteConfig {
         // 도메인 모델 별칭 패키지 (예: <resultMap type="Member"> 등에서 클래스명만 사용 가능)
         sessionFactory.setTypeAliasesPackage("com.cube.simple.model");
         sessionFactory.setTypeHandlersPackage("com.cube.simple.handler.mybatis");
-        // sessionFactory.setDatabaseIdProvider(vendorDatabaseIdProvider());        
+        // DB 벤더별 SQL(upsert 등) 분기용
+        // (Bean 으로 등록하면 readDatabaseIdProvider 와 함께 DatabaseIdProvider 가 2개가 되어
+        //  MybatisAutoConfiguration 주입이 모호해지므로 직접 생성)
+        sessionFactory.setDatabaseIdProvider(writeDatabaseIdProvider());        
 
         // 쓰기 전용 매퍼 XML 경로
         sessionFactory.setMapperLocations(
@@ -80,22 +126,7 @@ public class WriteConfig {
         return sessionFactory.getObject();
     }
 
-    /**
-     * 쓰기용 SqlSessionTemplate
-     * - 스레드-세이프한 SqlSession 대체 객체
-     * - 트랜잭션/예외 변환 등 스프링과의 연동 이점을 제공
-     */
-    @Primary
-    @Bean(name = "writeSqlSessionTemplate")
-    public SqlSessionTemplate writeSqlSessionTemplate(
-            @Qualifier("writeSqlSessionFactory") SqlSessionFactory sqlSessionFactory) {
-
-        return new SqlSessionTemplate(sqlSessionFactory);
-    }
-
-    /*
-    @Bean(name =  "writeDatabaseIdProvider")
-    public VendorDatabaseIdProvider vendorDatabaseIdProvider() {
+    private VendorDatabaseIdProvider writeDatabaseIdProvider() {
         var p = new java.util.Properties();
         p.setProperty("H2", "h2");        // H2
         p.setProperty("MySQL", "mysql");  // MySQL
@@ -103,5 +134,4 @@ public class WriteConfig {
         v.setProperties(p);
         return v;
     }
-    */
 }
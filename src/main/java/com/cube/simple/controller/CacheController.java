@@ -0,0 +1,247 @@
+package com.cube.simple.controller;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.cache.CacheManager;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.cube.simple.cache.HotItemCache;
+import com.cube.simple.cache.OffHeapCacheManager;
+import com.cube.simple.cache.RedisCircuitBreaker;
+import com.cube.simple.cache.ResponseCache;
+import com.cube.simple.cache.ResilientCacheManager;
+import com.cube.simple.cache.TrackingRedisCacheManager;
+import com.cube.simple.cache.TwoLevelCacheManager;
+import com.cube.simple.config.SecurityExpressions;
+import com.cube.simple.dto.CacheStats;
+import com.cube.simple.dto.CommonResponse;
+import com.cube.simple.enums.ResponseCode;
+import com.cube.simple.init.CacheWarmer;
+import com.cube.simple.util.MessageUtil;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import lombok.extern.slf4j.Slf4j;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/caches")
+@SecurityRequirement(name = "JWT")
+public class CacheController {
+
+    private static final String ENTITY_TOKEN = "{api.operations.entity.cache}";
+
+    @Autowired
+    private CacheManager cacheManager;
+    @Autowired
+    private CacheWarmer cacheWarmer;
+    @Autowired
+    private RedisCircuitBreaker redisCircuitBreaker;
+    @Autowired
+    private HotItemCache hotItemCache;
+    @Autowired
+    private ResponseCache responseCache;
+    @Autowired
+    private MessageUtil messages;
+
+    /**
+     * 캐시 통계 권한: ADMIN 가능
+     *
+     * - 캐시별 L1(프로세스 메모리)/L2(Redis) 적중률
+     * - cache.near.mode=tracking 이면 클라이언트 측 캐시 전체 1건 (name = "*")
+     * - off-heap 캐시(cache.offheap.enabled=true)면 저장소 전체 1건 (name = "*", offHeap* 항목)
+     * - 2단 캐시를 쓰지 않는 환경(로컬 simple 캐시 등)은 빈 목록
+     */
+    @GetMapping("/stats")
+    @PreAuthorize(SecurityExpressions.HAS_ROLE_ADMIN)
+    @Operation(
+        summary     = "{api.operations.cache_stats.summary|" + ENTITY_TOKEN + "}",
+        description = "{api.operations.cache_stats.description|" + ENTITY_TOKEN + "}"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description  = "{api.operations.select.responses.ok|" + ENTITY_TOKEN + "}",
+            content      = @Content(mediaType = "application/json",
+                                  schema = @Schema(implementation = CommonResponse.class))
+        ),
+        @ApiResponse(responseCode = "500", description = "{api.operations.select.responses.error}")
+    })
+    public ResponseEntity<?> stats() {
+        CommonResponse response = CommonResponse.builder().build();
+        try {
+            List<CacheStats> stats = List.of();
+            CacheManager target = ResilientCacheManager.unwrap(cacheManager);
+            if (target instanceof TwoLevelCacheManager twoLevelCacheManager) {
+                stats = twoLevelCacheManager.stats();
+            } else if (target instanceof TrackingRedisCacheManager trackingCacheManager) {
+                stats = trackingCacheManager.stats();
+            } else if (target instanceof OffHeapCacheManager offHeapCacheManager) {
+                stats = offHeapCacheManager.stats();
+            }
+            response.setData(stats);
+            response.setCode(ResponseCode.SUCCESS);
+            response.setMessage(messages.get("api.operations.select.responses.ok"));
+            return ResponseEntity.ok(response);
+        } catch (Exception ex) {
+            log.error("Cache stats error", ex);
+            response.setCode(ResponseCode.ERROR);
+            response.setMessage(messages.get("api.operations.select.responses.error"));
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 기동 시 캐시 예열 결과 권한: ADMIN 가능
+     *
+     * - 소요 시간, 목록 페이지/단건 id 적재 수, 실패 수
+     * - 예열을 사용하지 않으면(cache.warm.enabled=false) data 없음
+     */
+    @GetMapping("/warmup")
+    @PreAuthorize(SecurityExpressions.HAS_ROLE_ADMIN)
+    @Operation(
+        summary     = "{api.operations.cache_warmup.summary|" + ENTITY_TOKEN + "}",
+        description = "{api.operations.cache_warmup.description|" + ENTITY_TOKEN + "}"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description  = "{api.operations.select.responses.ok|" + ENTITY_TOKEN + "}",
+            content      = @Content(mediaType = "application/json",
+                                  schema = @Schema(implementation = CommonResponse.class))
+        ),
+        @ApiResponse(responseCode = "500", description = "{api.operations.select.responses.error}")
+    })
+    public ResponseEntity<?> warmup() {
+        CommonResponse response = CommonResponse.builder().build();
+        try {
+            response.setData(cacheWarmer.getReport());
+            response.setCode(ResponseCode.SUCCESS);
+            response.setMessage(messages.get("api.operations.select.responses.ok"));
+            return ResponseEntity.ok(response);
+        } catch (Exception ex) {
+            log.error("Cache warm-up report error", ex);
+            response.setCode(ResponseCode.ERROR);
+            response.setMessage(messages.get("api.operations.select.responses.error"));
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * Redis 회로 차단기 상태 권한: ADMIN 가능
+     *
+     * - OPEN 이면 Redis 장애/지연으로 로컬 대체 캐시로 동작 중
+     * - 열린 횟수, 누적 저하 시간, 실패/지연 호출 수
+     */
+    @GetMapping("/health")
+    @PreAuthorize(SecurityExpressions.HAS_ROLE_ADMIN)
+    @Operation(
+        summary     = "{api.operations.cache_health.summary|" + ENTITY_TOKEN + "}",
+        description = "{api.operations.cache_health.description|" + ENTITY_TOKEN + "}"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description  = "{api.operations.select.responses.ok|" + ENTITY_TOKEN + "}",
+            content      = @Content(mediaType = "application/json",
+                                  schema = @Schema(implementation = CommonResponse.class))
+        ),
+        @ApiResponse(responseCode = "500", description = "{api.operations.select.responses.error}")
+    })
+    public ResponseEntity<?> health() {
+        CommonResponse response = CommonResponse.builder().build();
+        try {
+            response.setData(redisCircuitBreaker.health());
+            response.setCode(ResponseCode.SUCCESS);
+            response.setMessage(messages.get("api.operations.select.responses.ok"));
+            return ResponseEntity.ok(response);
+        } catch (Exception ex) {
+            log.error("Cache health error", ex);
+            response.setCode(ResponseCode.ERROR);
+            response.setMessage(messages.get("api.operations.select.responses.error"));
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 핫 키 권한: ADMIN 가능
+     *
+     * - 최근 조회가 몰리는 아이템 id 상위 top-k (추정 조회 수 내림차순)
+     * - pinned 이면 이 노드에서 Redis 대신 프로세스 로컬 사본으로 응답 중
+     */
+    @GetMapping("/hot-keys")
+    @PreAuthorize(SecurityExpressions.HAS_ROLE_ADMIN)
+    @Operation(
+        summary     = "{api.operations.cache_hot_keys.summary|" + ENTITY_TOKEN + "}",
+        description = "{api.operations.cache_hot_keys.description|" + ENTITY_TOKEN + "}"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description  = "{api.operations.select.responses.ok|" + ENTITY_TOKEN + "}",
+            content      = @Content(mediaType = "application/json",
+                                  schema = @Schema(implementation = CommonResponse.class))
+        ),
+        @ApiResponse(responseCode = "500", description = "{api.operations.select.responses.error}")
+    })
+    public ResponseEntity<?> hotKeys() {
+        CommonResponse response = CommonResponse.builder().build();
+        try {
+            response.setData(hotItemCache.top());
+            response.setCode(ResponseCode.SUCCESS);
+            response.setMessage(messages.get("api.operations.select.responses.ok"));
+            return ResponseEntity.ok(response);
+        } catch (Exception ex) {
+            log.error("Cache hot keys error", ex);
+            response.setCode(ResponseCode.ERROR);
+            response.setMessage(messages.get("api.operations.select.responses.error"));
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 공개 GET 응답 캐시 통계 권한: ADMIN 가능
+     *
+     * - 이 노드의 항목 수/본문 바이트 합계, 적중/미스 수와 적중률
+     * - stale: 다른 노드의 변경으로 버린 수, invalidations: 같은 노드의 쓰기로 제거한 수
+     */
+    @GetMapping("/responses")
+    @PreAuthorize(SecurityExpressions.HAS_ROLE_ADMIN)
+    @Operation(
+        summary     = "{api.operations.cache_responses.summary|" + ENTITY_TOKEN + "}",
+        description = "{api.operations.cache_responses.description|" + ENTITY_TOKEN + "}"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description  = "{api.operations.select.responses.ok|" + ENTITY_TOKEN + "}",
+            content      = @Content(mediaType = "application/json",
+                                  schema = @Schema(implementation = CommonResponse.class))
+        ),
+        @ApiResponse(responseCode = "500", description = "{api.operations.select.responses.error}")
+    })
+    public ResponseEntity<?> responses() {
+        CommonResponse response = CommonResponse.builder().build();
+        try {
+            response.setData(responseCache.stats());
+            response.setCode(ResponseCode.SUCCESS);
+            response.setMessage(messages.get("api.operations.select.responses.ok"));
+            return ResponseEntity.ok(response);
+        } catch (Exception ex) {
+            log.error("Cache responses error", ex);
+            response.setCode(ResponseCode.ERROR);
+            response.setMessage(messages.get("api.operations.select.responses.error"));
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+}
@@ -3,6 +3,7 @@ package com.cube.simple.controller;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,6 +16,7 @@ import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import com.cube.simple.cache.ItemAccessTracker;
 import com.cube.simple.dto.CommonRequest;
 import com.cube.simple.dto.CommonResponse;
 import com.cube.simple.enums.ResponseCode;
@@ -44,8 +46,12 @@ public class CachedItemController {
 
     @Autowired private ObjectMapper objectMapper;
     @Autowired private CachedItemService cachedItemService;
+    @Autowired private ItemAccessTracker itemAccessTracker;
     @Autowired private MessageUtil messages;
 
+    @Value("${item.multi-get.max-size:100}")
+    private int multiGetMaxSize;
+
     /**
      * Create 권한: ADMIN만 가능
      */
@@ -127,6 +133,91 @@ public class CachedItemController {
         }
     }
 
+    /**
+     * Multi-get 권한: USER, ADMIN 가능
+     *
+     * - ids=1,2,3 으로 여러 아이템을 한 번에 조회 (캐시 조회/미스 로딩/캐시 저장 각 1회 왕복)
+     * - 요청 id 순서대로 반환하며 존재하지 않는 id 는 결과에서 제외
+     */
+    @GetMapping(params = "ids")
+    @Operation(
+        summary     = "{api.operations.multi_get.summary|" + ENTITY_TOKEN + "}",
+        description = "{api.operations.multi_get.description|" + ENTITY_TOKEN + "}"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description  = "{api.operations.select.responses.ok|" + ENTITY_TOKEN + "}",
+            content      = @Content(mediaType = "application/json",
+                                  schema = @Schema(implementation = CommonResponse.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "{api.operations.select.responses.bad_request}"),
+        @ApiResponse(responseCode = "500", description = "{api.operations.select.responses.error}")
+    })
+    public ResponseEntity<?> selectByIds(@RequestParam List<Long> ids) {
+
+        CommonResponse response = CommonResponse.builder().build();
+        try {
+            if (ids.isEmpty() || ids.size() > multiGetMaxSize || ids.contains(null)) {
+                response.setCode(ResponseCode.BAD_REQUEST);
+                response.setMessage(messages.get("api.operations.select.responses.bad_request"));
+                return ResponseEntity.badRequest().body(response);
+            }
+            List<Item> items = cachedItemService.selectByIds(ids);
+            itemAccessTracker.record(ids);
+            response.setData(items);
+            response.setCode(ResponseCode.SUCCESS);
+            response.setMessage(messages.get("api.operations.select.responses.ok"));
+            return ResponseEntity.ok(response);
+        } catch (Exception ex) {
+            log.error("Select by ids error", ex);
+            response.setCode(ResponseCode.ERROR);
+            response.setMessage(messages.get("api.operations.select.responses.error"));
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * Count 권한: USER, ADMIN 가능
+     *
+     * - selectAll 과 같은 category/search 조건의 전체 건수
+     * - approximate=true 이고 search 가 없으면 카테고리 카운터 기반 O(1) 근사 건수
+     * - category/search/approximate 조합별로 캐시되며 쓰기 시 무효화됨
+     */
+    @GetMapping("/count")
+    @Operation(
+        summary     = "{api.operations.count.summary|" + ENTITY_TOKEN + "}",
+        description = "{api.operations.count.description|" + ENTITY_TOKEN + "}"
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description  = "{api.operations.select.responses.ok|" + ENTITY_TOKEN + "}",
+            content      = @Content(mediaType = "application/json",
+                                  schema = @Schema(implementation = CommonResponse.class))
+        ),
+        @ApiResponse(responseCode = "500", description = "{api.operations.select.responses.error}")
+    })
+    public ResponseEntity<?> selectCount(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "false") boolean approximate) {
+
+        CommonResponse response = CommonResponse.builder().build();
+        try {
+            Long count = cachedItemService.selectCount(category, search, approximate);
+            response.setData(count);
+            response.setCode(ResponseCode.SUCCESS);
+            response.setMessage(messages.get("api.operations.select.responses.ok"));
+            return ResponseEntity.ok(response);
+        } catch (Exception ex) {
+            log.error("Select count error", ex);
+            response.setCode(ResponseCode.ERROR);
+            response.setMessage(messages.get("api.operations.select.responses.error"));
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
     /**
      * Read by ID 권한: USER, ADMIN 가능
      */
@@ -150,6 +241,7 @@ public class CachedItemController {
         try {
             Item found = cachedItemService.selectById(id);
             if (found != null) {
+                itemAccessTracker.record(id);
                 response.setData(found);
                 response.setCode(ResponseCode.SUCCESS);
                 response.setMessage(messages.get("api.operations.select.responses.ok"));
@@ -3,6 +3,7 @@ package com.cube.simple.controller;
 import java.util.List;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -12,13 +13,17 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.cube.simple.dto.DemoRequest;
 import com.cube.simple.dto.DemoResponse;
 import com.cube.simple.enums.ResponseCode;
 import com.cube.simple.model.Demo;
 import com.cube.simple.service.DemoService;
+import com.cube.simple.service.EntityVersionService;
+import com.cube.simple.util.FieldsUtil;
 import com.cube.simple.util.MessageUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -40,9 +45,15 @@ public class DemoController {
 
     private static final String ENTITY_TOKEN = "{api.operations.entity.demo}";
 
+    // fields= 로 선택 가능한 필드 (응답/SELECT 순서)
+    private static final List<String> FIELDS = List.of(
+            "id", "name", "image", "description", "createDate", "updateDate");
+
     @Autowired private ObjectMapper objectMapper;
     @Autowired private DemoService demoService;
     @Autowired private MessageUtil messages;
+    @Autowired private FieldsUtil fieldsUtil;
+    @Autowired private EntityVersionService entityVersionService;
 
     /**
      * Create 권한: ADMIN 만 가능
@@ -90,6 +101,9 @@ public class DemoController {
 
     /**
      * Read 권한: 모두 공개 (인증 없이 접근 가능)
+     *
+     * - fields 파라미터(예: fields=name,image)가 있으면 해당 컬럼만 조회하고 응답에도 해당 필드만 포함 (id 는 항상 포함)
+     * - 응답에 ETag 를 포함하며, If-None-Match 가 현재 Demo 버전과 같으면 조회 없이 304 응답
      */
     @GetMapping
     @Operation(
@@ -103,16 +117,33 @@ public class DemoController {
             content      = @Content(mediaType = "application/json",
                                   schema = @Schema(implementation = DemoResponse.class))
         ),
+        @ApiResponse(responseCode = "304", description = "{api.operations.select.responses.not_modified}"),
+        @ApiResponse(responseCode = "400", description = "{api.operations.select.responses.bad_request}"),
         @ApiResponse(responseCode = "500", description = "{api.operations.select.responses.error}")
     })
-    public ResponseEntity<?> selectAll() {
+    public ResponseEntity<?> selectAll(@RequestParam(required = false) String fields, WebRequest webRequest) {
+        String etag = entityVersionService.etag(EntityVersionService.DEMO, webRequest);
+        if (entityVersionService.notModified(etag, webRequest)) {
+            // 변경 없음: 목록 조회/직렬화 없이 304
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         DemoResponse response = DemoResponse.builder().build();
         try {
-            List<Demo> list = demoService.selectAll();
-            response.setData(list);
+            List<String> properties;
+            try {
+                properties = fieldsUtil.parse(fields, FIELDS);
+            } catch (IllegalArgumentException ex) {
+                response.setCode(ResponseCode.BAD_REQUEST);
+                response.setMessage(messages.get("api.operations.select.responses.bad_request"));
+                return ResponseEntity.badRequest().body(response);
+            }
+
+            List<Demo> list = demoService.selectAll(fieldsUtil.columns(properties));
+            response.setData(properties == null ? list : fieldsUtil.project(list, properties));
             response.setCode(ResponseCode.SUCCESS);
             response.setMessage(messages.get("api.operations.select.responses.ok"));
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(response);
         } catch (Exception ex) {
             log.error("Select all error", ex);
             response.setCode(ResponseCode.ERROR);
@@ -1,8 +1,20 @@
 package com.cube.simple.controller;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
+import java.util.zip.GZIPOutputStream;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.CacheControl;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -14,12 +26,22 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
+import com.cube.simple.dto.BulkError;
+import com.cube.simple.dto.BulkResult;
 import com.cube.simple.dto.CommonRequest;
 import com.cube.simple.dto.CommonResponse;
+import com.cube.simple.enums.ItemSortCode;
 import com.cube.simple.enums.ResponseCode;
 import com.cube.simple.model.Item;
+import com.cube.simple.service.CachedItemService;
+import com.cube.simple.service.EntityVersionService;
+import com.cube.simple.service.ItemFacetService;
 import com.cube.simple.service.ItemService;
+import com.cube.simple.util.CursorUtil;
+import com.cube.simple.util.ExportUtil;
+import com.cube.simple.util.FieldsUtil;
 import com.cube.simple.util.MessageUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -29,7 +51,10 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.validation.ConstraintViolation;
 import jakarta.validation.Valid;
+import jakarta.validation.Validator;
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
@@ -42,9 +67,23 @@ public class ItemController {
 
     private static final String ENTITY_TOKEN = "{api.operations.entity.item}";
 
+    // fields= 로 선택 가능한 필드 (응답/SELECT 순서)
+    private static final List<String> FIELDS = List.of(
+            "id", "price", "name", "category", "image", "description", "createDate", "updateDate");
+
     @Autowired private ObjectMapper objectMapper;
     @Autowired private ItemService itemService;
     @Autowired private MessageUtil messages;
+    @Autowired private CursorUtil cursors;
+    @Autowired private FieldsUtil fieldsUtil;
+    @Autowired private ExportUtil exports;
+    @Autowired private CachedItemService cachedItemService;
+    @Autowired private Validator validator;
+    @Autowired private EntityVersionService entityVersionService;
+    @Autowired private ItemFacetService itemFacetService;
+
+    @Value("${item.batch.max-size:5000}")
+    private int batchMaxSize;
 
     /**
      * Create 권한: ADMIN만 가능
@@ -90,8 +129,170 @@ public class ItemController {
         }
     }
 
+    /**
+     * Bulk Create 권한: ADMIN만 가능
+     *
+     * - data 배열의 각 행을 검증하여 통과한 행만 JDBC batch 로 등록 (검증 실패 행은 errors 로 반환)
+     * - 응답 data.ids 는 등록된 행의 생성 id (요청 순서 유지)
+     * - 캐시는 행마다가 아니라 요청 종료 시 한 번만 무효화
+     */
+    @PostMapping("/batch")
+    @Operation(
+        summary     = "{api.operations.batch.insert.summary|" + ENTITY_TOKEN + "}",
+        description = "{api.operations.batch.insert.description|" + ENTITY_TOKEN + "}",
+        security    = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description  = "{api.operations.insert.responses.ok|" + ENTITY_TOKEN + "}",
+            content      = @Content(mediaType = "application/json",
+                                  schema = @Schema(implementation = CommonResponse.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "{api.operations.batch.responses.bad_request}"),
+        @ApiResponse(responseCode = "500", description = "{api.operations.insert.responses.error}")
+    })
+    public ResponseEntity<?> insertAll(@RequestBody CommonRequest<List<Item>> request) {
+        CommonResponse response = CommonResponse.builder().build();
+        try {
+            if (request == null || request.getData() == null || request.getData().size() > batchMaxSize) {
+                response.setCode(ResponseCode.BAD_REQUEST);
+                response.setMessage(messages.get("api.operations.batch.responses.bad_request", batchMaxSize));
+                return ResponseEntity.badRequest().body(response);
+            }
+
+            List<Item> candidates = new ArrayList<>();
+            List<BulkError> errors = new ArrayList<>();
+            for (int index = 0; index < request.getData().size(); index++) {
+                Item candidate = request.getData().get(index);
+                String violation = candidate == null
+                        ? messages.get("api.operations.insert.responses.bad_request")
+                        : violation(candidate, false);
+                if (violation != null) {
+                    errors.add(BulkError.builder().index(index).message(violation).build());
+                    continue;
+                }
+                candidate.setId(null);
+                candidates.add(candidate);
+            }
+
+            List<Long> ids = cachedItemService.insertAll(candidates);
+
+            response.setData(BulkResult.builder().ids(ids).errors(errors).build());
+            response.setCode(ResponseCode.SUCCESS);
+            response.setMessage(messages.get("api.operations.insert.responses.ok"));
+            log.info("Bulk insert : requested={}, inserted={}, errors={}", request.getData().size(), ids.size(), errors.size());
+            return ResponseEntity.ok(response);
+
+        } catch (Exception ex) {
+            log.error("Bulk insert error", ex);
+            response.setCode(ResponseCode.ERROR);
+            response.setMessage(messages.get("api.operations.insert.responses.error"));
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * Bulk Update 권한: ADMIN만 가능
+     *
+     * - 각 행은 id 필수, 나머지 필드는 단건 수정과 같이 값이 있는 필드만 수정 (부분 수정)
+     * - 검증 실패/존재하지 않는 id 는 errors 로 반환하고 나머지 행은 수정
+     * - 같은 id 가 여러 번 있으면 첫 번째 행만 수정하고 나머지는 errors 로 반환
+     */
+    @PutMapping("/batch")
+    @Operation(
+        summary     = "{api.operations.batch.update.summary|" + ENTITY_TOKEN + "}",
+        description = "{api.operations.batch.update.description|" + ENTITY_TOKEN + "}",
+        security    = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description  = "{api.operations.update.responses.ok|" + ENTITY_TOKEN + "}",
+            content      = @Content(mediaType = "application/json",
+                                  schema = @Schema(implementation = CommonResponse.class))
+        ),
+        @ApiResponse(responseCode = "400", description = "{api.operations.batch.responses.bad_request}"),
+        @ApiResponse(responseCode = "500", description = "{api.operations.update.responses.error}")
+    })
+    public ResponseEntity<?> updateAll(@RequestBody CommonRequest<List<Item>> request) {
+        CommonResponse response = CommonResponse.builder().build();
+        try {
+            if (request == null || request.getData() == null || request.getData().size() > batchMaxSize) {
+                response.setCode(ResponseCode.BAD_REQUEST);
+                response.setMessage(messages.get("api.operations.batch.responses.bad_request", batchMaxSize));
+                return ResponseEntity.badRequest().body(response);
+            }
+
+            List<Item> candidates = new ArrayList<>();
+            List<Integer> indexes = new ArrayList<>();
+            List<BulkError> errors = new ArrayList<>();
+            Set<Long> seen = new HashSet<>();
+            for (int index = 0; index < request.getData().size(); index++) {
+                Item candidate = request.getData().get(index);
+                String violation = candidate == null || candidate.getId() == null
+                        ? messages.get("api.operations.update.responses.bad_request")
+                        : violation(candidate, true);
+                if (violation == null && !seen.add(candidate.getId())) {
+                    violation = messages.get("api.operations.batch.responses.duplicate");
+                }
+                if (violation != null) {
+                    errors.add(BulkError.builder().index(index)
+                            .id(candidate == null ? null : candidate.getId()).message(violation).build());
+                    continue;
+                }
+                candidates.add(candidate);
+                indexes.add(index);
+            }
+
+            List<Long> ids = cachedItemService.updateAll(candidates);
+
+            Set<Long> updated = new HashSet<>(ids);
+            for (int i = 0; i < candidates.size(); i++) {
+                if (!updated.contains(candidates.get(i).getId())) {
+                    errors.add(BulkError.builder().index(indexes.get(i)).id(candidates.get(i).getId())
+                            .message(messages.get("api.operations.update.responses.not_found")).build());
+                }
+            }
+
+            response.setData(BulkResult.builder().ids(ids).errors(errors).build());
+            response.setCode(ResponseCode.SUCCESS);
+            response.setMessage(messages.get("api.operations.update.responses.ok"));
+            log.info("Bulk update : requested={}, updated={}, errors={}", request.getData().size(), ids.size(), errors.size());
+            return ResponseEntity.ok(response);
+
+        } catch (Exception ex) {
+            log.error("Bulk update error", ex);
+            response.setCode(ResponseCode.ERROR);
+            response.setMessage(messages.get("api.operations.update.responses.error"));
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * 행 단위 Bean Validation - 첫 번째 위반 메시지, 위반이 없으면 null
+     * (partial=true 이면 부분 수정이므로 값이 없는(null) 필드의 위반은 무시)
+     */
+    private String violation(Item item, boolean partial) {
+        for (ConstraintViolation<Item> violation : validator.validate(item)) {
+            if (partial && violation.getInvalidValue() == null) {
+                continue;
+            }
+            return violation.getPropertyPath() + ": " + violation.getMessage();
+        }
+        return null;
+    }
+
     /**
      * Read 권한: USER, ADMIN 가능
+     *
+     * - 기본은 page/size 기반 OFFSET 페이지 (하위 호환)
+     * - after 파라미터가 있으면 Keyset(커서) 페이지로 동작 (after= 빈 값이면 첫 페이지)
+     *   응답의 nextCursor 를 다음 요청의 after 로 전달하며, 마지막 페이지면 nextCursor 가 없음
+     * - fields 파라미터(예: fields=name,price)가 있으면 해당 컬럼만 조회하고 응답에도 해당 필드만 포함 (id 는 항상 포함)
+     * - 응답에 ETag 를 포함하며, If-None-Match 가 현재 Item 버전과 같으면 조회 없이 304 응답
+     * - minPrice/maxPrice 가격 범위, sort=price|createDate|name[,asc|desc] 정렬 (기본 id 순)
+     *   인덱스로 처리할 수 없는 조합(검색어+sort, 가격 범위+price 외 정렬, 커서+정렬/가격 범위)은 400
      */
     @GetMapping
     @Operation(
@@ -106,29 +307,257 @@ public class ItemController {
             content      = @Content(mediaType = "application/json",
                                   schema = @Schema(implementation = CommonResponse.class))
         ),
+        @ApiResponse(responseCode = "304", description = "{api.operations.select.responses.not_modified}"),
+        @ApiResponse(responseCode = "400", description = "{api.operations.select.responses.bad_request}"),
         @ApiResponse(responseCode = "500", description = "{api.operations.select.responses.error}")
     })
     public ResponseEntity<?> selectAll(
             @RequestParam(defaultValue = "1") int page,
             @RequestParam(defaultValue = "5") int size,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) String after,
+            @RequestParam(required = false) String fields,
+            @RequestParam(required = false) Long minPrice,
+            @RequestParam(required = false) Long maxPrice,
+            @RequestParam(required = false) String sort,
+            WebRequest webRequest) {
+
+        String etag = entityVersionService.etag(EntityVersionService.ITEM, webRequest);
+        if (entityVersionService.notModified(etag, webRequest)) {
+            // 변경 없음: 목록 조회/직렬화 없이 304
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
+        CommonResponse response = CommonResponse.builder().build();
+        try {
+            List<String> properties;
+            Long afterId = null;
+            ItemSortCode sortCode = null;
+            boolean desc = false;
+            try {
+                properties = fieldsUtil.parse(fields, FIELDS);
+                if (after != null) {
+                    afterId = cursors.decode(after);
+                }
+                if (sort != null && !sort.isBlank()) {
+                    String[] parts = sort.split(",", 2);
+                    sortCode = ItemSortCode.of(parts[0].trim());
+                    String direction = parts.length > 1 ? parts[1].trim() : "asc";
+                    if (!"asc".equalsIgnoreCase(direction) && !"desc".equalsIgnoreCase(direction)) {
+                        throw new IllegalArgumentException("Unsupported direction : " + direction);
+                    }
+                    desc = "desc".equalsIgnoreCase(direction);
+                }
+                // 커서 페이지는 id 순 seek 전용
+                if (after != null && (sortCode != null || minPrice != null || maxPrice != null)) {
+                    throw new IllegalArgumentException("cursor paging supports id order only");
+                }
+            } catch (IllegalArgumentException ex) {
+                response.setCode(ResponseCode.BAD_REQUEST);
+                response.setMessage(messages.get("api.operations.select.responses.bad_request"));
+                return ResponseEntity.badRequest().body(response);
+            }
+            List<String> columns = fieldsUtil.columns(properties);
+
+            if (after != null) {
+                List<Item> items = itemService.selectAfter(afterId, size, category, search, columns);
+                response.setData(properties == null ? items : fieldsUtil.project(items, properties));
+                if (!items.isEmpty() && items.size() >= size) {
+                    response.setNextCursor(cursors.encode(items.get(items.size() - 1).getId()));
+                }
+                response.setCode(ResponseCode.SUCCESS);
+                response.setMessage(messages.get("api.operations.select.responses.ok"));
+                return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(response);
+            }
+
+            List<Item> items = itemService.selectAll(page, size, category, search, columns, minPrice, maxPrice, sortCode, desc);
+            response.setData(properties == null ? items : fieldsUtil.project(items, properties));
+            response.setCode(ResponseCode.SUCCESS);
+            response.setMessage(messages.get("api.operations.select.responses.ok"));
+            return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(response);
+        } catch (IllegalArgumentException ex) {
+            // 인덱스로 처리할 수 없는 조회 조합 (ItemService.selectAll 참고)
+            log.debug("Unsupported item query : {}", ex.getMessage());
+            response.setCode(ResponseCode.BAD_REQUEST);
+            response.setMessage(messages.get("api.operations.select.responses.bad_request"));
+            return ResponseEntity.badRequest().body(response);
+        } catch (Exception ex) {
+            log.error("Select all error", ex);
+            response.setCode(ResponseCode.ERROR);
+            response.setMessage(messages.get("api.operations.select.responses.error"));
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * Count 권한: USER, ADMIN 가능
+     *
+     * - selectAll 과 같은 category/search/가격 범위 조건의 전체 건수
+     * - approximate=true 이고 search/가격 범위가 없으면 카테고리 카운터 기반 O(1) 근사 건수
+     */
+    @GetMapping("/count")
+    @Operation(
+        summary     = "{api.operations.count.summary|" + ENTITY_TOKEN + "}",
+        description = "{api.operations.count.description|" + ENTITY_TOKEN + "}",
+        security    = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description  = "{api.operations.select.responses.ok|" + ENTITY_TOKEN + "}",
+            content      = @Content(mediaType = "application/json",
+                                  schema = @Schema(implementation = CommonResponse.class))
+        ),
+        @ApiResponse(responseCode = "500", description = "{api.operations.select.responses.error}")
+    })
+    public ResponseEntity<?> selectCount(
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) Long minPrice,
+            @RequestParam(required = false) Long maxPrice,
+            @RequestParam(defaultValue = "false") boolean approximate) {
+
+        CommonResponse response = CommonResponse.builder().build();
+        try {
+            Long count = itemService.selectCount(category, search, minPrice, maxPrice, approximate);
+            response.setData(count);
+            response.setCode(ResponseCode.SUCCESS);
+            response.setMessage(messages.get("api.operations.select.responses.ok"));
+            return ResponseEntity.ok(response);
+        } catch (Exception ex) {
+            log.error("Select count error", ex);
+            response.setCode(ResponseCode.ERROR);
+            response.setMessage(messages.get("api.operations.select.responses.error"));
+            return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
+        }
+    }
+
+    /**
+     * Facets 권한: USER, ADMIN 가능
+     *
+     * - 카테고리별 건수와 가격 구간별 건수 (category 가 있으면 가격 구간은 해당 카테고리 기준)
+     * - search 가 없으면 메모리 집계만 사용하므로 SQL 을 실행하지 않음
+     */
+    @GetMapping("/facets")
+    @Operation(
+        summary     = "{api.operations.facets.summary|" + ENTITY_TOKEN + "}",
+        description = "{api.operations.facets.description|" + ENTITY_TOKEN + "}",
+        security    = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses({
+        @ApiResponse(
+            responseCode = "200",
+            description  = "{api.operations.select.responses.ok|" + ENTITY_TOKEN + "}",
+            content      = @Content(mediaType = "application/json",
+                                  schema = @Schema(implementation = CommonResponse.class))
+        ),
+        @ApiResponse(responseCode = "500", description = "{api.operations.select.responses.error}")
+    })
+    public ResponseEntity<?> selectFacets(
             @RequestParam(required = false) String category,
             @RequestParam(required = false) String search) {
 
         CommonResponse response = CommonResponse.builder().build();
         try {
-            List<Item> items = itemService.selectAll(page, size, category, search);
-            response.setData(items);
+            response.setData(itemFacetService.facets(category, search));
             response.setCode(ResponseCode.SUCCESS);
             response.setMessage(messages.get("api.operations.select.responses.ok"));
             return ResponseEntity.ok(response);
         } catch (Exception ex) {
-            log.error("Select all error", ex);
+            log.error("Select facets error", ex);
             response.setCode(ResponseCode.ERROR);
             response.setMessage(messages.get("api.operations.select.responses.error"));
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(response);
         }
     }
 
+    /**
+     * Export 권한: USER, ADMIN 가능
+     *
+     * - 전체(또는 category/search 조건) 아이템을 NDJSON 또는 CSV 로 스트리밍
+     * - 행을 List 로 모으지 않고 ResultHandler 로 한 행씩 응답에 바로 쓰므로 메모리 사용량이 일정함
+     * - gzip=true 이면 Content-Encoding: gzip 으로 압축하여 전송
+     */
+    @GetMapping("/export")
+    @Operation(
+        summary     = "{api.operations.export.summary|" + ENTITY_TOKEN + "}",
+        description = "{api.operations.export.description|" + ENTITY_TOKEN + "}",
+        security    = @SecurityRequirement(name = "JWT")
+    )
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "{api.operations.export.responses.ok|" + ENTITY_TOKEN + "}"),
+        @ApiResponse(responseCode = "400", description = "{api.operations.select.responses.bad_request}")
+    })
+    public ResponseEntity<?> export(
+            @RequestParam(defaultValue = "ndjson") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String category,
+            @RequestParam(required = false) String search,
+            HttpServletResponse servletResponse) throws IOException {
+
+        boolean csv = "csv".equalsIgnoreCase(format);
+        if (!csv && !"ndjson".equalsIgnoreCase(format)) {
+            CommonResponse response = CommonResponse.builder().build();
+            response.setCode(ResponseCode.BAD_REQUEST);
+            response.setMessage(messages.get("api.operations.select.responses.bad_request"));
+            return ResponseEntity.badRequest().body(response);
+        }
+
+        servletResponse.setStatus(HttpStatus.OK.value());
+        servletResponse.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        servletResponse.setContentType(csv ? "text/csv" : "application/x-ndjson");
+        servletResponse.setHeader(HttpHeaders.CONTENT_DISPOSITION,
+                ContentDisposition.attachment().filename(csv ? "items.csv" : "items.ndjson").build().toString());
+        if (gzip) {
+            servletResponse.setHeader(HttpHeaders.CONTENT_ENCODING, "gzip");
+        }
+
+        // gzip 은 syncFlush 로 생성해야 flush() 시점에 압축된 데이터가 실제로 전송됨
+        OutputStream out = gzip
+                ? new GZIPOutputStream(servletResponse.getOutputStream(), true)
+                : servletResponse.getOutputStream();
+
+        long[] rows = {0};
+        try {
+            if (csv) {
+                out.write(exports.csv("id", "price", "name", "category", "image", "description", "createDate", "updateDate")
+                        .getBytes(StandardCharsets.UTF_8));
+            }
+            // 헤더(첫 바이트)를 즉시 전송
+            out.flush();
+
+            itemService.export(category, search, context -> {
+                Item item = context.getResultObject();
+                try {
+                    if (csv) {
+                        out.write(exports.csv(item.getId(), item.getPrice(), item.getName(), item.getCategory(),
+                                item.getImage(), item.getDescription(), item.getCreateDate(), item.getUpdateDate())
+                                .getBytes(StandardCharsets.UTF_8));
+                    } else {
+                        out.write(objectMapper.writeValueAsBytes(item));
+                        out.write('\n');
+                    }
+                } catch (IOException ex) {
+                    // 클라이언트 연결 종료 등: 예외로 조회를 중단시킨다
+                    throw new UncheckedIOException(ex);
+                }
+                rows[0]++;
+            });
+
+            if (out instanceof GZIPOutputStream gzipOut) {
+                gzipOut.finish();
+            }
+            out.flush();
+            log.info("Export done : format={}, gzip={}, rows={}", format, gzip, rows[0]);
+
+        } catch (Exception ex) {
+            // 이미 응답이 전송 중이므로 상태 코드를 바꿀 수 없음 → 로그만 남기고 연결 종료
+            log.error("Export error : rows={}", rows[0], ex);
+        }
+        return null;
+    }
+
     /**
      * Read by ID 권한: USER, ADMIN 가능
      */
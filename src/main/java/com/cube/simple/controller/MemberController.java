@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.cube.simple.config.SecurityExpressions;
@@ -21,6 +22,7 @@ import com.cube.simple.dto.CommonResponse;
 import com.cube.simple.enums.ResponseCode;
 import com.cube.simple.model.Member;
 import com.cube.simple.service.MemberService;
+import com.cube.simple.util.FieldsUtil;
 import com.cube.simple.util.MessageUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -43,6 +45,10 @@ public class MemberController {
 
     private static final String ENTITY_TOKEN = "{api.operations.entity.member}";
 
+    // fields= 로 선택 가능한 필드 (응답/SELECT 순서, password 는 선택 불가)
+    private static final List<String> FIELDS = List.of(
+            "seq", "role", "id", "name", "phone", "description", "createDate", "updateDate");
+
     @Autowired 
     private ObjectMapper objectMapper;
     
@@ -52,6 +58,9 @@ public class MemberController {
     @Autowired 
     private MessageUtil messages;
 
+    @Autowired 
+    private FieldsUtil fieldsUtil;
+
     /**
      * Create 권한: ADMIN만 가능
      */
@@ -102,6 +111,8 @@ public class MemberController {
 
     /**
      * Read 권한: ADMIN 가능
+     *
+     * - fields 파라미터(예: fields=name,phone)가 있으면 해당 컬럼만 조회하고 응답에도 해당 필드만 포함 (id 는 항상 포함)
      */
     @GetMapping
     @PreAuthorize(SecurityExpressions.HAS_ROLE_ADMIN)
@@ -117,15 +128,25 @@ public class MemberController {
             content      = @Content(mediaType = "application/json",
                           schema = @Schema(implementation = CommonResponse.class))
         ),
+        @ApiResponse(responseCode = "400", description = "{api.operations.select.responses.bad_request}"),
         @ApiResponse(responseCode = "500", description = "{api.operations.select.responses.error}")
     })
-    public ResponseEntity<?> selectAll() {
+    public ResponseEntity<?> selectAll(@RequestParam(required = false) String fields) {
 
         CommonResponse response = CommonResponse.builder().build();
 
         try {
-            List<Member> members = memberService.selectAll();
-            response.setData(members);
+            List<String> properties;
+            try {
+                properties = fieldsUtil.parse(fields, FIELDS);
+            } catch (IllegalArgumentException ex) {
+                response.setCode(ResponseCode.BAD_REQUEST);
+                response.setMessage(messages.get("api.operations.select.responses.bad_request"));
+                return ResponseEntity.badRequest().body(response);
+            }
+
+            List<Member> members = memberService.selectAll(fieldsUtil.columns(properties));
+            response.setData(properties == null ? members : fieldsUtil.project(members, properties));
             response.setCode(ResponseCode.SUCCESS);
             response.setMessage(messages.get("api.operations.select.responses.ok"));
             return ResponseEntity.ok(response);
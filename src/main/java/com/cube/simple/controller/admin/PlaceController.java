@@ -13,6 +13,7 @@ import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
 import com.cube.simple.dto.CommonRequest;
@@ -20,6 +21,7 @@ import com.cube.simple.dto.CommonResponse;
 import com.cube.simple.enums.ResponseCode;
 import com.cube.simple.model.admin.Place;
 import com.cube.simple.service.admin.PlaceService;
+import com.cube.simple.util.FieldsUtil;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 import io.swagger.v3.oas.annotations.Operation;
@@ -36,12 +38,19 @@ import lombok.extern.slf4j.Slf4j;
 @RequestMapping("/api/admin/places")
 public class PlaceController {
     
+    // fields= 로 선택 가능한 필드 (응답/SELECT 순서)
+    private static final List<String> FIELDS = List.of(
+            "id", "name", "description", "createDate", "updateDate");
+
     @Autowired
     private ObjectMapper objectMapper;
     
     @Autowired
     private PlaceService placeService;
 
+    @Autowired
+    private FieldsUtil fieldsUtil;
+
     /**
      * Create 권한: ADMIN 만 가능
      */
@@ -85,6 +94,8 @@ public class PlaceController {
     
     /**
      * Read 권한: 모두 공개 (인증 없이 접근 가능)
+     *
+     * - fields 파라미터(예: fields=name)가 있으면 해당 컬럼만 조회하고 응답에도 해당 필드만 포함 (id 는 항상 포함)
      */
     @GetMapping
     @Operation(
@@ -93,15 +104,24 @@ public class PlaceController {
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "{api.operations.select.responses.ok}", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CommonResponse.class))),
+        @ApiResponse(responseCode = "400", description = "{api.operations.select.responses.bad_request}"),
         @ApiResponse(responseCode = "500", description = "{api.operations.select.responses.error}")
     })        
-    public ResponseEntity<?> selectAll() {
+    public ResponseEntity<?> selectAll(@RequestParam(required = false) String fields) {
         
         CommonResponse response = CommonResponse.builder().build();
         
         try {
-            List<Place> places = placeService.selectAll();
-            response.setData(places);
+            List<String> properties;
+            try {
+                properties = fieldsUtil.parse(fields, FIELDS);
+            } catch (IllegalArgumentException ex) {
+                response.setCode(ResponseCode.BAD_REQUEST);
+                response.setMessage(String.format("Select error : %s", ex.getLocalizedMessage()));
+                return ResponseEntity.badRequest().body(response);
+            }
+            List<Place> places = placeService.selectAll(fieldsUtil.columns(properties));
+            response.setData(properties == null ? places : fieldsUtil.project(places, properties));
             response.setCode(ResponseCode.SUCCESS);
             response.setMessage(String.format("Select success : %d items", places.size()));
             return ResponseEntity.ok(response);
@@ -4,6 +4,7 @@ import java.util.List;
 import java.util.Objects;
 
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -15,11 +16,13 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.context.request.WebRequest;
 
 import com.cube.simple.dto.CommonRequest;
 import com.cube.simple.dto.CommonResponse;
 import com.cube.simple.enums.ResponseCode;
 import com.cube.simple.model.user.Place;
+import com.cube.simple.service.EntityVersionService;
 import com.cube.simple.service.user.PlaceService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
@@ -43,6 +46,9 @@ public class PlaceController {
     @Autowired
     private PlaceService placeService;
 
+    @Autowired
+    private EntityVersionService entityVersionService;
+
     /**
      * Create 권한: ADMIN 만 가능
      */
@@ -86,6 +92,8 @@ public class PlaceController {
     
     /**
      * Read 권한: 모두 공개 (인증 없이 접근 가능)
+     *
+     * - 응답에 ETag 를 포함하며, If-None-Match 가 현재 Place 버전과 같으면 조회 없이 304 응답
      */
     @GetMapping
     @Operation(
@@ -94,10 +102,17 @@ public class PlaceController {
     )
     @ApiResponses({
         @ApiResponse(responseCode = "200", description = "{api.operations.select.responses.ok}", content = @Content(mediaType = "application/json", schema = @Schema(implementation = CommonResponse.class))),
+        @ApiResponse(responseCode = "304", description = "{api.operations.select.responses.not_modified}"),
         @ApiResponse(responseCode = "500", description = "{api.operations.select.responses.error}")
     })        
-    public ResponseEntity<?> selectAll(@RequestParam(name="lang", required=false, defaultValue="ko") String lang) {
+    public ResponseEntity<?> selectAll(@RequestParam(name="lang", required=false, defaultValue="ko") String lang, WebRequest webRequest) {
         
+        String etag = entityVersionService.etag(EntityVersionService.PLACE, webRequest);
+        if (entityVersionService.notModified(etag, webRequest)) {
+            // 변경 없음: 목록 조회/직렬화 없이 304
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(etag).build();
+        }
+
         CommonResponse response = CommonResponse.builder().build();
         
         try {
@@ -105,7 +120,7 @@ public class PlaceController {
             response.setData(places);
             response.setCode(ResponseCode.SUCCESS);
             response.setMessage(String.format("Select success : %d items", places.size()));
-            return ResponseEntity.ok(response);
+            return ResponseEntity.ok().eTag(etag).cacheControl(CacheControl.noCache()).body(response);
         } catch (Exception ex) {
             log.error("Select all error", ex);
             response.setCode(ResponseCode.ERROR);
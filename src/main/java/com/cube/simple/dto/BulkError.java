@@ -0,0 +1,21 @@
+package com.cube.simple.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량(batch) 요청의 행 단위 오류
+ * - index: 요청 data 배열에서의 위치 (0부터 시작)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkError {
+
+    private int index;
+    private Long id;
+    private String message;
+}
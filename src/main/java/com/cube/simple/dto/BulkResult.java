@@ -0,0 +1,23 @@
+package com.cube.simple.dto;
+
+import java.util.List;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 대량(batch) 요청 결과
+ * - ids: 처리된 행의 id (insert 는 생성된 id, 요청 순서 유지)
+ * - errors: 검증 실패 등으로 처리되지 않은 행
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkResult {
+
+    private List<Long> ids;
+    private List<BulkError> errors;
+}
@@ -0,0 +1,30 @@
+package com.cube.simple.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Redis 회로 차단기 상태
+ * - state: CLOSED(Redis 사용) / OPEN(로컬 대체 동작 중)
+ * - opened: 열린 횟수, degradedMillis: 열려 있던 누적 시간 (현재 열린 구간 포함)
+ * - failures: 실패한 Redis 호출 수, slowCalls: 제한 시간보다 느린 호출 수
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheHealth {
+
+    private String state;
+    private LocalDateTime openedAt;
+
+    private long opened;
+    private long degradedMillis;
+
+    private long failures;
+    private long slowCalls;
+}
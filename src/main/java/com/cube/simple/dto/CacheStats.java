@@ -0,0 +1,42 @@
+package com.cube.simple.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 캐시 계층별 적중 통계 (L1 = 프로세스 메모리, L2 = Redis, offHeap = off-heap 저장소)
+ * - l2 항목은 L1 미스로 L2 까지 조회한 건만 집계
+ * - offHeap 항목은 off-heap 캐시(cache.offheap.enabled=true)만 채움 (L1/L2 항목은 0)
+ *   offHeapBytes / offHeapAllocatedBytes / offHeapRejected / offHeapRebalances
+ *   = 직렬화 값 합계 / 할당된 slab 합계 / 저장하지 못한 값 수 / 다른 크기 등급으로 옮긴 slab 수
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheStats {
+
+    private String name;
+
+    private long l1Size;
+    private long l1Hits;
+    private long l1Misses;
+    private double l1HitRatio;
+    private long l1Evictions;
+
+    private long l2Hits;
+    private long l2Misses;
+    private double l2HitRatio;
+
+    private long offHeapSize;
+    private long offHeapHits;
+    private long offHeapMisses;
+    private double offHeapHitRatio;
+    private long offHeapEvictions;
+    private long offHeapBytes;
+    private long offHeapAllocatedBytes;
+    private long offHeapRejected;
+    private long offHeapRebalances;
+}
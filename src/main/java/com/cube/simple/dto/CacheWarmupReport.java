@@ -0,0 +1,32 @@
+package com.cube.simple.dto;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 기동 시 캐시 예열 결과
+ * - pages: 예열 대상 목록 페이지 수 / pagesLoaded: 성공 수
+ * - ids  : 예열 대상 단건 id 수 (이전 실행 조회 상위) / idsLoaded: 캐시에 적재된 수 (삭제된 id 제외)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CacheWarmupReport {
+
+    private LocalDateTime startedAt;
+    private long durationMillis;
+
+    private int pages;
+    private int pagesLoaded;
+
+    private int ids;
+    private int idsLoaded;
+
+    private int failures;
+    private boolean timedOut;
+}
@@ -24,6 +24,9 @@ public class CommonResponse <T> {
 	
 	private T data;
 
+	// Keyset(커서) 페이지 조회 시 다음 페이지 요청에 after 로 전달할 커서 (마지막 페이지면 null)
+	private String nextCursor;
+
 	@Builder.Default  
     private final LocalDateTime timestamp = LocalDateTime.now(Clock.systemUTC());
 }
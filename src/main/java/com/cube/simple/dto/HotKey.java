@@ -0,0 +1,22 @@
+package com.cube.simple.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 최근 조회가 몰리는 아이템 id
+ * - estimate: 최근 구간 조회 수 추정치 (count-min sketch, 실제보다 작지 않음)
+ * - pinned  : 프로세스 로컬 사본으로 응답 중인지
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class HotKey {
+
+    private Long id;
+    private long estimate;
+    private boolean pinned;
+}
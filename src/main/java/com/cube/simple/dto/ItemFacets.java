@@ -0,0 +1,22 @@
+package com.cube.simple.dto;
+
+import java.util.List;
+import java.util.Map;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Item 패싯 - 카테고리별 건수 (이름순), 가격 구간별 건수
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemFacets {
+
+    private Map<String, Long> categories;
+    private List<PriceBucket> prices;
+}
@@ -0,0 +1,24 @@
+package com.cube.simple.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonInclude.Include;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 가격 구간별 건수 - from 이상 to 미만 (마지막 구간은 to 없음)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@JsonInclude(Include.NON_NULL)
+public class PriceBucket {
+
+    private Long from;
+    private Long to;
+    private long count;
+}
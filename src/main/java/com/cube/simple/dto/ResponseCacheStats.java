@@ -0,0 +1,29 @@
+package com.cube.simple.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * 공개 GET 응답 캐시 통계 (노드 로컬)
+ * - stale        : 다른 노드의 변경 등으로 테이블 버전이 달라 버린 항목 수 (misses 에 포함)
+ * - invalidations: 같은 노드의 쓰기로 제거한 항목 수
+ * - rejected     : max-entry-size 를 넘어 저장하지 않은 응답 수
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ResponseCacheStats {
+
+    private long entries;
+    private long bytes;
+    private long hits;
+    private long misses;
+    private double hitRatio;
+    private long stale;
+    private long evictions;
+    private long invalidations;
+    private long rejected;
+}
@@ -0,0 +1,21 @@
+package com.cube.simple.enums;
+
+/**
+ * 캐시 아이템 쓰기 모드 (item.cache.write-mode)
+ */
+public enum CacheWriteModeCode {
+
+    EVICT   ("DB 저장 후 캐시 삭제 (다음 조회가 DB 에서 다시 적재)"),
+    THROUGH ("DB 저장 후 저장된 행으로 캐시 갱신"),
+    BEHIND  ("캐시 먼저 갱신, DB 는 큐에 모아 주기적으로 일괄 반영 (수정만 해당)");
+
+    private final String description;
+
+    CacheWriteModeCode(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
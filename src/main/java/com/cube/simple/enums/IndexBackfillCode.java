@@ -0,0 +1,21 @@
+package com.cube.simple.enums;
+
+/**
+ * 기동 시 Item 파생 테이블(검색 색인 등) 채우기 방식 (item.index.backfill)
+ */
+public enum IndexBackfillCode {
+
+    NEVER  ("채우지 않음 (DataInitializer 또는 수동 실행)"),
+    AUTO   ("비어 있을 때만 채움 (운영 최초 배포)"),
+    ALWAYS ("매 기동 시 다시 채움 (중단된 채우기 재실행/앱 외부 변경 복구용, 복구 후 AUTO 로 되돌림)");
+
+    private final String description;
+
+    IndexBackfillCode(String description) {
+        this.description = description;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+}
@@ -0,0 +1,45 @@
+package com.cube.simple.enums;
+
+/**
+ * Item 목록 정렬 기준
+ *
+ * - 각 정렬은 (컬럼, id) 및 (category, 컬럼, id) 복합 인덱스로 처리되도록 schema.sql 에 인덱스가 있어야 함
+ *   정렬을 추가할 때는 인덱스와 ReadItemMapperIntegrationTests 의 실행 계획 테스트도 함께 추가할 것
+ * - column 은 mapper 에서 ${} 로 치환되므로 enum 으로만 전달한다.
+ */
+public enum ItemSortCode {
+
+    PRICE       ("price",      "price"),
+    CREATE_DATE ("createDate", "create_date"),
+    NAME        ("name",       "name");
+
+    private final String field;
+    private final String column;
+
+    ItemSortCode(String field, String column) {
+        this.field = field;
+        this.column = column;
+    }
+
+    public String getField() {
+        return field;
+    }
+
+    public String getColumn() {
+        return column;
+    }
+
+    /**
+     * 요청 필드명(price, createDate, name)으로 정렬 기준을 찾습니다.
+     *
+     * @throws IllegalArgumentException 지원하지 않는 정렬 필드인 경우
+     */
+    public static ItemSortCode of(String field) {
+        for (ItemSortCode code : values()) {
+            if (code.field.equals(field)) {
+                return code;
+            }
+        }
+        throw new IllegalArgumentException("Unsupported sort : " + field);
+    }
+}
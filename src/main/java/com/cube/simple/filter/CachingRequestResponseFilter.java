@@ -26,11 +26,14 @@ import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 @Component
-@Order(Ordered.LOWEST_PRECEDENCE)
+// ResponseCacheFilter(LOWEST_PRECEDENCE) 바깥에서 동작해야 캐시 적중 응답도 로그에 남음
+@Order(Ordered.LOWEST_PRECEDENCE - 10)
 public class CachingRequestResponseFilter extends OncePerRequestFilter {
 
     private static final Set<String> EXCLUDE_PREFIXES = Set.of(
-        "/swagger-ui", "/v3/api-docs", "/webjars", "/favicon"
+        "/swagger-ui", "/v3/api-docs", "/webjars", "/favicon",
+        // 스트리밍 응답: 바디를 버퍼링하면 첫 바이트가 끝까지 지연되고 메모리를 전체 크기만큼 사용함
+        "/api/items/export"
     );
     private static final int MAX_BODY = 4 * 1024; // 4KB
 
@@ -102,6 +105,8 @@ public class CachingRequestResponseFilter extends OncePerRequestFilter {
 
     private String safeResponseBody(ContentCachingResponseWrapper resp, String contentType) {
         if (!isTextual(contentType)) return "(skipped: " + contentType + ")";
+        String encoding = resp.getHeader("Content-Encoding");
+        if (encoding != null) return "(skipped: " + encoding + ")"; // 압축된 본문 (ResponseCacheFilter)
         byte[] buf = resp.getContentAsByteArray();
         if (buf.length == 0) return "";
         return truncate(decode(buf, resp.getCharacterEncoding()));
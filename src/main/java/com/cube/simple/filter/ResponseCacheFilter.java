@@ -0,0 +1,237 @@
+package com.cube.simple.filter;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import org.springframework.util.unit.DataSize;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.LocaleResolver;
+import org.springframework.web.util.ContentCachingResponseWrapper;
+
+import com.cube.simple.cache.ResponseCache;
+import com.cube.simple.service.EntityVersionService;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * 공개(permitAll) GET 응답 캐시 필터
+ *
+ * - 대상: ENTITIES 경로의 GET 중 Authorization 헤더가 없는 요청 (응답이 호출자와 무관하고 언어에 따라서만 다름)
+ * - 키: URI + 쿼리 + 언어(?lang= 또는 세션 Locale) + 인코딩(gzip | identity)
+ * - 적중: 컨트롤러/CommonResponse 생성/JSON 직렬화 없이 저장된 바이트를 그대로 응답,
+ *         If-None-Match 가 저장된 ETag 와 같으면 304
+ * - 미스: 200 JSON 응답만 저장, gzip 을 받는 요청이고 compress-min-size 이상이면 압축해 저장/응답
+ * - 무효화: 쓰기 서비스의 EntityVersionService.bump() (같은 노드 즉시) + 테이블 버전 비교 (다른 노드)
+ * - Spring Security 필터 다음, 요청/응답 로그 필터 안쪽에서 동작 (적중도 로그에 남음)
+ */
+@Component
+@Order(Ordered.LOWEST_PRECEDENCE)
+public class ResponseCacheFilter extends OncePerRequestFilter {
+
+    // 공개 GET 경로 → 무효화 기준 테이블 (SecurityConfig 의 permitAll GET 과 맞출 것)
+    private static final Map<String, String> ENTITIES = Map.of(
+        "/api/demos",        EntityVersionService.DEMO,
+        "/api/user/places",  EntityVersionService.PLACE,
+        "/api/owner/places", EntityVersionService.PLACE,
+        "/api/admin/places", EntityVersionService.PLACE
+    );
+    private static final String GZIP = "gzip";
+    private static final String IDENTITY = "identity";
+    private static final String LANG = "lang";
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    @Autowired
+    private LocaleResolver localeResolver;
+
+    @Value("${cache.response.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.response.compress-min-size:1KB}")
+    private DataSize compressMinSize;
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !enabled
+            || !HttpMethod.GET.matches(request.getMethod())
+            || request.getHeader(HttpHeaders.AUTHORIZATION) != null
+            || entity(request.getRequestURI()) == null;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request,
+                                    HttpServletResponse response,
+                                    FilterChain chain) throws ServletException, IOException {
+
+        String entity = entity(request.getRequestURI());
+        boolean gzip = acceptsGzip(request.getHeader(HttpHeaders.ACCEPT_ENCODING));
+        String key = key(request, gzip);
+        // 저장 전에 읽은 버전: 응답을 만드는 중에 커밋된 변경이 있으면 다음 조회에서 버려짐
+        long version = entityVersionService.version(entity);
+
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+
+        ResponseCache.Entry entry = responseCache.get(key, version);
+        if (entry != null) {
+            changeLocale(request, response);
+            write(request, response, entry);
+            return;
+        }
+
+        ContentCachingResponseWrapper wrapper = new ContentCachingResponseWrapper(response);
+        chain.doFilter(request, wrapper);
+
+        byte[] body = wrapper.getContentAsByteArray();
+        if (!cacheable(wrapper, body)) {
+            wrapper.copyBodyToResponse();
+            return;
+        }
+
+        boolean compressed = gzip && body.length >= compressMinSize.toBytes();
+        entry = new ResponseCache.Entry(entity, version, wrapper.getContentType(),
+                wrapper.getHeader(HttpHeaders.ETAG), wrapper.getHeader(HttpHeaders.CACHE_CONTROL),
+                compressed ? gzip(body) : body, compressed);
+        responseCache.put(key, entry);
+
+        if (compressed) {
+            // 버퍼의 원본 본문은 버리고 압축 본문으로 응답 (헤더는 이미 원래 응답에 설정됨)
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+            response.setContentLength(entry.body().length);
+            response.getOutputStream().write(entry.body());
+        } else {
+            wrapper.copyBodyToResponse();
+        }
+    }
+
+    private void write(HttpServletRequest request, HttpServletResponse response, ResponseCache.Entry entry) throws IOException {
+        if (entry.cacheControl() != null) {
+            response.setHeader(HttpHeaders.CACHE_CONTROL, entry.cacheControl());
+        }
+        if (entry.etag() != null && new ServletWebRequest(request, response).checkNotModified(entry.etag())) {
+            // 304 (ETag 헤더는 checkNotModified 에서 설정)
+            return;
+        }
+        response.setStatus(HttpStatus.OK.value());
+        response.setContentType(entry.contentType());
+        if (entry.etag() != null) {
+            response.setHeader(HttpHeaders.ETAG, entry.etag());
+        }
+        if (entry.compressed()) {
+            response.setHeader(HttpHeaders.CONTENT_ENCODING, GZIP);
+        }
+        response.setContentLength(entry.body().length);
+        response.getOutputStream().write(entry.body());
+    }
+
+    private boolean cacheable(ContentCachingResponseWrapper response, byte[] body) {
+        if (response.getStatus() != HttpStatus.OK.value() || body.length == 0
+                || response.getHeader(HttpHeaders.CONTENT_ENCODING) != null
+                || response.getContentType() == null) {
+            return false;
+        }
+        try {
+            return MediaType.APPLICATION_JSON.isCompatibleWith(MediaType.parseMediaType(response.getContentType()));
+        } catch (InvalidMediaTypeException e) {
+            return false;
+        }
+    }
+
+    private String key(HttpServletRequest request, boolean gzip) {
+        String query = request.getQueryString();
+        return request.getRequestURI()
+            + (query == null ? "" : "?" + query)
+            + "|" + locale(request)
+            + "|" + (gzip ? GZIP : IDENTITY);
+    }
+
+    // 컨트롤러에서 쓰일 Locale: ?lang= 이 있으면 LocaleChangeInterceptor 가 바꿀 값, 없으면 LocaleResolver 의 현재 값
+    private Locale locale(HttpServletRequest request) {
+        Locale locale = requestedLocale(request);
+        return locale != null ? locale : localeResolver.resolveLocale(request);
+    }
+
+    // 적중 시에도 ?lang= 의 세션 Locale 변경은 LocaleChangeInterceptor 와 같게 반영
+    private void changeLocale(HttpServletRequest request, HttpServletResponse response) {
+        Locale locale = requestedLocale(request);
+        if (locale != null) {
+            localeResolver.setLocale(request, response, locale);
+        }
+    }
+
+    private Locale requestedLocale(HttpServletRequest request) {
+        String lang = request.getParameter(LANG);
+        if (!StringUtils.hasText(lang)) {
+            return null;
+        }
+        try {
+            return StringUtils.parseLocale(lang);
+        } catch (IllegalArgumentException ex) {
+            return null;
+        }
+    }
+
+    private static String entity(String uri) {
+        for (Map.Entry<String, String> entry : ENTITIES.entrySet()) {
+            String path = entry.getKey();
+            if (uri.equals(path) || uri.startsWith(path + "/")) {
+                return entry.getValue();
+            }
+        }
+        return null;
+    }
+
+    // "gzip", "gzip;q=0.8" 은 허용, "gzip;q=0" 은 거부
+    static boolean acceptsGzip(String acceptEncoding) {
+        if (acceptEncoding == null) {
+            return false;
+        }
+        for (String part : acceptEncoding.split(",")) {
+            String[] tokens = part.trim().toLowerCase(Locale.ROOT).split(";");
+            if (!GZIP.equals(tokens[0].trim())) {
+                continue;
+            }
+            for (int i = 1; i < tokens.length; i++) {
+                String parameter = tokens[i].trim();
+                if (parameter.startsWith("q=")) {
+                    try {
+                        return Double.parseDouble(parameter.substring(2)) > 0;
+                    } catch (NumberFormatException ex) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+        return false;
+    }
+
+    private static byte[] gzip(byte[] body) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(Math.max(64, body.length / 4));
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(body);
+        }
+        return out.toByteArray();
+    }
+}
@@ -0,0 +1,169 @@
+package com.cube.simple.init;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import com.cube.simple.cache.ItemAccessTracker;
+import com.cube.simple.dto.CacheWarmupReport;
+import com.cube.simple.mapper.read.ReadItemMapper;
+import com.cube.simple.service.CachedItemService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 시 캐시 예열
+ *
+ * - ApplicationRunner 는 readiness(ACCEPTING_TRAFFIC) 가 발행되기 전에 실행되므로,
+ *   예열이 끝난 뒤에야 로드밸런서가 트래픽을 보낸다. (timeout 을 넘기면 남은 작업은 취소하고 기동 계속)
+ * - 대상
+ *   · 전체 + 건수 상위 카테고리별 목록 앞 N 페이지와 건수
+ *   · 이전 실행에서 많이 조회된 아이템 id (ItemAccessTracker, spring.cache.type=redis 인 경우만 기록이 남음)
+ * - 읽기 DB 에 부하를 몰지 않도록 parallelism 개 스레드로만 적재
+ * - 목록은 CachedItemService.warmAll 로 적재 (selectAll 의 데모용 지연 없이 같은 캐시 키에 저장)
+ * - 결과는 로그와 GET /api/caches/warmup 으로 확인
+ */
+@Slf4j
+@Order(100)
+@Component
+public class CacheWarmer implements ApplicationRunner {
+
+    private static final int ID_CHUNK = 100;
+
+    @Autowired
+    private CachedItemService cachedItemService;
+
+    @Autowired
+    private ReadItemMapper readItemMapper;
+
+    @Autowired
+    private ItemAccessTracker itemAccessTracker;
+
+    @Value("${cache.warm.enabled:true}")
+    private boolean enabled;
+
+    @Value("${cache.warm.pages:3}")
+    private int pages;
+
+    @Value("${cache.warm.page-size:10}")
+    private int pageSize;
+
+    @Value("${cache.warm.categories:20}")
+    private int categories;
+
+    @Value("${cache.warm.top-ids:200}")
+    private int topIds;
+
+    @Value("${cache.warm.parallelism:4}")
+    private int parallelism;
+
+    @Value("${cache.warm.timeout:60s}")
+    private Duration timeout;
+
+    private volatile CacheWarmupReport report;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (!enabled) {
+            return;
+        }
+        report = warm();
+        log.info("Cache warm-up finished : {}ms, pages {}/{}, ids {}/{}, failures {}{}",
+                report.getDurationMillis(), report.getPagesLoaded(), report.getPages(),
+                report.getIdsLoaded(), report.getIds(), report.getFailures(),
+                report.isTimedOut() ? " (timed out)" : "");
+    }
+
+    /**
+     * 마지막 예열 결과 (예열 전이거나 비활성화된 경우 null)
+     */
+    public CacheWarmupReport getReport() {
+        return report;
+    }
+
+    private CacheWarmupReport warm() {
+        LocalDateTime startedAt = LocalDateTime.now();
+        long started = System.currentTimeMillis();
+
+        AtomicInteger pagesLoaded = new AtomicInteger();
+        AtomicInteger idsLoaded = new AtomicInteger();
+        AtomicInteger failures = new AtomicInteger();
+
+        List<String> targets = new ArrayList<>();
+        targets.add(null);
+        List<Long> ids = new ArrayList<>();
+        try {
+            targets.addAll(readItemMapper.selectCategories(categories));
+            ids.addAll(itemAccessTracker.top(topIds));
+        } catch (RuntimeException ex) {
+            log.warn("Cache warm-up target lookup failed", ex);
+            failures.incrementAndGet();
+        }
+
+        ExecutorService executor = Executors.newFixedThreadPool(Math.max(1, parallelism),
+                new CustomizableThreadFactory("cache-warm-"));
+        try {
+            for (String category : targets) {
+                executor.execute(() -> attempt(failures, () -> cachedItemService.selectCount(category, null, false)));
+                for (int page = 1; page <= pages; page++) {
+                    int p = page;
+                    executor.execute(() -> attempt(failures, () -> {
+                        cachedItemService.warmAll(p, pageSize, category);
+                        pagesLoaded.incrementAndGet();
+                    }));
+                }
+            }
+            for (int from = 0; from < ids.size(); from += ID_CHUNK) {
+                List<Long> chunk = ids.subList(from, Math.min(from + ID_CHUNK, ids.size()));
+                executor.execute(() -> attempt(failures, () -> idsLoaded.addAndGet(cachedItemService.selectByIds(chunk).size())));
+            }
+        } finally {
+            executor.shutdown();
+        }
+
+        boolean timedOut = false;
+        try {
+            timedOut = !executor.awaitTermination(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            timedOut = true;
+        }
+        if (timedOut) {
+            executor.shutdownNow();
+        }
+
+        return CacheWarmupReport.builder()
+                .startedAt(startedAt)
+                .durationMillis(System.currentTimeMillis() - started)
+                .pages(targets.size() * pages)
+                .pagesLoaded(pagesLoaded.get())
+                .ids(ids.size())
+                .idsLoaded(idsLoaded.get())
+                .failures(failures.get())
+                .timedOut(timedOut)
+                .build();
+    }
+
+    // 예열 실패는 기동을 막지 않음 (요청 시 평소처럼 적재됨)
+    private void attempt(AtomicInteger failures, Runnable task) {
+        try {
+            task.run();
+        } catch (RuntimeException ex) {
+            failures.incrementAndGet();
+            log.warn("Cache warm-up task failed", ex);
+        }
+    }
+}
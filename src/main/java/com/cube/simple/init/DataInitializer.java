@@ -15,6 +15,8 @@ import org.springframework.stereotype.Component;
 import com.cube.simple.model.Device;
 import com.cube.simple.model.admin.Place;
 import com.cube.simple.service.DeviceService;
+import com.cube.simple.service.ItemCountService;
+import com.cube.simple.service.ItemSearchService;
 import com.cube.simple.service.admin.PlaceService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
@@ -36,6 +38,12 @@ public class DataInitializer {
     @Autowired
     private PlaceService regionService;
 
+    @Autowired
+    private ItemSearchService itemSearchService;
+
+    @Autowired
+    private ItemCountService itemCountService;
+
     @Autowired
     private ObjectMapper objectMapper;
 
@@ -46,6 +54,10 @@ public class DataInitializer {
         populator.addScript(new ClassPathResource("schema.sql"));
         populator.addScript(new ClassPathResource("data.sql"));
         populator.execute(writeDataSource);
+
+        // data.sql 로 직접 넣은 Item 은 검색 색인/카테고리 카운터가 없으므로 재계산
+        itemSearchService.rebuild();
+        itemCountService.rebuild();
         
         deviceService.insert(Device.builder()
         		.id("user")
@@ -0,0 +1,78 @@
+package com.cube.simple.init;
+
+import java.time.Duration;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.ApplicationArguments;
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import com.cube.simple.cache.RedisLocks;
+import com.cube.simple.enums.IndexBackfillCode;
+import com.cube.simple.mapper.write.WriteItemMapper;
+import com.cube.simple.service.ItemCountService;
+import com.cube.simple.service.ItemSearchService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 기동 시 기존 Item 의 검색 색인(ItemToken)과 카테고리 카운터(ItemCategoryCount) 채우기
+ *
+ * - 카운터가 비어 있으면 근사 건수(approximate=true)가 0 이 되고 예열 대상 카테고리도 없으므로 색인과 함께 채운다.
+ * - 로컬/개발은 DataInitializer 가 채우므로 AUTO 에서는 건너뜀, 운영은 테이블 생성(db/mysql/item-index.sql) 후 첫 배포에서 채운다.
+ * - 채우기는 묶음마다 별도 트랜잭션이고 다시 실행해도 같은 결과이므로, 중간에 중단되면 ALWAYS 로 한 번 더 기동하면 된다.
+ * - 여러 노드가 동시에 기동하면 락을 잡은 한 노드만 수행 (나머지는 채우기가 끝날 때까지 검색 결과가 비어 있을 수 있음)
+ * - 예열(CacheWarmer)이 카운터로 카테고리를 고르므로 그보다 먼저 실행
+ */
+@Slf4j
+@Order(40)
+@Component
+public class ItemIndexInitializer implements ApplicationRunner {
+
+    private static final String LOCK = "item:index:backfill";
+    private static final Duration LOCK_TTL = Duration.ofMinutes(30);
+
+    @Autowired
+    private ItemSearchService itemSearchService;
+
+    @Autowired
+    private ItemCountService itemCountService;
+
+    @Autowired
+    private WriteItemMapper writeItemMapper;
+
+    @Autowired
+    private RedisLocks redisLocks;
+
+    @Value("${item.index.backfill:AUTO}")
+    private IndexBackfillCode backfill;
+
+    @Override
+    public void run(ApplicationArguments args) {
+        if (backfill == IndexBackfillCode.NEVER) {
+            return;
+        }
+        String token = redisLocks.tryLock(LOCK, LOCK_TTL);
+        if (token == null) {
+            log.info("Item index backfill skipped : running on another node");
+            return;
+        }
+        try {
+            boolean always = backfill == IndexBackfillCode.ALWAYS;
+            boolean empty = writeItemMapper.selectIds(null, 1).isEmpty();
+            if (!empty && (always || !itemSearchService.isIndexed())) {
+                itemSearchService.rebuild();
+            }
+            if (!empty && (always || !itemCountService.isCounted())) {
+                itemCountService.rebuild();
+            }
+        } catch (RuntimeException ex) {
+            // 기동은 계속 (다음 기동 또는 ALWAYS 로 다시 채움)
+            log.error("Item index backfill failed", ex);
+        } finally {
+            redisLocks.unlock(LOCK, token);
+        }
+    }
+}
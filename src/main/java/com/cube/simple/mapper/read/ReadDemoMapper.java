@@ -3,6 +3,7 @@ package com.cube.simple.mapper.read;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import com.cube.simple.model.Demo;
 
@@ -11,5 +12,6 @@ public interface ReadDemoMapper {
 	
 	Long selectCount ();
 	Demo selectById (Long id);
-	List <Demo> selectAll ();
+	// columns: 조회 컬럼 (FieldsUtil 허용 목록을 통과한 컬럼명, null → 전체 컬럼)
+	List <Demo> selectAll (@Param("columns") List <String> columns);
 }
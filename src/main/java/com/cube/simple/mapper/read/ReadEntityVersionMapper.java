@@ -0,0 +1,10 @@
+package com.cube.simple.mapper.read;
+
+import org.apache.ibatis.annotations.Mapper;
+
+@Mapper
+public interface ReadEntityVersionMapper {
+
+	// 테이블 변경 버전 = shard 합계 (한 번도 변경되지 않았으면 0)
+	Long selectVersion (String name);
+}
@@ -4,25 +4,123 @@ import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.session.ResultHandler;
 
+import com.cube.simple.enums.ItemSortCode;
 import com.cube.simple.model.Item;
+import com.cube.simple.model.ItemFacet;
 
 @Mapper
 public interface ReadItemMapper {
 	
-	Long selectCount ();
 	Item selectById (Long id);
+	List <Item> selectByIds (@Param("ids") List <Long> ids);
+
+    /**
+     * selectAll 과 동일한 조건의 전체 건수
+     *
+     * @param category 카테고리 (null/빈문자열 → 조건 무시)
+     * @param search   검색어 (null/빈문자열 → 조건 무시)
+     * @param tokens   검색어 n-gram 토큰 (비어있지 않으면 역색인 검색, 비어있으면 LIKE 검색)
+     * @param minPrice 최소 가격 (null → 조건 무시)
+     * @param maxPrice 최대 가격 (null → 조건 무시)
+     */
+	Long selectCount (
+            @Param("category") String category,
+            @Param("search") String search,
+            @Param("tokens") List<String> tokens,
+            @Param("minPrice") Long minPrice,
+            @Param("maxPrice") Long maxPrice
+        );
+
+    /**
+     * 카테고리 카운터(ItemCategoryCount) 기반 근사 건수 - O(1)
+     *
+     * @param category 카테고리 (null/빈문자열 → 전체 합계)
+     */
+	Long selectCategoryCount (@Param("category") String category);
+
+	/**
+	 * 건수가 많은 순서의 카테고리 목록
+	 *
+	 * @param limit 최대 개수
+	 */
+	List <String> selectCategories (@Param("limit") int limit);
+
+    /**
+     * 검색 조건에 맞는 (category, price) 별 건수 - 검색어가 있을 때만 사용 (검색어가 없으면 메모리 집계 사용)
+     *
+     * @param search 검색어
+     * @param tokens 검색어 n-gram 토큰 (비어있지 않으면 역색인 검색, 비어있으면 LIKE 검색)
+     */
+	List <ItemFacet> selectFacets (
+            @Param("search") String search,
+            @Param("tokens") List<String> tokens
+        );
 	// List <Item> selectAll ();
     /**
      * @param category 카테고리 (null/빈문자열 → 조건 무시)
      * @param search   검색어 (null/빈문자열 → 조건 무시)
+     * @param tokens   검색어 n-gram 토큰 (비어있지 않으면 역색인 검색 + 점수순 정렬, 비어있으면 LIKE 검색)
      * @param page     페이지 번호 (1부터 시작)
      * @param size     페이지당 조회 개수
+     * @param columns  조회 컬럼 (FieldsUtil 허용 목록을 통과한 컬럼명, null → 전체 컬럼)
+     * @param minPrice 최소 가격 (null → 조건 무시)
+     * @param maxPrice 최대 가격 (null → 조건 무시)
+     * @param sort     정렬 기준 (null → id 순, 검색어 토큰이 있으면 무시되고 점수순)
+     * @param desc     내림차순 여부
      */
 	List<Item> selectAll(
             @Param("page") int page,
             @Param("size") int size,
             @Param("category") String category,
-            @Param("search") String search
+            @Param("search") String search,
+            @Param("tokens") List<String> tokens,
+            @Param("columns") List<String> columns,
+            @Param("minPrice") Long minPrice,
+            @Param("maxPrice") Long maxPrice,
+            @Param("sort") ItemSortCode sort,
+            @Param("desc") boolean desc
         );	
+
+    /**
+     * Keyset(커서) 페이지 조회 - OFFSET 없이 id 기준으로 다음 페이지를 seek 한다.
+     *
+     * @param afterId  직전 페이지의 마지막 id (null → 첫 페이지)
+     * @param size     페이지당 조회 개수
+     * @param category 카테고리 (null/빈문자열 → 조건 무시)
+     * @param search   검색어 (null/빈문자열 → 조건 무시)
+     * @param tokens   검색어 n-gram 토큰 (비어있지 않으면 역색인 검색, 비어있으면 LIKE 검색)
+     * @param columns  조회 컬럼 (FieldsUtil 허용 목록을 통과한 컬럼명, null → 전체 컬럼)
+     */
+	List<Item> selectAfter(
+            @Param("afterId") Long afterId,
+            @Param("size") int size,
+            @Param("category") String category,
+            @Param("search") String search,
+            @Param("tokens") List<String> tokens,
+            @Param("columns") List<String> columns
+        );
+
+    /**
+     * 전체 Export - 결과를 List 로 모으지 않고 handler 로 한 행씩 전달한다. (id 오름차순)
+     *
+     * @param category 카테고리 (null/빈문자열 → 조건 무시)
+     * @param search   검색어 (null/빈문자열 → 조건 무시)
+     * @param tokens   검색어 n-gram 토큰 (비어있지 않으면 역색인 검색, 비어있으면 LIKE 검색)
+     * @param handler  행 단위 콜백
+     */
+	void selectForExport(
+            @Param("category") String category,
+            @Param("search") String search,
+            @Param("tokens") List<String> tokens,
+            ResultHandler<Item> handler
+        );
+
+    /**
+     * id 별 수정일 (id, updateDate 만 채움, 캐시 스냅샷 복원 시 중단 중 변경된 행 확인용)
+     *
+     * @param ids 아이템 id 목록
+     */
+	List<Item> selectUpdateDates(@Param("ids") List<Long> ids);
 }
@@ -3,12 +3,14 @@ package com.cube.simple.mapper.read;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import com.cube.simple.model.Member;
 
 @Mapper
 public interface ReadMemberMapper {
     Member selectById(String id);
-    List<Member> selectAll();
+    // columns: 조회 컬럼 (FieldsUtil 허용 목록을 통과한 컬럼명, null → 전체 컬럼)
+    List<Member> selectAll(@Param("columns") List<String> columns);
     Long selectCount();
 } 
\ No newline at end of file
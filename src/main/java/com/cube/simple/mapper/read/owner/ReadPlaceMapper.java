@@ -3,6 +3,7 @@ package com.cube.simple.mapper.read.owner;
 import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 import org.springframework.stereotype.Repository;
 
 import com.cube.simple.model.owner.Place;
@@ -13,5 +14,6 @@ public interface ReadPlaceMapper {
     
     Long selectCount ();
     Place selectById (Long id);
-    List <Place> selectAll ();
+    // columns: 조회 컬럼 (FieldsUtil 허용 목록을 통과한 컬럼명, null → 전체 컬럼)
+    List <Place> selectAll (@Param("columns") List <String> columns);
 }
\ No newline at end of file
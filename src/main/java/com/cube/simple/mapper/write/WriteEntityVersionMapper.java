@@ -0,0 +1,11 @@
+package com.cube.simple.mapper.write;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+@Mapper
+public interface WriteEntityVersionMapper {
+
+	// 테이블 변경 버전의 shard 행 1 증가 (행이 없으면 1 로 생성)
+	void increase (@Param("name") String name, @Param("shard") int shard);
+}
@@ -1,8 +1,13 @@
 package com.cube.simple.mapper.write;
 
+import java.util.List;
+
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import com.cube.simple.model.Item;
+import com.cube.simple.model.ItemCategoryCount;
+import com.cube.simple.model.ItemToken;
 
 @Mapper
 public interface WriteItemMapper {
@@ -10,4 +15,28 @@ public interface WriteItemMapper {
 	void insert (Item item);
 	void update (Item item);
 	void deleteById (Long id);
+
+	// 쓰기 DB 기준 조회 (복제 지연 없이 방금 변경된 행을 읽어야 하는 색인 갱신 용도)
+	Item selectById (Long id);
+	List <Item> selectByIds (@Param("ids") List <Long> ids);
+
+	// id 오름차순 keyset 순회 (id 컬럼만, afterId 가 null 이면 처음부터) - Bloom filter 재구성이 방금 커밋된 id 를 놓치지 않도록 쓰기 DB
+	List <Long> selectIds (@Param("afterId") Long afterId, @Param("size") int size);
+	// id 오름차순 keyset 순회 + 행 잠금 (id/name/category/description, 검색 재색인 묶음 용도)
+	List <Item> selectForIndex (@Param("afterId") Long afterId, @Param("size") int size);
+
+	void insertTokens (@Param("tokens") List <ItemToken> tokens);
+	void deleteTokens (Long itemId);
+	void deleteTokensByIds (@Param("ids") List <Long> ids);
+	// afterId 초과 ~ lastId 이하 (null 이면 해당 쪽 범위 제한 없음)
+	void deleteTokensBetween (@Param("afterId") Long afterId, @Param("lastId") Long lastId);
+	Long selectAnyToken ();
+
+	void increaseCategoryCount (@Param("category") String category, @Param("delta") long delta);
+	// 카테고리 오름차순 keyset 순회 (afterCategory 가 null 이면 처음부터), 카운터 재계산 묶음 용도
+	List <ItemCategoryCount> selectCategoryCounts (@Param("afterCategory") String afterCategory, @Param("size") int size);
+	// afterCategory 초과 ~ lastCategory 이하 (null 이면 해당 쪽 범위 제한 없음)
+	void deleteCategoryCountsBetween (@Param("afterCategory") String afterCategory, @Param("lastCategory") String lastCategory);
+	void insertCategoryCounts (@Param("counts") List <ItemCategoryCount> counts);
+	String selectAnyCategoryCount ();
 }
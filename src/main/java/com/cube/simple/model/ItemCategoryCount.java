@@ -0,0 +1,19 @@
+package com.cube.simple.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Item 카테고리별 건수 카운터 행
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemCategoryCount {
+
+    private String category;
+    private Long cnt;
+}
@@ -0,0 +1,20 @@
+package com.cube.simple.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Item 패싯 집계 행 (category, price 별 건수)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemFacet {
+
+    private String category;
+    private Long price;
+    private Long count;
+}
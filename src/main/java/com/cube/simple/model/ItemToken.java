@@ -0,0 +1,22 @@
+package com.cube.simple.model;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Item 검색 색인(역색인) 레코드
+ * - token 별 posting list 이며, category 필터는 (token, category, item_id) 인덱스로 교집합 처리한다.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ItemToken {
+
+    private String token;
+    private Long itemId;
+    private String category;
+    private Integer weight;
+}
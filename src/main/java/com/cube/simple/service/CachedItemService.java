@@ -1,17 +1,31 @@
 package com.cube.simple.service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
-import org.springframework.cache.annotation.Caching;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 import org.springframework.util.StringUtils;
 
+import com.cube.simple.cache.CacheLoader;
+import com.cube.simple.cache.CacheMultiGet;
+import com.cube.simple.cache.HotItemCache;
+import com.cube.simple.cache.ItemCacheKeys;
+import com.cube.simple.cache.ItemIdFilter;
+import com.cube.simple.enums.CacheWriteModeCode;
 import com.cube.simple.mapper.read.ReadItemMapper;
-import com.cube.simple.mapper.write.WriteItemMapper;
 import com.cube.simple.model.Item;
 
 @Service
@@ -20,18 +34,69 @@ public class CachedItemService {
 	@Autowired
 	private ReadItemMapper readItemMapper;
 	
+	// 쓰기는 ItemService 에 위임 (검색 색인 등 부가 갱신을 한 곳에서 처리)
 	@Autowired
-	private WriteItemMapper writeItemMapper;
+	private ItemService itemService;
 
+	@Autowired
+	private ItemSearchService itemSearchService;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private CacheMultiGet cacheMultiGet;
+
+	@Autowired
+	private ItemCacheKeys itemCacheKeys;
+
+	@Autowired
+	private CacheLoader cacheLoader;
+
+	@Autowired
+	private ItemIdFilter itemIdFilter;
+
+	@Autowired
+	private HotItemCache hotItemCache;
+
+	@Autowired
+	private ItemWriteBehindService itemWriteBehindService;
+
+	// EVICT: 저장 후 "item" 캐시 삭제, THROUGH: 저장된 행으로 캐시 갱신, BEHIND: 수정은 캐시 먼저 갱신 후 DB 일괄 반영
+	@Value("${item.cache.write-mode:EVICT}")
+	private CacheWriteModeCode writeMode;
+
+	/**
+	 * 목록/건수 캐시는 allEntries 대신 태그 세대를 올려 변경된 카테고리만 무효화 (ItemCacheKeys 참고)
+	 * - through/behind 모드는 DB 가 채운 값(id, 등록일 등)을 포함한 저장된 행을 커밋 후 "item" 캐시에 넣음
+	 */
 	@Transactional
-    @CacheEvict(cacheNames = {"items", "itemCount"}, allEntries = true)
 	public void insert (Item item) {
-		writeItemMapper.insert (item);
+		itemService.insert (item);
+		itemCacheKeys.evict (Arrays.asList(item.getCategory()));
+		if (writeMode != CacheWriteModeCode.EVICT) {
+			Item persisted = itemService.selectPersisted (item.getId());
+			afterCommit (() -> refresh (persisted));
+		}
 	}
 
+    /**
+     * 목록/건수 캐시는 CacheLoader 로 적재 - 같은 키 동시 미스는 한 번만 쿼리하고, 자주 조회되는 키는 만료 전에 백그라운드 갱신
+     */
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "items", key = "#page + '-' + #size + '-' + (#category?:'') + '-' + (#search?:'')")
 	public List <Item> selectAll (int page, int size, String category, String search) {
+		return list (page, size, category, search, true);
+	}
+
+    /**
+     * 기동 시 예열(CacheWarmer) 용 목록 적재 - selectAll 과 같은 캐시 키에 데모용 지연 없이 적재
+     */
+    @Transactional(readOnly = true)
+	public List <Item> warmAll (int page, int size, String category) {
+		return list (page, size, category, null, false);
+	}
+
+	private List <Item> list (int page, int size, String category, String search, boolean delay) {
 
     	if (page < 1) {
             page = 1;
@@ -41,47 +106,261 @@ public class CachedItemService {
         }
         if (!StringUtils.hasText(search)) {
             search = null;
-        }    	
-        
-        // Cache 정상 동작 여부 테스트를 위한 딜레이 설정함
-        try {
-            Thread.sleep(2000L);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
         }
-        
-		return readItemMapper.selectAll (page, size, category, search);
+
+        int p = page;
+        String c = category;
+        String q = search;
+        return cacheLoader.get (cacheManager.getCache(ItemCacheKeys.ITEMS), itemCacheKeys.list (p, size, c, q),
+        		() -> loadAll (p, size, c, q, delay));
+	}
+
+	private List <Item> loadAll (int page, int size, String category, String search, boolean delay) {
+        // Cache 정상 동작 여부 테스트를 위한 딜레이 설정함 (예열은 제외)
+        if (delay) {
+            try {
+                Thread.sleep(2000L);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+		return readItemMapper.selectAll (page, size, category, search, itemSearchService.tokens (search), null,
+				null, null, null, false);
 	}
 
+    /**
+     * 단건 조회 - "item" 캐시
+     * - 조회가 몰리는 id 는 HotItemCache 의 로컬 사본으로 응답 (복제를 쓰면 고정 전에는 복제 키 중 하나를 읽음)
+     * - 캐시 미스일 때만 Bloom filter/"itemMissing" 부정 캐시를 확인 (적중 경로에 Redis 왕복을 더하지 않음)
+     *   Bloom filter 에 없는 id 는 DB 조회 없이 null
+     * - DB 에도 없는 id 는 "itemMissing" 부정 캐시에 짧게 기록 ("item" 캐시는 null 을 저장하지 않음)
+     */
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "item", key = "#id")
 	public Item selectById (Long id) {
-		return readItemMapper.selectById (id);
+		if (id == null) {
+			return null;
+		}
+		hotItemCache.record (id);
+		Item pinned = hotItemCache.get (id);
+		if (pinned != null) {
+			return pinned;
+		}
+		Cache cache = cacheManager.getCache("item");
+		String replica = hotItemCache.replicaKey (id);
+		if (replica != null) {
+			Item copy = cache.get(replica, Item.class);
+			if (copy != null) {
+				return copy;
+			}
+		}
+		Item cached = cache.get(id, Item.class);
+		if (cached != null) {
+			if (replica != null) {
+				cache.put(replica, cached);
+			}
+			return cached;
+		}
+		if (!itemIdFilter.mightExist (id) || itemIdFilter.isMissing (id)) {
+			return null;
+		}
+		Item item = readItemMapper.selectById (id);
+		if (item == null) {
+			itemIdFilter.markMissing (id);
+		} else {
+			cache.put(id, item);
+			if (replica != null) {
+				cache.put(replica, item);
+			}
+		}
+		return item;
 	}
 	
+    /**
+     * 다건 조회 - selectById 와 같은 "item" 캐시를 사용
+     * - 캐시 조회 1회(MGET) → 미스 중 Bloom filter 를 통과한 id 만 WHERE id IN (...) 1회 → 캐시 back-fill 1회
+     * - 요청 id 순서대로 반환하며 존재하지 않는 id 는 제외
+     */
+    @Transactional(readOnly = true)
+	public List <Item> selectByIds (List <Long> ids) {
+		List <Long> keys = new ArrayList<>(new LinkedHashSet<>(ids));
+		if (keys.isEmpty()) {
+			return new ArrayList<>();
+		}
+		Cache cache = cacheManager.getCache("item");
+
+		Map <Long, Item> found = new HashMap<>();
+		List <Long> remote = new ArrayList<>();
+		for (Long id : keys) {
+			hotItemCache.record (id);
+			Item pinned = hotItemCache.get (id);
+			if (pinned != null) {
+				found.put(id, pinned);
+			} else {
+				remote.add(id);
+			}
+		}
+		if (!remote.isEmpty()) {
+			found.putAll(cacheMultiGet.get (cache, remote));
+		}
+
+		List <Long> misses = new ArrayList<>();
+		for (Long id : remote) {
+			if (!found.containsKey(id)) {
+				misses.add(id);
+			}
+		}
+		misses = itemIdFilter.mightExist (misses);
+		if (!misses.isEmpty()) {
+			Map <Long, Item> loaded = new HashMap<>();
+			readItemMapper.selectByIds (misses).forEach(item -> loaded.put(item.getId(), item));
+			cacheMultiGet.put (cache, loaded);
+			found.putAll(loaded);
+		}
+
+		List <Item> items = new ArrayList<>(ids.size());
+		for (Long id : ids) {
+			Item item = found.get(id);
+			if (item != null) {
+				items.add(item);
+			}
+		}
+		return items;
+	}
+
     @Transactional(readOnly = true)
-    @Cacheable(cacheNames = "itemCount")
-	public Long selectCount () {
-		return readItemMapper.selectCount ();
+	public Long selectCount (String category, String search, boolean approximate) {
+		// JSON 직렬화된 숫자는 Integer 로 복원될 수 있으므로 Number 로 받아 변환
+		Number count = cacheLoader.get (cacheManager.getCache(ItemCacheKeys.ITEM_COUNT), itemCacheKeys.count (category, search, approximate),
+				() -> itemService.selectCount (category, search, null, null, approximate));
+		return count == null ? null : count.longValue();
 	}
 	
+	/**
+	 * 수정
+	 * - evict  : DB 수정 후 커밋되면 "item" 캐시 삭제
+	 * - through: DB 수정 후 커밋되면 저장된 행으로 "item" 캐시 갱신
+	 * - behind : 현재 행에 변경을 합쳐 "item" 캐시를 바로 갱신하고 DB 반영은 ItemWriteBehindService 큐에 맡김
+	 *            (목록/검색/건수는 큐가 DB 에 반영된 뒤에 갱신됨)
+	 */
 	@Transactional
-    @Caching(evict = {
-            @CacheEvict(cacheNames = "item",      key = "#item.id"),
-            @CacheEvict(cacheNames = "items",     allEntries = true),
-            @CacheEvict(cacheNames = "itemCount", allEntries = true)
-        })
 	public void update (Item item) {
-		writeItemMapper.update (item);
+		if (writeMode == CacheWriteModeCode.BEHIND) {
+			Cache cache = cacheManager.getCache("item");
+			Cache.ValueWrapper cached = cache.get(item.getId());
+			Item current = cached != null ? (Item) cached.get() : readItemMapper.selectById (item.getId());
+			if (current != null) {
+				// 큐에 넣지 못하면(Redis 오류 등) 캐시도 바꾸지 않음 - 반영되지 않을 변경을 캐시가 응답하지 않도록
+				itemWriteBehindService.enqueue (item);
+				refresh (merge (current, item));
+				return;
+			}
+		}
+
+		Item before = readItemMapper.selectById (item.getId());
+		itemService.update (item);
+		evict (before, item.getCategory());
+		if (writeMode == CacheWriteModeCode.EVICT) {
+			afterCommit (() -> {
+				cacheManager.getCache("item").evict(item.getId());
+				hotItemCache.evict (item.getId());
+			});
+		} else {
+			Item persisted = itemService.selectPersisted (item.getId());
+			afterCommit (() -> refresh (persisted));
+		}
+	}
+
+	/**
+	 * base 에 change 의 null 이 아닌 필드를 덮어쓴 새 객체 (WriteItemMapper.update 의 부분 수정 규칙과 동일)
+	 */
+	public static Item merge (Item base, Item change) {
+		return Item.builder()
+				.id(base.getId())
+				.name(change.getName() != null ? change.getName() : base.getName())
+				.price(change.getPrice() != null ? change.getPrice() : base.getPrice())
+				.image(change.getImage() != null ? change.getImage() : base.getImage())
+				.category(change.getCategory() != null ? change.getCategory() : base.getCategory())
+				.description(change.getDescription() != null ? change.getDescription() : base.getDescription())
+				.createDate(base.getCreateDate())
+				.updateDate(change.getUpdateDate() != null ? change.getUpdateDate() : base.getUpdateDate())
+				.build();
 	}
 
+	/**
+	 * 대량 등록/수정 - 행마다 evict 하지 않고 종료 시 한 번만 전체 무효화
+	 */
+	@Transactional
+	public List <Long> insertAll (List <Item> items) {
+		List <Long> ids = itemService.insertAll (items);
+		Set <String> categories = new HashSet<>();
+		items.forEach(item -> categories.add(item.getCategory()));
+		itemCacheKeys.evict (categories);
+		return ids;
+	}
+
+	/**
+	 * 대량 수정 - 변경 전 카테고리를 따로 읽지 않고 목록/건수 캐시 전체를 무효화 (epoch 세대 증가)
+	 * - "item" 캐시는 수정된 id 와 그 복제 키만 커밋 후 한 번에 삭제 (Redis 파이프라인 1회)
+	 */
+	@Transactional
+	public List <Long> updateAll (List <Item> items) {
+		List <Long> ids = itemService.updateAll (items);
+		itemCacheKeys.evictAll ();
+		afterCommit (() -> {
+			List <Object> keys = new ArrayList<>(ids);
+			keys.addAll(hotItemCache.unpin (ids));
+			cacheMultiGet.evict (cacheManager.getCache("item"), keys);
+		});
+		return ids;
+	}
+
+	/**
+	 * 삭제 - 커밋 후 "item"/"itemMissing" 캐시와 고정 사본 삭제 (롤백되면 캐시는 그대로)
+	 */
 	@Transactional
-    @Caching(evict = {
-            @CacheEvict(cacheNames = "item",      key = "#id"),
-            @CacheEvict(cacheNames = "items",     allEntries = true),
-            @CacheEvict(cacheNames = "itemCount", allEntries = true)
-        })
 	public void deleteById (Long id) {
-		writeItemMapper.deleteById (id);
+		Item before = readItemMapper.selectById (id);
+		itemService.deleteById (id);
+		evict (before, null);
+		afterCommit (() -> {
+			cacheManager.getCache("item").evict(id);
+			itemIdFilter.unmarkMissing (id);
+			hotItemCache.evict (id);
+		});
+	}
+
+	// 다른 노드 L1 무효화(evict 방송) 후 새 값 저장
+	private void refresh (Item row) {
+		if (row == null) {
+			return;
+		}
+		Cache cache = cacheManager.getCache("item");
+		cache.evict(row.getId());
+		cache.put(row.getId(), row);
+		hotItemCache.evict (row.getId());
+	}
+
+	// 롤백된 변경이 캐시에 남지 않도록 커밋 후 실행
+	private void afterCommit (Runnable action) {
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					action.run();
+				}
+			});
+		} else {
+			action.run();
+		}
+	}
+
+	// 변경 전 행을 읽지 못했으면(복제 지연 등) 어느 카테고리인지 알 수 없으므로 전체 무효화
+	private void evict (Item before, String category) {
+		if (before == null) {
+			itemCacheKeys.evictAll ();
+			return;
+		}
+		itemCacheKeys.evict (Arrays.asList(before.getCategory(), category));
 	}
 }
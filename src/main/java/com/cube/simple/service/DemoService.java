@@ -19,14 +19,18 @@ public class DemoService {
 	@Autowired
 	private WriteDemoMapper writeDemoMapper;
 
+	@Autowired
+	private EntityVersionService entityVersionService;
+
 	@Transactional
 	public void insert (Demo demo) {
 		writeDemoMapper.insert (demo);
+		entityVersionService.bump (EntityVersionService.DEMO);
 	}
 
     @Transactional(readOnly = true)
-	public List <Demo> selectAll () {
-		return readDemoMapper.selectAll ();
+	public List <Demo> selectAll (List <String> columns) {
+		return readDemoMapper.selectAll (columns);
 	}
 
     @Transactional(readOnly = true)
@@ -42,10 +46,12 @@ public class DemoService {
 	@Transactional
 	public void update (Demo demo) {
 		writeDemoMapper.update (demo);
+		entityVersionService.bump (EntityVersionService.DEMO);
 	}
 
 	@Transactional
 	public void deleteById (Long id) {
 		writeDemoMapper.deleteById (id);
+		entityVersionService.bump (EntityVersionService.DEMO);
 	}
 }
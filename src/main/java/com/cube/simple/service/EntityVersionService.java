@@ -0,0 +1,135 @@
+package com.cube.simple.service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.DigestUtils;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import com.cube.simple.cache.ResponseCache;
+import com.cube.simple.mapper.read.ReadEntityVersionMapper;
+import com.cube.simple.mapper.write.WriteEntityVersionMapper;
+
+import jakarta.servlet.http.HttpServletRequest;
+
+/**
+ * 테이블 변경 버전 관리 (목록 조회 조건부 GET/ETag 용)
+ *
+ * - 쓰기 서비스가 insert/update/delete 트랜잭션 안에서 bump() 로 EntityVersion 행을 1 증가시킨다.
+ *   한 행만 쓰면 같은 테이블의 쓰기 트랜잭션이 커밋까지 그 행 잠금을 기다리므로 shards 개 행 중 임의의 행을 증가시키고,
+ *   버전은 shard 합계로 읽는다. (증가는 항상 1 이므로 합계는 커밋마다 달라짐)
+ * - 조회 측은 PK 단건 조회 결과를 노드 로컬에 짧게(TTL) 캐시하므로 요청마다 DB 를 읽지 않는다.
+ *   다른 노드의 변경은 최대 TTL 만큼 늦게 반영되며, 같은 노드의 변경은 커밋 즉시 반영된다.
+ * - ETag = 버전 + 요청 URI/쿼리/언어의 해시 → 같은 버전이면 목록 조회/직렬화 없이 304 응답 가능
+ *   (ETag 는 2xx/304 응답에만 넣음 - 오류 응답에 넣으면 클라이언트가 오류 본문을 그 ETag 로 캐시할 수 있음)
+ * - bump() 시 이 노드의 공개 GET 응답 캐시(ResponseCache)에서 해당 테이블 응답도 함께 제거
+ */
+@Service
+public class EntityVersionService {
+
+	public static final String ITEM = "Item";
+	public static final String DEMO = "Demo";
+	public static final String PLACE = "Place";
+
+	private record CachedVersion (long version, long expiresAt) {}
+
+	@Autowired
+	private ReadEntityVersionMapper readEntityVersionMapper;
+
+	@Autowired
+	private WriteEntityVersionMapper writeEntityVersionMapper;
+
+	@Autowired
+	private ResponseCache responseCache;
+
+	@Value("${entity.version.ttl-ms:1000}")
+	private long ttlMillis;
+
+	@Value("${entity.version.shards:16}")
+	private int shards;
+
+	private final Map <String, CachedVersion> versions = new ConcurrentHashMap<>();
+
+	/**
+	 * 테이블 버전 증가 - 호출한 쓰기 트랜잭션과 함께 커밋/롤백됨
+	 */
+	@Transactional
+	public void bump (String name) {
+		writeEntityVersionMapper.increase (name, ThreadLocalRandom.current().nextInt(Math.max(1, shards)));
+
+		// 커밋 전에 다른 요청이 이전 버전을 다시 캐시할 수 있으므로 커밋 후에도 한 번 더 제거
+		versions.remove(name);
+		responseCache.evict(name);
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					versions.remove(name);
+					responseCache.evict(name);
+				}
+			});
+		}
+	}
+
+	public long version (String name) {
+		long now = System.currentTimeMillis();
+		CachedVersion cached = versions.get(name);
+		if (cached != null && cached.expiresAt() > now) {
+			return cached.version();
+		}
+		Long version = readEntityVersionMapper.selectVersion (name);
+		long value = version == null ? 0L : version;
+		versions.put(name, new CachedVersion(value, now + ttlMillis));
+		return value;
+	}
+
+	/**
+	 * 목록 응답의 강한(strong) ETag
+	 *
+	 * @param name    테이블 이름
+	 * @param request 현재 요청 (URI, 쿼리 문자열이 다르면 다른 ETag)
+	 */
+	public String etag (String name, NativeWebRequest request) {
+		HttpServletRequest servletRequest = request.getNativeRequest(HttpServletRequest.class);
+		String key = servletRequest == null
+				? request.getDescription(false)
+				: servletRequest.getRequestURI() + "?" + servletRequest.getQueryString();
+		key += "|" + LocaleContextHolder.getLocale();
+
+		String hash = DigestUtils.md5DigestAsHex(key.getBytes(StandardCharsets.UTF_8)).substring(0, 16);
+		return "\"" + name + "-" + version(name) + "-" + hash + "\"";
+	}
+
+	/**
+	 * If-None-Match 에 etag 가 있는지 (있으면 304)
+	 * - WebRequest.checkNotModified 는 일치하지 않아도 응답에 ETag 헤더를 넣으므로 직접 비교하고,
+	 *   ETag 는 호출 측이 2xx/304 응답에만 넣는다. (약한 비교, "*" 는 항상 일치)
+	 */
+	public boolean notModified (String etag, WebRequest request) {
+		String header = request.getHeader(HttpHeaders.IF_NONE_MATCH);
+		if (header == null) {
+			return false;
+		}
+		for (String each : header.split(",")) {
+			String candidate = each.trim();
+			if (candidate.startsWith("W/")) {
+				candidate = candidate.substring(2);
+			}
+			if ("*".equals(candidate) || candidate.equals(etag)) {
+				return true;
+			}
+		}
+		return false;
+	}
+}
@@ -0,0 +1,122 @@
+package com.cube.simple.service;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.cube.simple.mapper.read.ReadItemMapper;
+import com.cube.simple.mapper.write.WriteItemMapper;
+import com.cube.simple.model.ItemCategoryCount;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Item 건수 조회
+ *
+ * - 정확(exact): selectAll 과 같은 category/search 조건으로 COUNT
+ * - 근사(approximate): ItemCategoryCount 카운터 합계 (전체/카테고리 조건만 지원, O(1))
+ *   카운터는 ItemService 쓰기와 같은 트랜잭션에서 증감하며,
+ *   DB 를 직접 수정하는 등 앱 외부 변경이 있으면 어긋날 수 있으므로 rebuild() 로 재계산한다.
+ */
+@Slf4j
+@Service
+public class ItemCountService {
+
+	private static final int REBUILD_BATCH = 100;
+
+	@Autowired
+	private ReadItemMapper readItemMapper;
+
+	@Autowired
+	private WriteItemMapper writeItemMapper;
+
+	@Autowired
+	private ItemSearchService itemSearchService;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Transactional(readOnly = true)
+	public Long selectCount (String category, String search, Long minPrice, Long maxPrice, boolean approximate) {
+
+		if (!StringUtils.hasText(category)) {
+			category = null;
+		}
+		if (!StringUtils.hasText(search)) {
+			search = null;
+		}
+		// 검색/가격 조건은 카운터로 알 수 없으므로 항상 정확한 건수
+		if (approximate && search == null && minPrice == null && maxPrice == null) {
+			return readItemMapper.selectCategoryCount (category);
+		}
+		return readItemMapper.selectCount (category, search, itemSearchService.tokens (search), minPrice, maxPrice);
+	}
+
+	@Transactional
+	public void increase (String category) {
+		writeItemMapper.increaseCategoryCount (category, 1);
+	}
+
+	@Transactional
+	public void decrease (String category) {
+		writeItemMapper.increaseCategoryCount (category, -1);
+	}
+
+	/**
+	 * 카테고리별 증감을 모아서 반영 (대량 등록/수정 용도)
+	 */
+	@Transactional
+	public void adjust (Map <String, Long> deltas) {
+		deltas.forEach((category, delta) -> {
+			if (delta != 0) {
+				writeItemMapper.increaseCategoryCount (category, delta);
+			}
+		});
+	}
+
+	/**
+	 * 카테고리 카운터 재계산 (기존 데이터 채우기/복구, 여러 번 실행해도 같은 결과)
+	 * - 쓰기 DB 에서 카테고리 순으로 REBUILD_BATCH 개씩 건수를 세고 묶음마다 별도 트랜잭션으로 교체
+	 * - 묶음마다 (직전 카테고리, 마지막 카테고리] 범위의 카운터를 지우고 다시 넣으므로 없어진 카테고리도 정리됨
+	 *   (지운 카운터 행은 커밋까지 잠기므로 그 사이 increase/decrease 는 새 값에 더해짐)
+	 * - 로컬/개발은 DataInitializer, 운영은 ItemIndexInitializer(item.index.backfill) 에서 호출
+	 */
+	public void rebuild () {
+		long count = 0;
+		String afterCategory = null;
+		while (true) {
+			String from = afterCategory;
+			List <ItemCategoryCount> counts = transactionTemplate.execute(status -> recount (from));
+			count += counts.size();
+			if (counts.size() < REBUILD_BATCH) {
+				break;
+			}
+			afterCategory = counts.get(counts.size() - 1).getCategory();
+		}
+		log.info("Item category counts rebuilt : {} categories", count);
+	}
+
+	/**
+	 * 카운터가 하나라도 있는지 (운영 기동 시 채우기 필요 여부 확인용)
+	 */
+	@Transactional(readOnly = true)
+	public boolean isCounted () {
+		return writeItemMapper.selectAnyCategoryCount () != null;
+	}
+
+	// afterCategory 다음 REBUILD_BATCH 개 카테고리 재계산, 마지막 묶음이면 그 뒤 남은 카운터까지 삭제
+	private List <ItemCategoryCount> recount (String afterCategory) {
+		List <ItemCategoryCount> counts = writeItemMapper.selectCategoryCounts (afterCategory, REBUILD_BATCH);
+		String lastCategory = counts.size() < REBUILD_BATCH ? null : counts.get(counts.size() - 1).getCategory();
+		writeItemMapper.deleteCategoryCountsBetween (afterCategory, lastCategory);
+		if (!counts.isEmpty()) {
+			writeItemMapper.insertCategoryCounts (counts);
+		}
+		return counts;
+	}
+}
@@ -0,0 +1,234 @@
+package com.cube.simple.service;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.util.StringUtils;
+
+import com.cube.simple.dto.ItemFacets;
+import com.cube.simple.dto.PriceBucket;
+import com.cube.simple.mapper.read.ReadItemMapper;
+import com.cube.simple.model.Item;
+import com.cube.simple.model.ItemFacet;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Item 패싯(카테고리별/가격 구간별 건수) 메모리 집계
+ *
+ * - 카테고리 → 가격 구간별 건수 배열을 메모리에 유지하고, ItemService 쓰기가 커밋된 뒤 증감한다.
+ *   검색어가 없는 패싯 조회는 SQL 없이 메모리에서 바로 계산한다. (카테고리 수 × 구간 수)
+ * - 검색어가 있으면 검색 결과에 대한 집계이므로 GROUP BY 쿼리 1회로 계산한다.
+ * - 기동 시(ApplicationReadyEvent) DB 에서 재구성하며, 다른 노드의 변경은 Item 테이블 버전
+ *   (EntityVersionService)이 이 노드가 반영한 것보다 앞서 있으면 감지하여 백그라운드에서 다시 재구성한다.
+ *   (재구성이 끝날 때까지는 이전 집계로 응답)
+ */
+@Slf4j
+@Service
+public class ItemFacetService {
+
+	private static final int REBUILD_BATCH = 1000;
+	private static final List <String> REBUILD_COLUMNS = List.of("id", "category", "price");
+
+	@Autowired
+	private ReadItemMapper readItemMapper;
+
+	@Autowired
+	private ItemSearchService itemSearchService;
+
+	@Autowired
+	private EntityVersionService entityVersionService;
+
+	// 가격 구간 경계 (오름차순). 예) 0,10000,50000 → [0,10000) [10000,50000) [50000,∞)
+	@Value("${item.facet.price-buckets:0,10000,50000,100000,500000}")
+	private long[] boundaries;
+
+	private volatile Map <String, AtomicLongArray> counts = new ConcurrentHashMap<>();
+
+	// 재구성 시점의 Item 버전과 그 이후 이 노드에서 반영한 쓰기 횟수
+	private volatile long builtVersion = -1;
+	private final AtomicLong appliedWrites = new AtomicLong();
+
+	// 오래된 집계 재구성 (한 번에 하나만)
+	private final ExecutorService rebuilder = Executors.newSingleThreadExecutor(new CustomizableThreadFactory("item-facet-"));
+	private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+	@EventListener(ApplicationReadyEvent.class)
+	public void onReady () {
+		rebuild ();
+	}
+
+	@PreDestroy
+	public void shutdown () {
+		rebuilder.shutdownNow();
+	}
+
+	public synchronized void rebuild () {
+		long version = entityVersionService.version (EntityVersionService.ITEM);
+		Map <String, AtomicLongArray> rebuilt = new ConcurrentHashMap<>();
+
+		long total = 0;
+		Long afterId = null;
+		while (true) {
+			List <Item> items = readItemMapper.selectAfter (afterId, REBUILD_BATCH, null, null, null, REBUILD_COLUMNS);
+			for (Item item : items) {
+				increment (rebuilt, item.getCategory(), item.getPrice(), 1);
+			}
+			total += items.size();
+			if (items.size() < REBUILD_BATCH) {
+				break;
+			}
+			afterId = items.get(items.size() - 1).getId();
+		}
+
+		counts = rebuilt;
+		builtVersion = version;
+		appliedWrites.set(0);
+		log.info("Item facets rebuilt : {} items, {} categories", total, rebuilt.size());
+	}
+
+	/**
+	 * 등록/삭제/변경 반영 - 현재 트랜잭션이 커밋된 뒤에 적용 (롤백 시 반영 안 함)
+	 *
+	 * @param removed 이전 상태 (등록이면 빈 목록)
+	 * @param added   이후 상태 (삭제면 빈 목록)
+	 */
+	public void apply (List <Item> removed, List <Item> added) {
+		Runnable task = () -> {
+			Map <String, AtomicLongArray> current = counts;
+			removed.forEach(item -> increment (current, item.getCategory(), item.getPrice(), -1));
+			added.forEach(item -> increment (current, item.getCategory(), item.getPrice(), 1));
+			appliedWrites.incrementAndGet();
+		};
+
+		if (TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					task.run();
+				}
+			});
+		} else {
+			task.run();
+		}
+	}
+
+	/**
+	 * 패싯 조회
+	 *
+	 * @param category 가격 구간을 특정 카테고리로 한정 (카테고리별 건수는 항상 전체)
+	 * @param search   검색어 (있으면 검색 결과 기준으로 GROUP BY 쿼리 1회)
+	 */
+	public ItemFacets facets (String category, String search) {
+		if (!StringUtils.hasText(category)) {
+			category = null;
+		}
+
+		Map <String, AtomicLongArray> source;
+		if (StringUtils.hasText(search)) {
+			source = new ConcurrentHashMap<>();
+			for (ItemFacet facet : readItemMapper.selectFacets (search, itemSearchService.tokens (search))) {
+				increment (source, facet.getCategory(), facet.getPrice(), facet.getCount());
+			}
+		} else {
+			refreshIfStale ();
+			source = counts;
+		}
+
+		Map <String, Long> categories = new TreeMap<>();
+		long[] buckets = new long[boundaries.length];
+		source.forEach((name, array) -> {
+			long sum = 0;
+			for (int i = 0; i < array.length(); i++) {
+				sum += array.get(i);
+			}
+			if (sum > 0) {
+				categories.put(name, sum);
+			}
+		});
+		source.forEach((name, array) -> {
+			for (int i = 0; i < array.length(); i++) {
+				buckets[i] += array.get(i);
+			}
+		});
+		if (category != null) {
+			AtomicLongArray array = source.get(category);
+			Arrays.fill(buckets, 0);
+			for (int i = 0; array != null && i < array.length(); i++) {
+				buckets[i] = array.get(i);
+			}
+		}
+
+		List <PriceBucket> prices = new ArrayList<>(boundaries.length);
+		for (int i = 0; i < boundaries.length; i++) {
+			prices.add(PriceBucket.builder()
+					.from(boundaries[i])
+					.to(i + 1 < boundaries.length ? boundaries[i + 1] : null)
+					.count(buckets[i])
+					.build());
+		}
+		return ItemFacets.builder().categories(categories).prices(prices).build();
+	}
+
+	// 다른 노드에서 Item 이 변경되었으면(버전이 이 노드가 반영한 쓰기보다 앞서면) 백그라운드에서 재구성
+	// 요청은 기다리지 않고 현재 집계로 응답, 재구성 중 반영된 쓰기는 버전이 다시 앞서므로 다음 조회에서 한 번 더 재구성
+	private void refreshIfStale () {
+		long version = entityVersionService.version (EntityVersionService.ITEM);
+		if (version <= builtVersion + appliedWrites.get() || !rebuilding.compareAndSet(false, true)) {
+			return;
+		}
+		try {
+			rebuilder.execute(() -> {
+				try {
+					rebuild ();
+				} catch (RuntimeException ex) {
+					log.warn("Item facets rebuild failed", ex);
+				} finally {
+					rebuilding.set(false);
+				}
+			});
+		} catch (RejectedExecutionException ex) {
+			// 종료 중
+			rebuilding.set(false);
+		}
+	}
+
+	private void increment (Map <String, AtomicLongArray> target, String category, Long price, long delta) {
+		if (category == null) {
+			return;
+		}
+		target.computeIfAbsent(category, key -> new AtomicLongArray(boundaries.length))
+				.addAndGet(bucket (price), delta);
+	}
+
+	// price 가 속한 구간 index (첫 경계보다 작거나 null 이면 0)
+	private int bucket (Long price) {
+		if (price == null) {
+			return 0;
+		}
+		int index = Arrays.binarySearch(boundaries, price);
+		if (index < 0) {
+			index = -index - 2;
+		}
+		return Math.max(0, index);
+	}
+}
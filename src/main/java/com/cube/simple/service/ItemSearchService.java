@@ -0,0 +1,158 @@
+package com.cube.simple.service;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.util.StringUtils;
+
+import com.cube.simple.mapper.write.WriteItemMapper;
+import com.cube.simple.model.Item;
+import com.cube.simple.model.ItemToken;
+import com.cube.simple.util.NGramUtil;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Item 검색 색인(n-gram 역색인) 관리
+ *
+ * - ItemToken 테이블에 (token, item_id, category, weight) 를 저장하여
+ *   LIKE '%검색어%' 전체 스캔 대신 token 인덱스로 후보를 찾고 weight 합으로 정렬한다.
+ *   후보는 LIKE 로 한 번 더 확인하므로 결과는 LIKE 검색과 같다. (ReadItemMapper.xml likeSearch)
+ * - 색인은 ItemService 의 insert/update/delete 와 같은 트랜잭션에서 갱신되며
+ *   DB 에 저장되므로 H2/MySQL, 다중 노드 모두 동일하게 동작한다.
+ */
+@Slf4j
+@Service
+public class ItemSearchService {
+
+	// 이름에 포함된 토큰이 설명에 포함된 토큰보다 높은 점수를 받도록 가중치 부여
+	private static final int NAME_WEIGHT = 3;
+	private static final int DESCRIPTION_WEIGHT = 1;
+	private static final int REBUILD_BATCH = 500;
+	// multi-row INSERT 한 문장당 최대 행 수 (바인드 파라미터 개수 제한 고려)
+	private static final int TOKEN_BATCH = 1000;
+
+	@Autowired
+	private WriteItemMapper writeItemMapper;
+
+	@Autowired
+	private TransactionTemplate transactionTemplate;
+
+	@Autowired
+	private NGramUtil ngrams;
+
+	/**
+	 * 검색어를 색인 조회용 토큰으로 변환 (빈 목록이면 LIKE 검색으로 대체)
+	 */
+	public List <String> tokens (String search) {
+		if (!StringUtils.hasText(search)) {
+			return List.of();
+		}
+		return ngrams.query(search);
+	}
+
+	/**
+	 * 단건 색인 (기존 토큰 삭제 후 재등록). item 은 id/category 가 채워진 저장 완료 상태여야 함
+	 */
+	@Transactional
+	public void index (Item item) {
+		writeItemMapper.deleteTokens (item.getId());
+
+		List <ItemToken> tokens = toTokens (item);
+		if (!tokens.isEmpty()) {
+			writeItemMapper.insertTokens (tokens);
+		}
+	}
+
+	/**
+	 * 대량 색인 - 기존 토큰을 id 목록으로 한 번에 삭제하고 multi-row INSERT 로 재등록
+	 */
+	@Transactional
+	public void indexAll (List <Item> items) {
+		for (int from = 0; from < items.size(); from += REBUILD_BATCH) {
+			List <Item> chunk = items.subList(from, Math.min(from + REBUILD_BATCH, items.size()));
+
+			List <Long> ids = new ArrayList<>(chunk.size());
+			List <ItemToken> tokens = new ArrayList<>();
+			for (Item item : chunk) {
+				ids.add(item.getId());
+				tokens.addAll(toTokens (item));
+			}
+			writeItemMapper.deleteTokensByIds (ids);
+			for (int i = 0; i < tokens.size(); i += TOKEN_BATCH) {
+				writeItemMapper.insertTokens (tokens.subList(i, Math.min(i + TOKEN_BATCH, tokens.size())));
+			}
+		}
+	}
+
+	@Transactional
+	public void remove (Long id) {
+		writeItemMapper.deleteTokens (id);
+	}
+
+	/**
+	 * 전체 재색인 (기존 데이터 채우기/복구, 여러 번 실행해도 같은 결과)
+	 * - 쓰기 DB 를 id 순으로 REBUILD_BATCH 건씩 읽어 묶음마다 별도 트랜잭션으로 처리
+	 *   (전체를 한 트랜잭션으로 묶으면 100만 건 기준 undo/락이 커지고, 읽기 DB 는 복제 지연으로 방금 등록된 행이 빠질 수 있음)
+	 * - 묶음마다 (직전 id, 마지막 id] 범위의 토큰을 지우고 다시 등록하므로 Item 에 없는 id 의 토큰도 함께 정리됨
+	 * - 묶음 행은 FOR UPDATE 로 읽어 그 사이 같은 행의 수정이 색인을 덮어쓰지 않게 한다.
+	 * - 로컬/개발은 DataInitializer, 운영은 ItemIndexInitializer(item.index.backfill) 에서 호출
+	 */
+	public void rebuild () {
+		long count = 0;
+		Long afterId = null;
+		while (true) {
+			Long from = afterId;
+			List <Item> items = transactionTemplate.execute(status -> reindex (from));
+			count += items.size();
+			if (items.size() < REBUILD_BATCH) {
+				break;
+			}
+			afterId = items.get(items.size() - 1).getId();
+		}
+		log.info("Item search index rebuilt : {} items", count);
+	}
+
+	// afterId 다음 REBUILD_BATCH 건 재색인, 마지막 묶음이면 그 뒤 남은 토큰까지 삭제
+	private List <Item> reindex (Long afterId) {
+		List <Item> items = writeItemMapper.selectForIndex (afterId, REBUILD_BATCH);
+		Long lastId = items.size() < REBUILD_BATCH ? null : items.get(items.size() - 1).getId();
+		writeItemMapper.deleteTokensBetween (afterId, lastId);
+
+		List <ItemToken> tokens = new ArrayList<>();
+		items.forEach(item -> tokens.addAll(toTokens (item)));
+		for (int i = 0; i < tokens.size(); i += TOKEN_BATCH) {
+			writeItemMapper.insertTokens (tokens.subList(i, Math.min(i + TOKEN_BATCH, tokens.size())));
+		}
+		return items;
+	}
+
+	/**
+	 * 색인이 하나라도 있는지 (운영 기동 시 채우기 필요 여부 확인용)
+	 */
+	@Transactional(readOnly = true)
+	public boolean isIndexed () {
+		return writeItemMapper.selectAnyToken () != null;
+	}
+
+	private List <ItemToken> toTokens (Item item) {
+		Map <String, Integer> weights = new HashMap<>();
+		ngrams.tokenize(item.getName()).forEach((token, n) -> weights.merge(token, n * NAME_WEIGHT, Integer::sum));
+		ngrams.tokenize(item.getDescription()).forEach((token, n) -> weights.merge(token, n * DESCRIPTION_WEIGHT, Integer::sum));
+
+		List <ItemToken> tokens = new ArrayList<>(weights.size());
+		weights.forEach((token, weight) -> tokens.add(ItemToken.builder()
+				.token(token)
+				.itemId(item.getId())
+				.category(item.getCategory())
+				.weight(weight)
+				.build()));
+		return tokens;
+	}
+}
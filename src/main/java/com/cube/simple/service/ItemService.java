@@ -1,12 +1,26 @@
 package com.cube.simple.service;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import org.apache.ibatis.session.ResultHandler;
+import org.mybatis.spring.SqlSessionTemplate;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.util.StringUtils;
 
+import com.cube.simple.cache.ItemIdFilter;
+import com.cube.simple.enums.ItemSortCode;
 import com.cube.simple.mapper.read.ReadItemMapper;
 import com.cube.simple.mapper.write.WriteItemMapper;
 import com.cube.simple.model.Item;
@@ -20,13 +34,164 @@ public class ItemService {
 	@Autowired
 	private WriteItemMapper writeItemMapper;
 
+	@Autowired
+	private ItemSearchService itemSearchService;
+
+	@Autowired
+	private ItemCountService itemCountService;
+
+	@Autowired
+	private EntityVersionService entityVersionService;
+
+	@Autowired
+	private ItemFacetService itemFacetService;
+
+	@Autowired
+	private ItemIdFilter itemIdFilter;
+
+	// 대량 등록/수정은 BATCH 실행기 템플릿 사용 (WriteConfig 참고, 같은 커넥션/트랜잭션에 참여)
+	@Autowired
+	@Qualifier("writeBatchSqlSessionTemplate")
+	private SqlSessionTemplate writeBatchSqlSessionTemplate;
+
+	@Value("${item.batch.flush-size:500}")
+	private int batchFlushSize;
+
 	@Transactional
 	public void insert (Item item) {
 		writeItemMapper.insert (item);
+		itemSearchService.index (item);
+		itemCountService.increase (item.getCategory());
+		itemFacetService.apply (List.of(), List.of(item));
+		entityVersionService.bump (EntityVersionService.ITEM);
+		itemIdFilter.added (List.of(item.getId()));
+	}
+
+	/**
+	 * 대량 등록 - JDBC batch 로 INSERT 후 색인/카운터는 한 번에 갱신
+	 * - 생성된 id 는 flush 시점에 각 item 에 채워지며 요청 순서대로 반환
+	 * - MySQL 은 rewriteBatchedStatements=true 이면 드라이버가 multi-row INSERT 로 변환
+	 * - 같은 Item 객체가 두 번 있으면 생성 id 가 덮어써지므로 거부 (IllegalArgumentException)
+	 */
+	@Transactional
+	public List <Long> insertAll (List <Item> items) {
+		if (items.isEmpty()) {
+			return List.of();
+		}
+		Set <Item> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+		for (Item item : items) {
+			if (!distinct.add(item)) {
+				throw new IllegalArgumentException("Duplicate item in batch insert");
+			}
+		}
+		WriteItemMapper mapper = writeBatchSqlSessionTemplate.getMapper (WriteItemMapper.class);
+		int pending = 0;
+		for (Item item : items) {
+			mapper.insert (item);
+			if (++pending % batchFlushSize == 0) {
+				writeBatchSqlSessionTemplate.flushStatements ();
+			}
+		}
+		// 생성 id 는 flush 시점에 채워지므로 색인 전에 남은 statement 전송
+		writeBatchSqlSessionTemplate.flushStatements ();
+
+		itemSearchService.indexAll (items);
+
+		Map <String, Long> deltas = new HashMap<>();
+		items.forEach(item -> deltas.merge(item.getCategory(), 1L, Long::sum));
+		itemCountService.adjust (deltas);
+		itemFacetService.apply (List.of(), items);
+		entityVersionService.bump (EntityVersionService.ITEM);
+
+		List <Long> ids = new ArrayList<>(items.size());
+		items.forEach(item -> ids.add(item.getId()));
+		itemIdFilter.added (ids);
+		return ids;
+	}
+
+	/**
+	 * 대량 수정 - 존재하는 id 만 JDBC batch 로 UPDATE (부분 수정, null 필드는 유지)
+	 *
+	 * @return 수정된 id 목록 (존재하지 않는 id 는 제외)
+	 */
+	@Transactional
+	public List <Long> updateAll (List <Item> items) {
+		return updateAll (items, new HashSet<>());
+	}
+
+	/**
+	 * 대량 수정 - 수정된 행의 변경 전/후 카테고리를 categories 에 모음 (목록/건수 캐시를 해당 카테고리만 무효화할 때 사용)
+	 * - 같은 id 가 두 번 있으면 어느 값이 남을지 호출 측이 의도한 것인지 알 수 없으므로 거부 (IllegalArgumentException)
+	 *   (write-behind 는 같은 id 의 변경을 합친 뒤 호출)
+	 */
+	@Transactional
+	public List <Long> updateAll (List <Item> items, Collection <String> categories) {
+		if (items.isEmpty()) {
+			return List.of();
+		}
+		List <Long> ids = new ArrayList<>(items.size());
+		Set <Long> distinct = new HashSet<>();
+		for (Item item : items) {
+			if (!distinct.add(item.getId())) {
+				throw new IllegalArgumentException("Duplicate item id in batch update : " + item.getId());
+			}
+			ids.add(item.getId());
+		}
+
+		Map <Long, Item> before = new HashMap<>();
+		writeItemMapper.selectByIds (ids).forEach(item -> before.put(item.getId(), item));
+
+		List <Long> updatedIds = new ArrayList<>(before.size());
+		WriteItemMapper mapper = writeBatchSqlSessionTemplate.getMapper (WriteItemMapper.class);
+		int pending = 0;
+		for (Item item : items) {
+			if (!before.containsKey(item.getId())) {
+				continue;
+			}
+			mapper.update (item);
+			updatedIds.add (item.getId());
+			if (++pending % batchFlushSize == 0) {
+				writeBatchSqlSessionTemplate.flushStatements ();
+			}
+		}
+		// 재색인은 수정된 행을 다시 읽으므로 그 전에 남은 statement 전송
+		writeBatchSqlSessionTemplate.flushStatements ();
+		if (updatedIds.isEmpty()) {
+			return updatedIds;
+		}
+
+		// 부분 수정일 수 있으므로 저장된 행 기준으로 재색인
+		List <Item> updated = writeItemMapper.selectByIds (updatedIds);
+		itemSearchService.indexAll (updated);
+
+		Map <String, Long> deltas = new HashMap<>();
+		for (Item item : updated) {
+			String category = before.get(item.getId()).getCategory();
+			categories.add(category);
+			categories.add(item.getCategory());
+			if (!category.equals(item.getCategory())) {
+				deltas.merge(category, -1L, Long::sum);
+				deltas.merge(item.getCategory(), 1L, Long::sum);
+			}
+		}
+		itemCountService.adjust (deltas);
+		// before 는 존재하는 id 만 담고 있으므로 수정된 행의 이전 상태와 같음
+		itemFacetService.apply (new ArrayList<>(before.values()), updated);
+		entityVersionService.bump (EntityVersionService.ITEM);
+		return updatedIds;
 	}
 
+    /**
+     * 목록 조회 (OFFSET 페이지)
+     *
+     * 인덱스로 처리할 수 없는 조합은 IllegalArgumentException 으로 거부한다.
+     * - 검색어 + sort: 검색 결과는 점수순이며 임의 컬럼 정렬은 인덱스를 탈 수 없음
+     * - 가격 범위 + price 외 정렬: price 범위 스캔과 다른 컬럼 정렬을 한 인덱스로 처리할 수 없음
+     *   (가격 범위만 있고 sort 가 없으면 price 오름차순으로 정렬)
+     */
     @Transactional(readOnly = true)
-	public List <Item> selectAll (int page, int size, String category, String search) {
+	public List <Item> selectAll (int page, int size, String category, String search, List <String> columns,
+			Long minPrice, Long maxPrice, ItemSortCode sort, boolean desc) {
 
     	if (page < 1) {
             page = 1;
@@ -36,27 +201,95 @@ public class ItemService {
         }
         if (!StringUtils.hasText(search)) {
             search = null;
-        }    	
-		return readItemMapper.selectAll (page, size, category, search);
+        }
+        if (minPrice != null && maxPrice != null && minPrice > maxPrice) {
+        	throw new IllegalArgumentException("minPrice > maxPrice");
+        }
+        if (search != null && sort != null) {
+        	throw new IllegalArgumentException("sort is not supported with search");
+        }
+        if ((minPrice != null || maxPrice != null) && search == null) {
+        	if (sort != null && sort != ItemSortCode.PRICE) {
+        		throw new IllegalArgumentException("price range supports sort=price only");
+        	}
+        	sort = ItemSortCode.PRICE;
+        }
+		return readItemMapper.selectAll (page, size, category, search, itemSearchService.tokens (search), columns,
+				minPrice, maxPrice, sort, desc);
+	}
+
+    @Transactional(readOnly = true)
+	public List <Item> selectAfter (Long afterId, int size, String category, String search, List <String> columns) {
+
+        if (!StringUtils.hasText(category)) {
+            category = null;
+        }
+        if (!StringUtils.hasText(search)) {
+            search = null;
+        }
+		return readItemMapper.selectAfter (afterId, size, category, search, itemSearchService.tokens (search), columns);
+	}
+
+    /**
+     * 전체 Export - 조회 결과를 메모리에 모으지 않고 handler 로 한 행씩 전달
+     */
+    @Transactional(readOnly = true)
+	public void export (String category, String search, ResultHandler <Item> handler) {
+
+        if (!StringUtils.hasText(category)) {
+            category = null;
+        }
+        if (!StringUtils.hasText(search)) {
+            search = null;
+        }
+		readItemMapper.selectForExport (category, search, itemSearchService.tokens (search), handler);
 	}
 
     @Transactional(readOnly = true)
 	public Item selectById (Long id) {
 		return readItemMapper.selectById (id);
 	}
+
+	/**
+	 * 쓰기 DB 에서 조회 - 같은 트랜잭션에서 방금 저장한 행(복제 지연 없이 DB 기본값 포함)을 읽을 때 사용
+	 */
+	@Transactional
+	public Item selectPersisted (Long id) {
+		return writeItemMapper.selectById (id);
+	}
 	
     @Transactional(readOnly = true)
-	public Long selectCount () {
-		return readItemMapper.selectCount ();
+	public Long selectCount (String category, String search, Long minPrice, Long maxPrice, boolean approximate) {
+		return itemCountService.selectCount (category, search, minPrice, maxPrice, approximate);
 	}
 	
 	@Transactional
 	public void update (Item item) {
+		Item before = writeItemMapper.selectById (item.getId());
 		writeItemMapper.update (item);
+
+		// 부분 수정일 수 있으므로 저장된 행 기준으로 재색인
+		Item updated = writeItemMapper.selectById (item.getId());
+		if (updated != null) {
+			itemSearchService.index (updated);
+		}
+		if (before != null && updated != null && !before.getCategory().equals(updated.getCategory())) {
+			itemCountService.decrease (before.getCategory());
+			itemCountService.increase (updated.getCategory());
+		}
+		itemFacetService.apply (before == null ? List.of() : List.of(before), updated == null ? List.of() : List.of(updated));
+		entityVersionService.bump (EntityVersionService.ITEM);
 	}
 
 	@Transactional
 	public void deleteById (Long id) {
+		Item before = writeItemMapper.selectById (id);
 		writeItemMapper.deleteById (id);
+		itemSearchService.remove (id);
+		if (before != null) {
+			itemCountService.decrease (before.getCategory());
+		}
+		itemFacetService.apply (before == null ? List.of() : List.of(before), List.of());
+		entityVersionService.bump (EntityVersionService.ITEM);
 	}
 }
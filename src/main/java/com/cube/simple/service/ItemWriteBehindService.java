@@ -0,0 +1,255 @@
+package com.cube.simple.service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.cube.simple.cache.ItemCacheKeys;
+import com.cube.simple.cache.RedisLocks;
+import com.cube.simple.enums.CacheWriteModeCode;
+import com.cube.simple.model.Item;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Item 수정 write-behind 큐 (item.cache.write-mode=behind)
+ *
+ * - CachedItemService.update 가 캐시를 먼저 갱신하고 변경분을 이 큐에 넣으면,
+ *   flush-interval-ms 마다 같은 id 의 변경을 합쳐 ItemService.updateAll(JDBC batch)로 DB 에 반영한다.
+ *   → DB(목록/검색/건수)는 최대 flush 주기만큼 늦게 반영됨
+ * - spring.cache.type=redis 이면 Redis 리스트에 저장하여 노드 재시작에도 유지되고,
+ *   DB 반영이 끝난 뒤에만 큐에서 제거하므로 중간에 실패하면 다음 주기에 다시 반영한다. (같은 값 재반영은 무해)
+ *   flush 는 노드 간 락으로 한 노드만 수행하여 변경 순서를 유지한다.
+ *   · 큐 제거는 락을 아직 잡고 있을 때만 수행 (flush 가 락 ttl 을 넘겨 다른 노드가 같은 묶음을 반영/제거했으면
+ *     제거하지 않음 → 반영되지 않은 변경을 지우는 일이 없음)
+ *   · Redis 장애로 락이 로컬 토큰이면 노드 간 배타성이 없으므로 flush 하지 않고 복구를 기다림
+ * - 반영할 수 없는 변경은 dead-letter 로 옮겨 큐 앞을 막지 않게 한다. (Redis: queue:item:write-behind:dead, 로컬: 메모리)
+ *   · 읽을 수 없는(역직렬화 실패) 항목은 바로 옮김
+ *   · 묶음 반영이 max-attempts 번 연속 실패하면 변경을 1건씩 반영하여 DB 가 거부하는 변경(무결성 위반 등)만 옮김
+ *     (연결 실패 같은 일시적 DB 오류면 옮기지 않고 다음 주기에 다시 시도)
+ * - 로컬(simple)은 프로세스 메모리 큐를 사용
+ * - 종료 시(@PreDestroy) 남은 변경을 모두 반영한다.
+ * - write-mode 가 behind 일 때만 flush 하므로, behind 에서 다른 모드로 바꿀 때는 큐를 비운 뒤 바꿔야 한다.
+ */
+@Slf4j
+@Service
+public class ItemWriteBehindService {
+
+	private static final String QUEUE = "queue:item:write-behind";
+	private static final String DEAD = QUEUE + ":dead";
+	private static final String LOCK = "item:write-behind";
+	private static final Duration LOCK_TTL = Duration.ofSeconds(30);
+	// 락을 잡고 있을 때만 dead-letter(ARGV[3..]) 를 옮기고 앞에서 n 개 제거
+	private static final RedisScript <Long> REMOVE = RedisLocks.fenced (
+			"for i = 3, #ARGV do redis.call('rpush', KEYS[3], ARGV[i]) end "
+			+ "redis.call('ltrim', KEYS[2], ARGV[2], -1) return 1");
+
+	@Autowired
+	private ItemService itemService;
+
+	@Autowired
+	private ItemCacheKeys itemCacheKeys;
+
+	@Autowired
+	private RedisLocks redisLocks;
+
+	@Autowired
+	private ObjectProvider<StringRedisTemplate> redisTemplate;
+
+	@Autowired
+	private ObjectMapper objectMapper;
+
+	@Value("${spring.cache.type:simple}")
+	private String cacheType;
+
+	// behind 가 아니면 큐에 넣는 곳이 없으므로 주기 flush(락 획득 + 큐 조회)를 하지 않음
+	@Value("${item.cache.write-mode:EVICT}")
+	private CacheWriteModeCode writeMode;
+
+	@Value("${item.write-behind.batch-size:500}")
+	private int batchSize;
+
+	@Value("${item.write-behind.max-attempts:3}")
+	private int maxAttempts;
+
+	private final ConcurrentLinkedQueue <Item> local = new ConcurrentLinkedQueue<>();
+	private final ConcurrentLinkedQueue <String> localDead = new ConcurrentLinkedQueue<>();
+
+	// 현재 큐 앞 묶음의 연속 실패 횟수 (flushBatch 는 synchronized)
+	private int attempts;
+
+	public void enqueue (Item change) {
+		if (!isShared()) {
+			local.add(change);
+			return;
+		}
+		try {
+			redisTemplate.getObject().opsForList().rightPush(QUEUE, objectMapper.writeValueAsString(change));
+		} catch (JsonProcessingException ex) {
+			throw new IllegalStateException("Could not serialize item change", ex);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${item.write-behind.flush-interval-ms:1000}")
+	public void flush () {
+		if (writeMode != CacheWriteModeCode.BEHIND) {
+			return;
+		}
+		int flushed;
+		do {
+			flushed = flushBatch ();
+		} while (flushed == batchSize);
+	}
+
+	@PreDestroy
+	public void shutdown () {
+		flush ();
+		log.info("Item write-behind flushed on shutdown");
+	}
+
+	private synchronized int flushBatch () {
+		String token = redisLocks.tryLock (LOCK, LOCK_TTL);
+		if (token == null) {
+			return 0;
+		}
+		if (isShared() && redisLocks.isLocal (token)) {
+			return 0;
+		}
+		try {
+			Batch batch = peek (batchSize);
+			if (batch.size() == 0) {
+				return 0;
+			}
+			List <Item> changes = coalesce (batch.changes());
+			List <String> dead = new ArrayList<>(batch.unreadable());
+			// 변경 전 카테고리는 큐에 없으므로 updateAll 이 읽은 변경 전 행에서 받아 해당 카테고리만 무효화
+			Set <String> categories = new HashSet<>();
+			try {
+				itemService.updateAll (changes, categories);
+			} catch (RuntimeException ex) {
+				if (++attempts < maxAttempts) {
+					throw ex;
+				}
+				log.warn("Item write-behind batch failed {} times, applying changes one by one", attempts, ex);
+				dead.addAll(applyEach (changes, categories));
+			}
+			attempts = 0;
+			itemCacheKeys.evict (categories);
+			if (!remove (token, batch.size(), dead)) {
+				log.warn("Item write-behind lock expired during flush, leaving {} changes to the lock holder", batch.size());
+				return 0;
+			}
+			if (!dead.isEmpty()) {
+				log.error("Item write-behind moved {} changes to dead letters : {}", dead.size(), dead);
+			}
+			log.debug("Item write-behind flushed : {} changes", batch.size());
+			return batch.size();
+		} catch (RuntimeException ex) {
+			log.error("Item write-behind flush failed (will retry)", ex);
+			return 0;
+		} finally {
+			redisLocks.unlock (LOCK, token);
+		}
+	}
+
+	// 1건씩 반영하고 DB 가 거부한 변경만 반환, 일시적 DB 오류면 그대로 던짐 (앞서 반영된 변경은 다시 반영되어도 무해)
+	private List <String> applyEach (List <Item> changes, Set <String> categories) {
+		List <String> rejected = new ArrayList<>();
+		for (Item change : changes) {
+			try {
+				itemService.updateAll (List.of(change), categories);
+			} catch (RuntimeException ex) {
+				if (ex instanceof DataAccessException && !(ex instanceof DataIntegrityViolationException)) {
+					throw ex;
+				}
+				log.warn("Item write-behind change rejected : {}", change, ex);
+				rejected.add(write (change));
+			}
+		}
+		return rejected;
+	}
+
+	private Batch peek (int size) {
+		List <Item> changes = new ArrayList<>();
+		if (!isShared()) {
+			Iterator <Item> iterator = local.iterator();
+			while (iterator.hasNext() && changes.size() < size) {
+				changes.add(iterator.next());
+			}
+			return new Batch (changes.size(), changes, List.of());
+		}
+		List <String> values = redisTemplate.getObject().opsForList().range(QUEUE, 0, size - 1);
+		if (values == null) {
+			return new Batch (0, changes, List.of());
+		}
+		List <String> unreadable = new ArrayList<>();
+		for (String value : values) {
+			try {
+				changes.add(objectMapper.readValue(value, Item.class));
+			} catch (JsonProcessingException ex) {
+				log.warn("Item write-behind change unreadable : {}", value, ex);
+				unreadable.add(value);
+			}
+		}
+		return new Batch (values.size(), changes, unreadable);
+	}
+
+	// 앞에서 size 개 제거하고 dead 를 dead-letter 로 옮김, 공유 큐는 락을 잃었으면 아무것도 하지 않고 false
+	private boolean remove (String token, int size, List <String> dead) {
+		if (!isShared()) {
+			for (int i = 0; i < size; i++) {
+				local.poll();
+			}
+			localDead.addAll(dead);
+			return true;
+		}
+		List <String> args = new ArrayList<>(dead.size() + 1);
+		args.add(String.valueOf(size));
+		args.addAll(dead);
+		return redisLocks.executeFenced (LOCK, token, REMOVE, List.of(QUEUE, DEAD), args) > 0;
+	}
+
+	private String write (Item change) {
+		try {
+			return objectMapper.writeValueAsString(change);
+		} catch (JsonProcessingException ex) {
+			return String.valueOf(change);
+		}
+	}
+
+	// 같은 id 의 변경은 순서대로 null 이 아닌 필드만 덮어써서 1건으로 합침
+	private List <Item> coalesce (List <Item> changes) {
+		Map <Long, Item> merged = new LinkedHashMap<>();
+		for (Item change : changes) {
+			merged.merge(change.getId(), change, CachedItemService::merge);
+		}
+		return new ArrayList<>(merged.values());
+	}
+
+	private boolean isShared () {
+		return "redis".equalsIgnoreCase(cacheType);
+	}
+
+	// size: 큐에서 읽은 항목 수 (읽을 수 없는 항목 포함)
+	private record Batch (int size, List <Item> changes, List <String> unreadable) {
+	}
+}
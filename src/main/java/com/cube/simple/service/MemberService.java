@@ -31,8 +31,8 @@ public class MemberService {
 
     @AESDecrypt
     @Transactional(readOnly = true)
-	public List <Member> selectAll () {
-		return readMemberMapper.selectAll ();
+	public List <Member> selectAll (List <String> columns) {
+		return readMemberMapper.selectAll (columns);
 	}
 
     @AESDecrypt
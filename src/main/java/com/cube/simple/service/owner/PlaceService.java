@@ -9,6 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.cube.simple.mapper.read.owner.ReadPlaceMapper;
 import com.cube.simple.mapper.write.owner.WritePlaceMapper;
 import com.cube.simple.model.owner.Place;
+import com.cube.simple.service.EntityVersionService;
 
 @Service("ownerPlaceService")
 public class PlaceService {
@@ -19,14 +20,18 @@ public class PlaceService {
     @Autowired
     private WritePlaceMapper writePlaceMapper;
 
+    @Autowired
+    private EntityVersionService entityVersionService;
+
     @Transactional
     public void insert (Place place) {
         writePlaceMapper.insert (place);
+        entityVersionService.bump (EntityVersionService.PLACE);
     }
 
     @Transactional(readOnly = true)
-    public List <Place> selectAll () {
-        return readPlaceMapper.selectAll ();
+    public List <Place> selectAll (List <String> columns) {
+        return readPlaceMapper.selectAll (columns);
     }
 
     @Transactional(readOnly = true)
@@ -42,10 +47,12 @@ public class PlaceService {
     @Transactional
     public void update (Place place) {
         writePlaceMapper.update (place);
+        entityVersionService.bump (EntityVersionService.PLACE);
     }
 
     @Transactional
     public void deleteById (Long id) {
         writePlaceMapper.deleteById (id);
+        entityVersionService.bump (EntityVersionService.PLACE);
     }
 }
\ No newline at end of file
@@ -9,6 +9,7 @@ import org.springframework.transaction.annotation.Transactional;
 import com.cube.simple.mapper.read.user.ReadPlaceMapper;
 import com.cube.simple.mapper.write.user.WritePlaceMapper;
 import com.cube.simple.model.user.Place;
+import com.cube.simple.service.EntityVersionService;
 
 @Service("userPlaceService")
 public class PlaceService {
@@ -19,9 +20,13 @@ public class PlaceService {
     @Autowired
     private WritePlaceMapper writePlaceMapper;
 
+    @Autowired
+    private EntityVersionService entityVersionService;
+
     @Transactional
     public void insert (Place place) {
         writePlaceMapper.insert (place);
+        entityVersionService.bump (EntityVersionService.PLACE);
     }
 
     @Transactional(readOnly = true)
@@ -42,10 +47,12 @@ public class PlaceService {
     @Transactional
     public void update (Place place) {
         writePlaceMapper.update (place);
+        entityVersionService.bump (EntityVersionService.PLACE);
     }
 
     @Transactional
     public void deleteById (Long id) {
         writePlaceMapper.deleteById (id);
+        entityVersionService.bump (EntityVersionService.PLACE);
     }
 }
\ No newline at end of file
@@ -0,0 +1,60 @@
+package com.cube.simple.util;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Objects;
+
+import org.springframework.stereotype.Component;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Keyset(커서) 페이지네이션용 커서 토큰 유틸
+ *
+ * - 마지막으로 조회한 id 를 불투명(opaque) 토큰으로 인코딩하여 클라이언트에 전달하고,
+ *   다음 요청의 after 파라미터로 받은 토큰을 다시 id 로 복원한다.
+ * - 토큰 포맷(버전 접두어 + id)은 내부 구현이므로 클라이언트는 해석하지 않고 그대로 돌려주기만 해야 함.
+ */
+@Slf4j
+@Component
+public class CursorUtil {
+
+    private static final String VERSION = "v1:";
+
+    /**
+     * 마지막으로 조회한 id 를 URL-safe Base64 커서 토큰으로 인코딩합니다.
+     *
+     * @param lastId 현재 페이지의 마지막 id
+     * @return 커서 토큰 문자열
+     * @throws NullPointerException lastId 가 null 인 경우
+     */
+    public String encode(Long lastId) {
+        Objects.requireNonNull(lastId, "Input to CursorUtil.encode cannot be null");
+
+        byte[] raw = (VERSION + lastId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * 커서 토큰을 마지막 id 로 복원합니다.
+     *
+     * @param cursor 커서 토큰 (null/빈문자열이면 첫 페이지를 의미하며 null 반환)
+     * @return 마지막 id, 첫 페이지면 null
+     * @throws IllegalArgumentException 변조되었거나 형식이 잘못된 커서인 경우
+     */
+    public Long decode(String cursor) {
+        if (cursor == null || cursor.isBlank()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor.trim()), StandardCharsets.UTF_8);
+            if (!raw.startsWith(VERSION)) {
+                throw new IllegalArgumentException("Unsupported cursor version");
+            }
+            return Long.valueOf(raw.substring(VERSION.length()));
+        } catch (IllegalArgumentException ex) {
+            log.debug("Invalid cursor : {}", cursor);
+            throw new IllegalArgumentException("Invalid cursor", ex);
+        }
+    }
+}
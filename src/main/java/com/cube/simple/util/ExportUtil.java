@@ -0,0 +1,44 @@
+package com.cube.simple.util;
+
+import java.util.Objects;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 스트리밍 Export(CSV) 포맷 유틸
+ */
+@Component
+public class ExportUtil {
+
+    private static final char SEPARATOR = ',';
+    private static final char QUOTE = '"';
+
+    /**
+     * 값 목록을 RFC 4180 형식의 CSV 한 줄(개행 포함)로 변환합니다.
+     * - null 은 빈 칸, 구분자/따옴표/개행이 포함된 값은 따옴표로 감싸고 내부 따옴표는 두 번 씁니다.
+     *
+     * @param values 컬럼 값 목록
+     * @return CSV 한 줄 ("\r\n" 으로 끝남)
+     */
+    public String csv(Object... values) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < values.length; i++) {
+            if (i > 0) {
+                sb.append(SEPARATOR);
+            }
+            sb.append(escape(Objects.toString(values[i], "")));
+        }
+        return sb.append("\r\n").toString();
+    }
+
+    private String escape(String value) {
+        boolean quote = value.indexOf(SEPARATOR) >= 0
+                || value.indexOf(QUOTE) >= 0
+                || value.indexOf('\n') >= 0
+                || value.indexOf('\r') >= 0;
+        if (!quote) {
+            return value;
+        }
+        return QUOTE + value.replace("\"", "\"\"") + QUOTE;
+    }
+}
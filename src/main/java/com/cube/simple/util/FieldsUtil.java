@@ -0,0 +1,98 @@
+package com.cube.simple.util;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.beans.BeanWrapper;
+import org.springframework.beans.PropertyAccessorFactory;
+import org.springframework.stereotype.Component;
+
+/**
+ * 목록 조회 fields= 파라미터(Sparse fieldset) 유틸
+ *
+ * - "id,name,price" 형태의 요청 필드를 허용 목록(whitelist)으로 검증하고
+ *   SQL 프로젝션용 컬럼명(snake_case)과 응답용 Map 으로 변환한다.
+ * - 컬럼명은 mapper 에서 ${} 로 치환되므로 반드시 허용 목록을 통과한 값만 전달해야 함.
+ * - 식별자(id)는 커서/상세 조회에 필요하므로 요청에 없어도 항상 포함한다.
+ */
+@Component
+public class FieldsUtil {
+
+    public static final String ID = "id";
+
+    /**
+     * fields 파라미터를 허용된 필드 목록으로 변환합니다.
+     *
+     * @param fields  쉼표로 구분된 필드명 (null/빈문자열이면 전체 필드)
+     * @param allowed 허용 필드명 목록 (응답/SELECT 순서 기준)
+     * @return 요청 필드 목록 (허용 목록 순서, id 포함), 전체 필드면 null
+     * @throws IllegalArgumentException 허용되지 않은 필드가 포함된 경우
+     */
+    public List<String> parse(String fields, List<String> allowed) {
+        if (fields == null || fields.isBlank()) {
+            return null;
+        }
+        Set<String> requested = new LinkedHashSet<>();
+        requested.add(ID);
+        for (String field : fields.split(",")) {
+            String name = field.trim();
+            if (name.isEmpty()) {
+                continue;
+            }
+            if (!allowed.contains(name)) {
+                throw new IllegalArgumentException("Unsupported field : " + name);
+            }
+            requested.add(name);
+        }
+
+        List<String> properties = new ArrayList<>(requested.size());
+        for (String name : allowed) {
+            if (requested.contains(name)) {
+                properties.add(name);
+            }
+        }
+        return properties;
+    }
+
+    /**
+     * 필드명(camelCase)을 컬럼명(snake_case)으로 변환합니다. (map-underscore-to-camel-case 의 역변환)
+     *
+     * @param properties parse() 결과 (null 허용)
+     * @return 컬럼명 목록, properties 가 null 이면 null (mapper 에서 전체 컬럼 조회)
+     */
+    public List<String> columns(List<String> properties) {
+        if (properties == null) {
+            return null;
+        }
+        List<String> columns = new ArrayList<>(properties.size());
+        for (String property : properties) {
+            columns.add(property.replaceAll("([a-z0-9])([A-Z])", "$1_$2").toLowerCase(Locale.ROOT));
+        }
+        return columns;
+    }
+
+    /**
+     * 조회 결과를 요청 필드만 가진 Map 목록으로 변환합니다. (응답 JSON 에서 나머지 필드 제외)
+     *
+     * @param rows       조회 결과
+     * @param properties parse() 결과
+     * @return 필드명 → 값 (properties 순서 유지)
+     */
+    public List<Map<String, Object>> project(List<?> rows, List<String> properties) {
+        List<Map<String, Object>> projected = new ArrayList<>(rows.size());
+        for (Object row : rows) {
+            BeanWrapper bean = PropertyAccessorFactory.forBeanPropertyAccess(row);
+            Map<String, Object> values = new LinkedHashMap<>();
+            for (String property : properties) {
+                values.put(property, bean.getPropertyValue(property));
+            }
+            projected.add(values);
+        }
+        return projected;
+    }
+}
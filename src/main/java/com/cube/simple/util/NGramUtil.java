@@ -0,0 +1,84 @@
+package com.cube.simple.util;
+
+import java.text.Normalizer;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+/**
+ * 검색 색인용 문자 n-gram(bi-gram) 토크나이저
+ *
+ * - 공백 기준으로 단어를 나눈 뒤, 각 단어를 2글자 단위로 잘라 토큰을 만든다.
+ *   예) "맛있는 Coffee" → [맛있, 있는, co, of, ff, fe, ee]
+ * - 형태소 분석 없이도 한국어/중국어 부분 검색이 가능하며, 영문은 대소문자를 구분하지 않는다.
+ * - 1글자 단어는 bi-gram 을 만들 수 없으므로 색인하지 않는다.
+ *   (검색어에 1글자 단어가 있으면 query() 가 빈 목록을 반환 → 호출 측에서 LIKE 검색으로 대체)
+ */
+@Component
+public class NGramUtil {
+
+    public static final int GRAM = 2;
+
+    /**
+     * 색인 대상 문자열의 토큰별 출현 횟수를 반환합니다.
+     *
+     * @param text 색인 대상 문자열 (null 허용)
+     * @return 토큰 → 출현 횟수 (입력 순서 유지)
+     */
+    public Map<String, Integer> tokenize(String text) {
+        Map<String, Integer> counts = new LinkedHashMap<>();
+        for (String word : words(text)) {
+            for (String gram : grams(word)) {
+                counts.merge(gram, 1, Integer::sum);
+            }
+        }
+        return counts;
+    }
+
+    /**
+     * 검색어를 중복 없는 토큰 목록으로 변환합니다.
+     *
+     * @param search 검색어
+     * @return 토큰 목록, 색인으로 처리할 수 없는 검색어(빈 값, 1글자 단어 포함)면 빈 목록
+     */
+    public List<String> query(String search) {
+        Set<String> tokens = new LinkedHashSet<>();
+        List<String> words = words(search);
+        for (String word : words) {
+            if (word.codePointCount(0, word.length()) < GRAM) {
+                return List.of();
+            }
+            tokens.addAll(grams(word));
+        }
+        return new ArrayList<>(tokens);
+    }
+
+    private List<String> words(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        List<String> words = new ArrayList<>();
+        for (String word : normalized.split("[\\s\\p{Punct}]+")) {
+            if (!word.isEmpty()) {
+                words.add(word);
+            }
+        }
+        return words;
+    }
+
+    private List<String> grams(String word) {
+        int[] cps = word.codePoints().toArray();
+        List<String> grams = new ArrayList<>();
+        for (int i = 0; i + GRAM <= cps.length; i++) {
+            grams.add(new String(cps, i, GRAM));
+        }
+        return grams;
+    }
+}
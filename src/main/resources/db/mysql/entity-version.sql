@@ -0,0 +1,17 @@
+-- 운영(MySQL) EntityVersion DDL - 배포 전 1회 실행 (로컬/개발 H2 는 schema.sql)
+
+-- 테이블별 변경 버전 (목록 조회 ETag 용)
+-- 쓰기마다 한 행을 갱신하면 같은 테이블의 쓰기 트랜잭션이 그 행의 잠금을 기다리므로
+-- entity.version.shards 개 행으로 나누어 임의의 행을 증가시키고 버전은 합계로 읽는다.
+CREATE TABLE IF NOT EXISTS EntityVersion (
+    name VARCHAR(64) NOT NULL,
+    shard INT NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (name, shard)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- shard 컬럼이 없는 이전 테이블이 있으면 아래로 변경 (기존 버전은 shard 0 으로 유지되어 합계가 이어짐)
+-- ALTER TABLE EntityVersion
+--     ADD COLUMN shard INT NOT NULL DEFAULT 0 AFTER name,
+--     DROP PRIMARY KEY,
+--     ADD PRIMARY KEY (name, shard);
@@ -0,0 +1,20 @@
+-- 운영(MySQL) Item 파생 테이블 DDL - 배포 전 1회 실행 (로컬/개발 H2 는 schema.sql)
+-- 데이터는 기동 시 ItemIndexInitializer(item.index.backfill=AUTO) 가 채운다.
+
+-- Item 검색용 n-gram 역색인
+-- token 은 대소문자/악센트를 구분하는 utf8mb4_bin 으로 생성 (기본 *_ai_ci 는 'ré'/'re' 를 같은 값으로 보아 PK 가 충돌)
+CREATE TABLE IF NOT EXISTS ItemToken (
+    token VARCHAR(16) CHARACTER SET utf8mb4 COLLATE utf8mb4_bin NOT NULL,
+    item_id BIGINT NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    weight INT NOT NULL,
+    PRIMARY KEY (token, item_id),
+    INDEX idx_item_token_category (token, category, item_id),
+    INDEX idx_item_token_item (item_id)
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
+
+-- Item 카테고리별 건수 카운터 (근사 건수 조회/예열 대상 카테고리 선정용)
+CREATE TABLE IF NOT EXISTS ItemCategoryCount (
+    category VARCHAR(255) NOT NULL PRIMARY KEY,
+    cnt BIGINT NOT NULL
+) ENGINE=InnoDB DEFAULT CHARSET=utf8mb4;
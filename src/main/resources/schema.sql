@@ -19,6 +19,42 @@ CREATE TABLE Item (
     create_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     update_date TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 );
+CREATE INDEX idx_item_category_id ON Item (category, id);
+-- 목록 정렬(sort=price|createDate|name)/가격 범위용: 정렬 컬럼 + id(동순위 정렬) 인덱스, category 조건용은 category 를 앞에 둔다
+CREATE INDEX idx_item_price_id ON Item (price, id);
+CREATE INDEX idx_item_category_price_id ON Item (category, price, id);
+CREATE INDEX idx_item_create_date_id ON Item (create_date, id);
+CREATE INDEX idx_item_category_create_date_id ON Item (category, create_date, id);
+CREATE INDEX idx_item_name_id ON Item (name, id);
+CREATE INDEX idx_item_category_name_id ON Item (category, name, id);
+
+-- Item 검색용 n-gram 역색인 (운영 MySQL 은 token 을 utf8mb4_bin 으로 만드는 db/mysql/item-index.sql 사용)
+DROP TABLE IF EXISTS ItemToken;
+CREATE TABLE ItemToken (
+    token VARCHAR(16) NOT NULL,
+    item_id BIGINT NOT NULL,
+    category VARCHAR(255) NOT NULL,
+    weight INT NOT NULL,
+    PRIMARY KEY (token, item_id)
+);
+CREATE INDEX idx_item_token_category ON ItemToken (token, category, item_id);
+CREATE INDEX idx_item_token_item ON ItemToken (item_id);
+
+-- Item 카테고리별 건수 카운터 (근사 건수 조회용, ItemService 쓰기 시 증감)
+DROP TABLE IF EXISTS ItemCategoryCount;
+CREATE TABLE ItemCategoryCount (
+    category VARCHAR(255) NOT NULL PRIMARY KEY,
+    cnt BIGINT NOT NULL
+);
+
+-- 테이블별 변경 버전 (목록 조회 ETag 용, 쓰기 서비스가 같은 트랜잭션에서 임의의 shard 행을 증가, 버전 = shard 합계)
+DROP TABLE IF EXISTS EntityVersion;
+CREATE TABLE EntityVersion (
+    name VARCHAR(64) NOT NULL,
+    shard INT NOT NULL,
+    version BIGINT NOT NULL,
+    PRIMARY KEY (name, shard)
+);
 
 DROP TABLE IF EXISTS Member;
 CREATE TABLE Member (
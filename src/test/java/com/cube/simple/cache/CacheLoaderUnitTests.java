@@ -0,0 +1,215 @@
+package com.cube.simple.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTimeoutPreemptively;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.support.SimpleValueWrapper;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import lombok.extern.slf4j.Slf4j;
+
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+class CacheLoaderUnitTests {
+
+    private final Cache cache = new ConcurrentMapCache("items", false);
+    private final List<CacheLoader> loaders = new ArrayList<>();
+
+    @AfterEach
+    void tearDown() {
+        loaders.forEach(CacheLoader::destroy);
+    }
+
+    @Test
+    @DisplayName("같은 키 동시 미스는 한 번만 적재하고 모두 같은 값을 받음")
+    void singleFlight() throws Exception {
+        CacheLoader loader = loader(new StubLocks(true), 2, 100);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                results.add(pool.submit(() -> {
+                    start.await();
+                    return loader.get(cache, "1-10", () -> {
+                        calls.incrementAndGet();
+                        Thread.sleep(200);
+                        return "page";
+                    });
+                }));
+            }
+            start.countDown();
+            for (Future<String> result : results) {
+                assertEquals("page", result.get(5, TimeUnit.SECONDS));
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(1, calls.get());
+        assertTrue(cache.get("1-10").get() instanceof CacheEntry);
+    }
+
+    @Test
+    @DisplayName("적재 예외는 기다리던 요청에도 전달되고, 다음 미스는 다시 적재")
+    void loaderException() throws Exception {
+        CacheLoader loader = loader(new StubLocks(true), 2, 100);
+        CountDownLatch loading = new CountDownLatch(1);
+
+        ExecutorService pool = Executors.newFixedThreadPool(2);
+        try {
+            Future<Object> first = pool.submit(() -> loader.get(cache, "k", () -> {
+                loading.countDown();
+                Thread.sleep(200);
+                throw new IllegalStateException("db down");
+            }));
+            loading.await();
+            Future<Object> waiting = pool.submit(() -> loader.get(cache, "k", () -> "unused"));
+
+            Exception ex = assertThrows(Exception.class, () -> first.get(5, TimeUnit.SECONDS));
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+            ex = assertThrows(Exception.class, () -> waiting.get(5, TimeUnit.SECONDS));
+            assertTrue(ex.getCause() instanceof IllegalStateException);
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals("ok", loader.get(cache, "k", () -> "ok"));
+    }
+
+    @Test
+    @DisplayName("갱신 큐가 가득 차 거절돼도 키가 묶이지 않고, 미스는 바로 적재")
+    void rejectedRefresh() throws Exception {
+        CacheLoader loader = loader(new StubLocks(true), 1, 1);
+        CountDownLatch release = new CountDownLatch(1);
+        ThreadPoolTaskExecutor executor = (ThreadPoolTaskExecutor) ReflectionTestUtils.getField(loader, "executor");
+        // 실행 1 + 대기 1 로 풀을 채움
+        for (int i = 0; i < 2; i++) {
+            executor.execute(() -> {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+        }
+
+        try {
+            cache.put("k", new CacheEntry("old", 10L, System.currentTimeMillis() - 1000L));
+            assertEquals("old", loader.get(cache, "k", () -> "new"));
+            assertTrue(refreshing(loader).isEmpty(), "거절된 갱신은 표시를 남기지 않음");
+
+            cache.evict("k");
+            assertEquals("new", assertTimeoutPreemptively(Duration.ofSeconds(2),
+                    () -> loader.get(cache, "k", () -> "new")));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("다른 노드가 락을 잡아 갱신을 건너뛰어도 미스 요청은 null 이 아닌 값을 적재")
+    void skippedRefresh() throws Exception {
+        StubLocks locks = new StubLocks(false);
+        CacheLoader loader = loader(locks, 1, 10);
+        ReflectionTestUtils.setField(loader, "lockTtl", Duration.ofMillis(300));
+
+        cache.put("k", new CacheEntry("old", 10L, System.currentTimeMillis() - 1000L));
+        assertEquals("old", loader.get(cache, "k", () -> "new"));
+        cache.evict("k");
+
+        // 락을 못 잡으면 lock-ttl 동안 다른 노드의 적재를 기다린 뒤 직접 적재
+        assertEquals("new", loader.get(cache, "k", () -> "new"));
+        assertTrue(locks.attempts.get() >= 1);
+        long deadline = System.currentTimeMillis() + 2000L;
+        while (!refreshing(loader).isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertTrue(refreshing(loader).isEmpty());
+    }
+
+    @Test
+    @DisplayName("jitter TTL 은 키마다 고정이고 범위 안")
+    void jitterIsPerKey() {
+        RedisCacheProperties.Spec spec = new RedisCacheProperties.Spec(Duration.ofSeconds(100), 0.1, null);
+        Set<Duration> distinct = new HashSet<>();
+        for (int i = 0; i < 1000; i++) {
+            Duration ttl = spec.ttlFor("items:" + i);
+            assertEquals(ttl, spec.ttlFor("items:" + i));
+            assertTrue(ttl.toMillis() >= 90_000 && ttl.toMillis() <= 110_000, ttl.toString());
+            distinct.add(ttl);
+        }
+        assertTrue(distinct.size() > 100, "키마다 만료 시점이 흩어져야 함");
+    }
+
+    @Test
+    @DisplayName("CacheEntry 로 감싼 목록도 L1 가중치는 원소 수")
+    void weighsWrappedLists() {
+        List<String> page = List.of("a", "b", "c");
+        assertEquals(3, TwoLevelCache.weigh("k", new SimpleValueWrapper(page)));
+        assertEquals(3, TwoLevelCache.weigh("k", new SimpleValueWrapper(new CacheEntry(page, 10L, 0L))));
+        assertEquals(1, TwoLevelCache.weigh("k", new SimpleValueWrapper(new CacheEntry(7L, 10L, 0L))));
+    }
+
+    private CacheLoader loader(RedisLocks locks, int threads, int queueCapacity) {
+        CacheLoader loader = new CacheLoader();
+        ReflectionTestUtils.setField(loader, "redisLocks", locks);
+        ReflectionTestUtils.setField(loader, "defaultTtl", Duration.ofSeconds(60));
+        ReflectionTestUtils.setField(loader, "beta", 1.0);
+        ReflectionTestUtils.setField(loader, "lockTtl", Duration.ofSeconds(2));
+        ReflectionTestUtils.setField(loader, "threads", threads);
+        ReflectionTestUtils.setField(loader, "queueCapacity", queueCapacity);
+        loader.init();
+        loaders.add(loader);
+        return loader;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Set<String> refreshing(CacheLoader loader) {
+        return (Set<String>) ReflectionTestUtils.getField(loader, "refreshing");
+    }
+
+    // 노드 간 락 대역: acquire=false 이면 항상 다른 노드가 잡고 있는 것으로 응답
+    private static class StubLocks extends RedisLocks {
+
+        private final boolean acquire;
+        private final AtomicInteger attempts = new AtomicInteger();
+
+        StubLocks(boolean acquire) {
+            this.acquire = acquire;
+        }
+
+        @Override
+        public String tryLock(String name, Duration ttl) {
+            attempts.incrementAndGet();
+            return acquire ? "" : null;
+        }
+
+        @Override
+        public void unlock(String name, String token) {
+        }
+    }
+}
@@ -0,0 +1,82 @@
+package com.cube.simple.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.cube.simple.mapper.read.ReadItemMapper;
+import com.cube.simple.model.Item;
+
+import lombok.extern.slf4j.Slf4j;
+
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+class CacheSnapshotUnitTests {
+
+    @Autowired
+    private CacheSnapshot cacheSnapshot;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    @Autowired
+    private ReadItemMapper readItemMapper;
+
+    @TempDir
+    private Path directory;
+
+    private Path path;
+
+    @BeforeEach
+    void setUp() {
+        path = directory.resolve("cache.snapshot");
+        ReflectionTestUtils.setField(cacheSnapshot, "enabled", true);
+        ReflectionTestUtils.setField(cacheSnapshot, "path", path);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(cacheSnapshot, "enabled", false);
+    }
+
+    @Test
+    @DisplayName("종료 시 저장한 \"item\" 값을 기동 시 복원, update_date 가 다른 값은 버림")
+    void savesAndRestores() {
+        Cache cache = cacheManager.getCache("item");
+        Item current = readItemMapper.selectById(1L);
+        Item stale = readItemMapper.selectById(2L);
+        stale.setUpdateDate(stale.getCreateDate().minusDays(1));
+        cache.put(1L, current);
+        cache.put(2L, stale);
+
+        cacheSnapshot.shutdown();
+        assertTrue(Files.exists(path));
+
+        cache.clear();
+        cacheSnapshot.run(null);
+
+        assertFalse(Files.exists(path));
+        Item restored = cache.get(1L, Item.class);
+        assertNotNull(restored);
+        assertEquals(current, restored);
+        assertNull(cache.get(2L));
+    }
+}
@@ -0,0 +1,119 @@
+package com.cube.simple.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializer;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cube.simple.model.Item;
+import com.fasterxml.jackson.annotation.JsonTypeInfo;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+import lombok.extern.slf4j.Slf4j;
+
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+class CompactRedisSerializerUnitTests {
+
+    private static final int ROUNDS = 2000;
+
+    private final RedisSerializer<Object> json = jsonSerializer();
+
+    @Test
+    @DisplayName("JSON / Smile / Smile+LZ4: 50건 목록 왕복 후 동일")
+    void roundTrip() {
+        List<Item> page = page(50);
+        for (RedisSerializer<Object> serializer : List.of(
+                new CompactRedisSerializer(json, CompactRedisSerializer.Format.JSON, 1024),
+                new CompactRedisSerializer(json, CompactRedisSerializer.Format.SMILE, -1),
+                new CompactRedisSerializer(json, CompactRedisSerializer.Format.SMILE, 1024))) {
+            assertEquals(page, serializer.deserialize(serializer.serialize(page)));
+        }
+    }
+
+    @Test
+    @DisplayName("MAGIC 없는 기존 JSON 값도 읽음")
+    void readsLegacyJson() {
+        List<Item> page = page(3);
+        RedisSerializer<Object> compact = new CompactRedisSerializer(json, CompactRedisSerializer.Format.SMILE, 1024);
+        assertEquals(page, compact.deserialize(json.serialize(page)));
+    }
+
+    @Test
+    @DisplayName("크기/시간 비교: Smile+LZ4 가 JSON 보다 작음 (50건 목록)")
+    void compareWithJson() {
+        List<Item> page = page(50);
+        RedisSerializer<Object> smile = new CompactRedisSerializer(json, CompactRedisSerializer.Format.SMILE, -1);
+        RedisSerializer<Object> smileLz4 = new CompactRedisSerializer(json, CompactRedisSerializer.Format.SMILE, 1024);
+
+        int jsonSize = measure("json", json, page);
+        int smileSize = measure("smile", smile, page);
+        int smileLz4Size = measure("smile+lz4", smileLz4, page);
+
+        assertTrue(smileSize < jsonSize);
+        assertTrue(smileLz4Size < smileSize);
+    }
+
+    // JMH 가 없으므로 워밍업 후 평균 시간만 로그로 남김 (참고용 수치)
+    private int measure(String name, RedisSerializer<Object> serializer, List<Item> page) {
+        byte[] bytes = serializer.serialize(page);
+        for (int i = 0; i < ROUNDS; i++) {
+            serializer.deserialize(serializer.serialize(page));
+        }
+
+        long encode = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            serializer.serialize(page);
+        }
+        encode = (System.nanoTime() - encode) / ROUNDS;
+
+        long decode = System.nanoTime();
+        for (int i = 0; i < ROUNDS; i++) {
+            serializer.deserialize(bytes);
+        }
+        decode = (System.nanoTime() - decode) / ROUNDS;
+
+        log.info("{} : {} bytes, encode {} us, decode {} us", name, bytes.length, encode / 1000.0, decode / 1000.0);
+        return bytes.length;
+    }
+
+    @SuppressWarnings("deprecation")
+    private static RedisSerializer<Object> jsonSerializer() {
+        ObjectMapper mapper = new ObjectMapper();
+        mapper.registerModule(new JavaTimeModule());
+        mapper.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+        mapper.activateDefaultTyping(mapper.getPolymorphicTypeValidator(),
+                ObjectMapper.DefaultTyping.EVERYTHING, JsonTypeInfo.As.PROPERTY);
+        return new GenericJackson2JsonRedisSerializer(mapper);
+    }
+
+    private static List<Item> page(int size) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<Item> items = new ArrayList<>(size);
+        for (long i = 1; i <= size; i++) {
+            items.add(Item.builder()
+                    .id(i)
+                    .price(1000L * i)
+                    .name("Item #" + i)
+                    .category(i % 2 == 0 ? "Food" : "Drink")
+                    .image("https://example.com/images/item-" + i + ".png")
+                    .description("Sample description for item " + i)
+                    .createDate(now.plusMinutes(i))
+                    .updateDate(now.plusMinutes(i))
+                    .build());
+        }
+        return items;
+    }
+}
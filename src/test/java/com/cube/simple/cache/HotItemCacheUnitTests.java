@@ -0,0 +1,57 @@
+package com.cube.simple.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cube.simple.dto.HotKey;
+
+import lombok.extern.slf4j.Slf4j;
+
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+class HotItemCacheUnitTests {
+
+    @Autowired
+    private HotItemCache hotItemCache;
+
+    @Test
+    @DisplayName("조회가 몰린 id 만 핫 키로 고정, evict 하면 해제 후 다음 refresh 에서 다시 고정")
+    void pinsHotIds() {
+        for (int i = 0; i < 200; i++) {
+            hotItemCache.record(1L);
+        }
+        for (long id = 2; id <= 30; id++) {
+            hotItemCache.record(id);
+        }
+        hotItemCache.refresh();
+
+        List<HotKey> top = hotItemCache.top();
+        log.info("hot keys : {}", top);
+        assertEquals(1, top.size());
+        assertEquals(1L, top.get(0).getId());
+        assertTrue(top.get(0).getEstimate() >= 200);
+        assertNotNull(hotItemCache.get(1L));
+        assertNull(hotItemCache.get(2L));
+        // 로컬(simple) 캐시에서는 복제 키를 쓰지 않음
+        assertNull(hotItemCache.replicaKey(1L));
+
+        hotItemCache.evict(1L);
+        assertNull(hotItemCache.get(1L));
+        assertFalse(hotItemCache.top().get(0).isPinned());
+
+        hotItemCache.refresh();
+        assertNotNull(hotItemCache.get(1L));
+    }
+}
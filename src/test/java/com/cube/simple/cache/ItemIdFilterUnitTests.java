@@ -0,0 +1,79 @@
+package com.cube.simple.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.cube.simple.mapper.write.WriteItemMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+class ItemIdFilterUnitTests {
+
+    // DB 에 없는 id (필터에는 added 로만 들어감)
+    private static final long ADDED_ID = 900_000_001L;
+
+    @Autowired
+    private ItemIdFilter itemIdFilter;
+
+    @Autowired
+    private WriteItemMapper writeItemMapper;
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(itemIdFilter, "writeItemMapper", writeItemMapper);
+        itemIdFilter.rebuild();
+    }
+
+    @Test
+    @DisplayName("재구성은 쓰기 DB 의 id 로 만들고 DB 의 id 는 모두 통과")
+    void rebuildsFromWriteDatabase() {
+        itemIdFilter.rebuild();
+
+        List<Long> ids = writeItemMapper.selectIds(null, 10000);
+        assertFalse(ids.isEmpty());
+        assertEquals(ids, itemIdFilter.mightExist(ids));
+    }
+
+    @Test
+    @DisplayName("재구성 스캔 중 등록된 id 는 교체 후에도 통과 (false negative 없음)")
+    void keepsIdsAddedDuringRebuild() {
+        AtomicBoolean added = new AtomicBoolean();
+        // 첫 스캔 묶음을 읽는 도중 다른 요청이 등록을 커밋한 상황
+        WriteItemMapper scanning = (WriteItemMapper) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[] { WriteItemMapper.class }, (proxy, method, args) -> {
+                    if ("selectIds".equals(method.getName()) && added.compareAndSet(false, true)) {
+                        itemIdFilter.added(List.of(ADDED_ID));
+                    }
+                    try {
+                        return method.invoke(writeItemMapper, args);
+                    } catch (InvocationTargetException ex) {
+                        throw ex.getCause();
+                    }
+                });
+        ReflectionTestUtils.setField(itemIdFilter, "writeItemMapper", scanning);
+
+        itemIdFilter.rebuild();
+
+        assertTrue(added.get());
+        assertTrue(itemIdFilter.mightExist(ADDED_ID));
+        assertNull(ReflectionTestUtils.getField(itemIdFilter, "building"));
+    }
+}
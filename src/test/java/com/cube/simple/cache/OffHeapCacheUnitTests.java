@@ -0,0 +1,197 @@
+package com.cube.simple.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.util.unit.DataSize;
+
+import com.cube.simple.model.Item;
+
+import lombok.extern.slf4j.Slf4j;
+
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+class OffHeapCacheUnitTests {
+
+    // 비교용 작업 집합 크기 (기본 64MB, -Doffheap.bench.size=10GB 처럼 키워서 실행 가능, 힙/direct 메모리도 함께 늘릴 것)
+    private static final long BENCH_BYTES = DataSize.parse(System.getProperty("offheap.bench.size", "64MB")).toBytes();
+    private static final int READS = 200_000;
+
+    @Test
+    @DisplayName("목록 페이지 왕복, put(null) 은 제거, clear 는 해당 캐시만 비움")
+    void roundTrip() {
+        OffHeapCacheManager manager = manager(DataSize.ofMegabytes(16), OffHeapStore.Eviction.LRU);
+        Cache items = manager.getCache("items");
+        Cache item = manager.getCache("item");
+
+        List<Item> page = page(0, 50);
+        items.put("1:50", page);
+        item.put(1L, page.get(0));
+        assertEquals(page, items.get("1:50", List.class));
+        assertEquals(page.get(0), item.get(1L, Item.class));
+
+        items.put("1:50", null);
+        assertNull(items.get("1:50"));
+
+        items.put("2:50", page);
+        items.clear();
+        assertNull(items.get("2:50"));
+        assertNotNull(item.get(1L));
+    }
+
+    @Test
+    @DisplayName("예산을 넘기면 할당 slab 합계는 예산 이하, 최근 사용 항목은 LRU 에서 유지")
+    void staysWithinBudget() {
+        long budget = DataSize.ofMegabytes(4).toBytes();
+        OffHeapStore store = new OffHeapStore(budget, 64 * 1024, 4, OffHeapStore.Eviction.LRU);
+        byte[] value = new byte[1000];
+
+        store.put("hot", value);
+        for (int i = 0; i < 20_000; i++) {
+            store.put(i, value);
+            store.get("hot");
+        }
+
+        OffHeapStore.Stats stats = store.stats();
+        assertTrue(stats.allocatedBytes <= budget);
+        assertTrue(stats.evictions > 0);
+        assertNotNull(store.get("hot"));
+        assertFalse(store.put("large", new byte[64 * 1024 + 1]));
+    }
+
+    @Test
+    @DisplayName("LFU 는 자주 조회된 항목을 남김")
+    void lfuKeepsFrequent() {
+        OffHeapStore store = new OffHeapStore(64 * 1024, 64 * 1024, 1, OffHeapStore.Eviction.LFU);
+        byte[] value = new byte[1000];
+
+        store.put("frequent", value);
+        for (int i = 0; i < 10; i++) {
+            store.get("frequent");
+        }
+        // 이후 다른 항목들이 더 최근에 사용되어 "frequent" 가 LRU 끝에 있어도 조회 수로 살아남아야 함
+        for (int i = 0; i < 1000; i++) {
+            store.put(i, value);
+        }
+        assertNotNull(store.get("frequent"));
+    }
+
+    @Test
+    @DisplayName("값 크기 분포가 바뀌면 요청이 적은 등급의 slab 을 옮겨 와 새 크기도 저장")
+    void rebalancesSlabs() {
+        long budget = 4 * 64 * 1024;
+        OffHeapStore store = new OffHeapStore(budget, 64 * 1024, 1, OffHeapStore.Eviction.LRU);
+        for (int i = 0; i < 5000; i++) {
+            store.put("small" + i, new byte[100]);
+        }
+        assertEquals(budget, store.stats().allocatedBytes);
+
+        // 큰 값 등급에는 slab 도 제거할 항목도 없음 → 작은 값 등급의 slab 을 옮겨 옴
+        assertTrue(store.put("large0", new byte[1000]));
+        assertEquals(1, store.stats().rebalances);
+
+        for (int i = 1; i < 5000; i++) {
+            store.put("large" + i, new byte[1000]);
+        }
+        OffHeapStore.Stats stats = store.stats();
+        log.info("rebalances {}, entries {}, evictions {}", stats.rebalances, stats.entries, stats.evictions);
+        assertTrue(stats.rebalances > 1, "제거가 이어지면 한가한 등급의 slab 을 더 옮겨 옴");
+        assertEquals(0, stats.rejected);
+        assertTrue(stats.allocatedBytes <= budget);
+        assertNotNull(store.get("large4999"));
+    }
+
+    @Test
+    @DisplayName("비교: 힙(ConcurrentMapCache) vs off-heap - 조회 처리량과 GC 시간 (참고용 수치)")
+    void compareWithHeap() {
+        // 50건 목록의 힙 점유는 대략 직렬화 크기의 수 배이므로 보수적으로 페이지당 40KB 로 계산
+        int keys = (int) Math.max(1, BENCH_BYTES / (40 * 1024));
+
+        Cache heap = new ConcurrentMapCache("items", false);
+        measure("heap", heap, keys);
+        heap.clear();
+
+        OffHeapCacheManager manager = manager(DataSize.ofBytes(Math.max(BENCH_BYTES, DataSize.ofMegabytes(16).toBytes())),
+                OffHeapStore.Eviction.LRU);
+        measure("off-heap", manager.getCache("items"), keys);
+        log.info("off-heap stats : {}", manager.stats());
+    }
+
+    // JMH 가 없으므로 적재 후 무작위 조회 시간과 그동안의 GC 횟수/시간만 로그로 남김
+    private void measure(String name, Cache cache, int keys) {
+        long gcCount = gcCount();
+        long gcMillis = gcMillis();
+        long started = System.nanoTime();
+        for (int i = 0; i < keys; i++) {
+            // 키마다 별도 객체를 넣어야 힙 캐시의 실제 점유가 작업 집합 크기만큼 늘어남
+            cache.put(i, page(i * 50, 50));
+        }
+        long loadMillis = (System.nanoTime() - started) / 1_000_000L;
+
+        started = System.nanoTime();
+        int found = 0;
+        for (int i = 0; i < READS; i++) {
+            if (cache.get(ThreadLocalRandom.current().nextInt(keys)) != null) {
+                found++;
+            }
+        }
+        long readNanos = System.nanoTime() - started;
+
+        log.info("{} : keys {}, found {}/{}, load {}ms, read {} ops/s, gc {} times {}ms", name, keys, found, READS,
+                loadMillis, (long) (READS / (readNanos / 1e9)), gcCount() - gcCount, gcMillis() - gcMillis);
+    }
+
+    private static long gcCount() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionCount).sum();
+    }
+
+    private static long gcMillis() {
+        return ManagementFactory.getGarbageCollectorMXBeans().stream()
+                .mapToLong(GarbageCollectorMXBean::getCollectionTime).sum();
+    }
+
+    private static OffHeapCacheManager manager(DataSize maxSize, OffHeapStore.Eviction eviction) {
+        OffHeapCacheProperties properties = new OffHeapCacheProperties();
+        properties.setMaxSize(maxSize);
+        properties.setSlabSize(DataSize.ofKilobytes(256));
+        properties.setSegments(4);
+        properties.setEviction(eviction);
+        return new OffHeapCacheManager(properties);
+    }
+
+    private static List<Item> page(int offset, int size) {
+        LocalDateTime now = LocalDateTime.of(2025, 1, 1, 12, 0);
+        List<Item> items = new ArrayList<>(size);
+        for (long i = offset + 1; i <= offset + size; i++) {
+            items.add(Item.builder()
+                    .id(i)
+                    .price(1000L * i)
+                    .name("Item #" + i)
+                    .category(i % 2 == 0 ? "Food" : "Drink")
+                    .image("https://example.com/images/item-" + i + ".png")
+                    .description("Sample description for item " + i)
+                    .createDate(now.plusMinutes(i))
+                    .updateDate(now.plusMinutes(i))
+                    .build());
+        }
+        return items;
+    }
+}
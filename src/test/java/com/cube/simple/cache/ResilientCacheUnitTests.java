@@ -0,0 +1,160 @@
+package com.cube.simple.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import lombok.extern.slf4j.Slf4j;
+
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+class ResilientCacheUnitTests {
+
+    private RedisCircuitBreaker breaker;
+    private FlakyCache remote;
+    private Cache cache;
+
+    @BeforeEach
+    void setUp() {
+        breaker = new RedisCircuitBreaker();
+        ReflectionTestUtils.setField(breaker, "cacheType", "redis");
+        ReflectionTestUtils.setField(breaker, "enabled", true);
+        ReflectionTestUtils.setField(breaker, "failureThreshold", 2);
+        ReflectionTestUtils.setField(breaker, "slowCallMillis", 1000L);
+
+        remote = new FlakyCache("item");
+        ConcurrentMapCacheManager remoteManager = new ConcurrentMapCacheManager() {
+            @Override
+            protected Cache createConcurrentMapCache(String name) {
+                return remote;
+            }
+        };
+        cache = new ResilientCacheManager(remoteManager, breaker, 100, Duration.ofSeconds(30), 100).getCache("item");
+    }
+
+    @Test
+    @DisplayName("Redis 실패 시 예외 없이 미스 처리, 연속 실패 후 회로 열림")
+    void degradesAndOpens() {
+        remote.down = true;
+
+        assertNull(cache.get(1L));
+        assertTrue(breaker.isAvailable());
+        assertNull(cache.get(1L));
+        assertFalse(breaker.isAvailable());
+
+        int calls = remote.calls.get();
+        cache.put(1L, "a");
+        assertEquals("a", cache.get(1L, String.class));
+        assertEquals(calls, remote.calls.get(), "열린 동안 Redis 를 호출하지 않음");
+        assertEquals("OPEN", breaker.health().getState());
+    }
+
+    @Test
+    @DisplayName("장애 중 놓친 삭제는 복구 시 Redis 에 다시 적용")
+    void replaysEvictionsOnRecovery() {
+        cache.put(1L, "old");
+        remote.down = true;
+        cache.get(2L);
+        cache.get(2L);
+        assertFalse(breaker.isAvailable());
+
+        cache.evict(1L);
+
+        remote.down = false;
+        ReflectionTestUtils.invokeMethod(breaker, "close");
+
+        assertTrue(breaker.isAvailable());
+        assertNull(remote.get(1L));
+        assertEquals(1L, breaker.health().getOpened());
+    }
+
+    @Test
+    @DisplayName("묶음 삭제가 Redis 에 실패하면 키를 기억했다가 복구 시 적용")
+    void replaysMultiEvictOnRecovery() {
+        cache.put(1L, "a");
+        cache.put(2L, "b");
+        remote.down = true;
+
+        new CacheMultiGet().evict(cache, List.of(1L, 2L));
+        remote.down = false;
+        assertEquals("a", remote.get(1L, String.class), "Redis 에는 아직 남아 있음");
+
+        ReflectionTestUtils.invokeMethod(cache, "recover");
+
+        assertNull(remote.get(1L));
+        assertNull(remote.get(2L));
+    }
+
+    @Test
+    @DisplayName("TwoLevelCache L1 적중은 회로 차단기 성공으로 세지 않음 - 장애 중 L1 적중이 섞여도 회로 열림")
+    void level1HitsDoNotResetBreaker() {
+        TwoLevelCache twoLevelCache = new TwoLevelCache("item", Caffeine.newBuilder().maximumSize(100).build(),
+                remote, String::valueOf, (name, key) -> {});
+        Cache resilient = new ResilientCache(twoLevelCache, new ConcurrentMapCache("item"), breaker, 100);
+        resilient.put(1L, "a");
+
+        remote.down = true;
+        int calls = remote.calls.get();
+        assertEquals("a", resilient.get(1L, String.class));
+        assertEquals(calls, remote.calls.get(), "L1 적중은 Redis 를 호출하지 않음");
+
+        assertNull(resilient.get(2L));
+        assertEquals("a", resilient.get(1L, String.class));
+        assertTrue(breaker.isAvailable());
+        assertNull(resilient.get(3L));
+        assertFalse(breaker.isAvailable());
+    }
+
+    static class FlakyCache extends ConcurrentMapCache {
+
+        volatile boolean down;
+        final AtomicInteger calls = new AtomicInteger();
+
+        FlakyCache(String name) {
+            super(name);
+        }
+
+        @Override
+        protected Object lookup(Object key) {
+            check();
+            return super.lookup(key);
+        }
+
+        @Override
+        public void put(Object key, Object value) {
+            check();
+            super.put(key, value);
+        }
+
+        @Override
+        public void evict(Object key) {
+            check();
+            super.evict(key);
+        }
+
+        private void check() {
+            calls.incrementAndGet();
+            if (down) {
+                throw new IllegalStateException("redis down");
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.cube.simple.cache;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.time.Duration;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.data.redis.cache.RedisCacheConfiguration;
+import org.springframework.data.redis.cache.RedisCacheWriter;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.jedis.JedisConnectionFactory;
+import org.springframework.data.redis.serializer.GenericJackson2JsonRedisSerializer;
+import org.springframework.data.redis.serializer.RedisSerializationContext;
+import org.springframework.test.context.ActiveProfiles;
+import org.testcontainers.containers.GenericContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+import org.testcontainers.utility.DockerImageName;
+
+import lombok.extern.slf4j.Slf4j;
+import redis.clients.jedis.DefaultJedisClientConfig;
+import redis.clients.jedis.HostAndPort;
+import redis.clients.jedis.JedisPooled;
+import redis.clients.jedis.RedisProtocol;
+import redis.clients.jedis.csc.CacheConfig;
+
+/**
+ * 클라이언트 측 캐시(RESP3 CLIENT TRACKING) 동작 확인
+ *
+ * - Testcontainers 로 RESP3 를 지원하는 Redis 7 을 띄워 사용 (Docker 가 없으면 건너뜀)
+ * - 노드 두 개를 흉내 내어 서로 다른 Jedis 풀(= 다른 트래킹 연결)로 같은 캐시를 사용
+ */
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+@Testcontainers(disabledWithoutDocker = true)
+class TrackingRedisCacheIntegrationTests {
+
+    private static final String CACHE = "trackingTest";
+
+    @Container
+    static final GenericContainer<?> REDIS = new GenericContainer<>(DockerImageName.parse("redis:7-alpine"))
+            .withExposedPorts(6379);
+
+    private JedisConnectionFactory factory;
+    private JedisPooled jedisA;
+    private JedisPooled jedisB;
+    private TrackingRedisCacheManager nodeA;
+    private TrackingRedisCacheManager nodeB;
+
+    @BeforeEach
+    void setUp() {
+        String host = REDIS.getHost();
+        int port = REDIS.getMappedPort(6379);
+
+        factory = new JedisConnectionFactory(new RedisStandaloneConfiguration(host, port));
+        factory.afterPropertiesSet();
+        factory.start();
+
+        RedisCacheWriter writer = RedisCacheWriter.nonLockingRedisCacheWriter(factory);
+        RedisCacheConfiguration config = RedisCacheConfiguration.defaultCacheConfig()
+                .serializeValuesWith(RedisSerializationContext.SerializationPair
+                        .fromSerializer(new GenericJackson2JsonRedisSerializer()))
+                .entryTtl(Duration.ofMinutes(1));
+
+        jedisA = jedis(host, port);
+        jedisB = jedis(host, port);
+        nodeA = new TrackingRedisCacheManager(writer, config, Map.of(), jedisA);
+        nodeB = new TrackingRedisCacheManager(writer, config, Map.of(), jedisB);
+        nodeA.afterPropertiesSet();
+        nodeB.afterPropertiesSet();
+        nodeA.getCache(CACHE).clear();
+    }
+
+    @AfterEach
+    void tearDown() {
+        nodeA.getCache(CACHE).clear();
+        nodeA.destroy();
+        nodeB.destroy();
+        factory.destroy();
+    }
+
+    @Test
+    @DisplayName("한 번 읽은 키는 로컬에서 반환")
+    void servesRepeatedReadsLocally() {
+        Cache cache = nodeB.getCache(CACHE);
+        nodeA.getCache(CACHE).put("k", "v1");
+
+        assertEquals("v1", cache.get("k", String.class));
+        long hits = jedisB.getCache().getStats().getHits();
+        for (int i = 0; i < 100; i++) {
+            assertEquals("v1", cache.get("k", String.class));
+        }
+        assertEquals(hits + 100, jedisB.getCache().getStats().getHits());
+    }
+
+    @Test
+    @DisplayName("다른 노드가 수정/삭제하면 Redis invalidate 로 로컬 사본이 갱신됨")
+    void invalidatedByServer() throws InterruptedException {
+        Cache writerSide = nodeA.getCache(CACHE);
+        Cache readerSide = nodeB.getCache(CACHE);
+
+        writerSide.put("k", "v1");
+        assertEquals("v1", readerSide.get("k", String.class));
+        assertTrue(jedisB.getCache().getSize() > 0);
+
+        writerSide.put("k", "v2");
+        assertEquals("v2", await(readerSide, "v2"));
+
+        writerSide.evict("k");
+        assertEquals(null, await(readerSide, null));
+    }
+
+    // invalidate 메시지는 비동기로 도착하므로 잠시 대기
+    private String await(Cache cache, String expected) throws InterruptedException {
+        String value = null;
+        for (int i = 0; i < 50; i++) {
+            value = cache.get("k", String.class);
+            if (expected == null ? value == null : expected.equals(value)) {
+                break;
+            }
+            Thread.sleep(20);
+        }
+        log.info("value after invalidation : {}", value);
+        return value;
+    }
+
+    private JedisPooled jedis(String host, int port) {
+        return new JedisPooled(new HostAndPort(host, port),
+                DefaultJedisClientConfig.builder().protocol(RedisProtocol.RESP3).build(),
+                CacheConfig.builder().maxSize(1000).build());
+    }
+}
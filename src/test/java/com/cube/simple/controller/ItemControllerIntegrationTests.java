@@ -0,0 +1,116 @@
+package com.cube.simple.controller;
+
+import static org.hamcrest.Matchers.hasSize;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.security.test.context.support.WithMockUser;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.cube.simple.model.Item;
+import com.cube.simple.service.ItemService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * POST/PUT /api/items/batch 검증/건수 제한/부분 실패 응답
+ * - 테스트마다 롤백 (커밋 후 캐시 삭제/필터 추가는 실행되지 않음)
+ */
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest(properties = "item.batch.max-size=4")
+@AutoConfigureMockMvc
+@Transactional
+@WithMockUser(roles = "ADMIN")
+class ItemControllerIntegrationTests {
+
+    // DB 에 없는 id
+    private static final long MISSING_ID = 900_000_001L;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Test
+    @DisplayName("data 가 없거나 max-size 를 넘으면 400 (아무것도 등록하지 않음)")
+    void rejectsMissingOrOversizedBatch() throws Exception {
+        send(false, Map.of()).andExpect(status().isBadRequest());
+        send(true, Map.of()).andExpect(status().isBadRequest());
+
+        List<Item> oversized = List.of(item("a"), item("b"), item("c"), item("d"), item("e"));
+        send(false, Map.of("data", oversized)).andExpect(status().isBadRequest());
+        send(true, Map.of("data", oversized)).andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("대량 등록은 검증을 통과한 행만 등록하고 실패 행은 요청 위치와 함께 errors 로 반환")
+    void insertsValidRowsAndReportsInvalidRows() throws Exception {
+        Item invalid = item("");
+        Item negative = item("negative");
+        negative.setPrice(-1L);
+
+        send(false, Map.of("data", List.of(item("first"), invalid, item("second"), negative)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.ids", hasSize(2)))
+                .andExpect(jsonPath("$.data.errors", hasSize(2)))
+                .andExpect(jsonPath("$.data.errors[0].index").value(1))
+                .andExpect(jsonPath("$.data.errors[1].index").value(3));
+    }
+
+    @Test
+    @DisplayName("대량 수정은 id 없음/검증 실패/중복 id/없는 id 를 errors 로 반환하고 나머지 행은 수정")
+    void updatesValidRowsAndReportsPartialFailure() throws Exception {
+        List<Long> ids = itemService.insertAll(List.of(item("first"), item("second")));
+
+        Item noId = item("no id");
+        Item blank = Item.builder().id(ids.get(1)).name(" ").build();
+        Item duplicate = Item.builder().id(ids.get(0)).name("duplicate").build();
+        Item missing = Item.builder().id(MISSING_ID).name("missing").build();
+
+        List<Item> rows = List.of(Item.builder().id(ids.get(0)).name("renamed").build(), noId, blank, duplicate);
+        send(true, Map.of("data", rows))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.ids", hasSize(1)))
+                .andExpect(jsonPath("$.data.ids[0]").value(ids.get(0)))
+                .andExpect(jsonPath("$.data.errors", hasSize(3)))
+                .andExpect(jsonPath("$.data.errors[0].index").value(1))
+                .andExpect(jsonPath("$.data.errors[1].index").value(2))
+                .andExpect(jsonPath("$.data.errors[2].index").value(3))
+                .andExpect(jsonPath("$.data.errors[2].id").value(ids.get(0)));
+
+        send(true, Map.of("data", List.of(missing)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.ids", hasSize(0)))
+                .andExpect(jsonPath("$.data.errors[0].id").value(MISSING_ID));
+    }
+
+    private ResultActions send(boolean update, Object body) throws Exception {
+        return mockMvc.perform((update ? put("/api/items/batch") : post("/api/items/batch"))
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(body)));
+    }
+
+    private Item item(String name) {
+        return Item.builder().name(name).price(1000L).category("bulk-test").build();
+    }
+}
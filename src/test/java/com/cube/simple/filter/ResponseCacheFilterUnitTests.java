@@ -0,0 +1,173 @@
+package com.cube.simple.filter;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cube.simple.cache.ResponseCache;
+import com.cube.simple.dto.ResponseCacheStats;
+import com.cube.simple.model.Demo;
+import com.cube.simple.service.DemoService;
+
+import jakarta.servlet.http.HttpServlet;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+class ResponseCacheFilterUnitTests {
+
+    private static final String BODY = "{\"code\":\"SUCCESS\",\"data\":[" + "{\"name\":\"demo\"},".repeat(100) + "{}]}";
+
+    @Autowired
+    private ResponseCacheFilter responseCacheFilter;
+
+    @Autowired
+    private ResponseCache responseCache;
+
+    @Autowired
+    private DemoService demoService;
+
+    // 컨트롤러 대신 호출 수를 세는 서블릿
+    private final AtomicInteger calls = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        responseCache.clear();
+        calls.set(0);
+    }
+
+    @Test
+    @DisplayName("두 번째 익명 GET 은 컨트롤러 없이 같은 본문으로 응답, 언어/인코딩이 다르면 별도 항목")
+    void servesHitWithoutController() throws Exception {
+        ResponseCacheStats before = responseCache.stats();
+
+        MockHttpServletResponse first = get("/api/demos", null, null);
+        MockHttpServletResponse second = get("/api/demos", null, null);
+
+        assertEquals(1, calls.get());
+        assertEquals(BODY, second.getContentAsString());
+        assertEquals("\"demo-etag\"", second.getHeader(HttpHeaders.ETAG));
+        assertEquals(first.getContentAsString(), second.getContentAsString());
+
+        get("/api/demos?lang=en", null, null);
+        get("/api/demos", null, "gzip, deflate");
+        assertEquals(3, calls.get());
+
+        ResponseCacheStats after = responseCache.stats();
+        log.info("response cache stats : {}", after);
+        assertEquals(1, after.getHits() - before.getHits());
+        assertEquals(3, after.getMisses() - before.getMisses());
+        assertEquals(3, after.getEntries());
+    }
+
+    @Test
+    @DisplayName("gzip 요청은 압축 본문을 저장/응답, If-None-Match 가 같으면 304")
+    void compressesAndRevalidates() throws Exception {
+        MockHttpServletResponse miss = get("/api/user/places", null, "gzip");
+        MockHttpServletResponse hit = get("/api/user/places", null, "gzip");
+
+        assertEquals(1, calls.get());
+        assertEquals("gzip", miss.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertEquals("gzip", hit.getHeader(HttpHeaders.CONTENT_ENCODING));
+        assertArrayEquals(BODY.getBytes(StandardCharsets.UTF_8), gunzip(hit.getContentAsByteArray()));
+
+        MockHttpServletResponse notModified = get("/api/user/places", "\"demo-etag\"", "gzip");
+        assertEquals(304, notModified.getStatus());
+        assertEquals(0, notModified.getContentAsByteArray().length);
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    @DisplayName("쓰기 서비스 커밋 후 해당 테이블 응답만 무효화, 인증 요청과 다른 경로는 캐시하지 않음")
+    void invalidatesOnWrite() throws Exception {
+        get("/api/demos", null, null);
+        get("/api/user/places", null, null);
+        assertEquals(2, responseCache.stats().getEntries());
+
+        demoService.insert(Demo.builder().name("response-cache").description("invalidate").build());
+        assertEquals(1, responseCache.stats().getEntries());
+
+        get("/api/demos", null, null);
+        get("/api/user/places", null, null);
+        assertEquals(3, calls.get());
+
+        MockHttpServletRequest authorized = request("/api/demos", null, null);
+        authorized.addHeader(HttpHeaders.AUTHORIZATION, "Bearer token");
+        assertTrue(responseCacheFilter.shouldNotFilter(authorized));
+        assertTrue(responseCacheFilter.shouldNotFilter(request("/api/items", null, null)));
+        assertFalse(responseCacheFilter.shouldNotFilter(request("/api/admin/places/1", null, null)));
+    }
+
+    @Test
+    @DisplayName("Accept-Encoding 의 gzip 판정 (q=0 은 거부)")
+    void acceptsGzip() {
+        assertTrue(ResponseCacheFilter.acceptsGzip("gzip, deflate, br"));
+        assertTrue(ResponseCacheFilter.acceptsGzip("br;q=1.0, gzip;q=0.8"));
+        assertFalse(ResponseCacheFilter.acceptsGzip("gzip;q=0"));
+        assertFalse(ResponseCacheFilter.acceptsGzip("identity"));
+        assertFalse(ResponseCacheFilter.acceptsGzip(null));
+    }
+
+    private MockHttpServletResponse get(String uri, String ifNoneMatch, String acceptEncoding) throws Exception {
+        MockHttpServletRequest request = request(uri, ifNoneMatch, acceptEncoding);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        responseCacheFilter.doFilter(request, response, new MockFilterChain(new HttpServlet() {
+            @Override
+            protected void doGet(HttpServletRequest req, HttpServletResponse resp) throws IOException {
+                calls.incrementAndGet();
+                resp.setContentType(MediaType.APPLICATION_JSON_VALUE);
+                resp.setCharacterEncoding(StandardCharsets.UTF_8.name());
+                resp.setHeader(HttpHeaders.ETAG, "\"demo-etag\"");
+                resp.getOutputStream().write(BODY.getBytes(StandardCharsets.UTF_8));
+            }
+        }));
+        return response;
+    }
+
+    private static MockHttpServletRequest request(String uri, String ifNoneMatch, String acceptEncoding) {
+        int index = uri.indexOf('?');
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", index < 0 ? uri : uri.substring(0, index));
+        if (index >= 0) {
+            request.setQueryString(uri.substring(index + 1));
+            for (String pair : uri.substring(index + 1).split("&")) {
+                String[] parts = pair.split("=", 2);
+                request.addParameter(parts[0], parts.length > 1 ? parts[1] : "");
+            }
+        }
+        if (ifNoneMatch != null) {
+            request.addHeader(HttpHeaders.IF_NONE_MATCH, ifNoneMatch);
+        }
+        if (acceptEncoding != null) {
+            request.addHeader(HttpHeaders.ACCEPT_ENCODING, acceptEncoding);
+        }
+        return request;
+    }
+
+    private static byte[] gunzip(byte[] bytes) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(bytes))) {
+            return in.readAllBytes();
+        }
+    }
+}
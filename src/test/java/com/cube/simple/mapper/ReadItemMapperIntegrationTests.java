@@ -0,0 +1,142 @@
+package com.cube.simple.mapper;
+
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.util.List;
+
+import org.apache.ibatis.binding.MapperMethod;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.SqlSession;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cube.simple.enums.ItemSortCode;
+import com.cube.simple.service.ItemService;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * ReadItemMapper.selectAll 정렬/가격 범위 조합의 H2 실행 계획 검증
+ *
+ * - H2 EXPLAIN 결과의 인덱스명(PUBLIC.IDX_...)으로 사용 인덱스를,
+ *   "index sorted" 표기로 정렬을 인덱스 순서로 처리(별도 정렬 없음)했는지 확인한다.
+ * - H2 플래너는 ORDER BY 컬럼으로 시작하는 오름차순 인덱스만 정렬에 사용하므로
+ *   category 조건/내림차순 조합은 (category, 컬럼, id) 인덱스 사용 여부만 확인한다.
+ *   (MySQL 은 등치 조건 선행 컬럼과 역방향 인덱스 스캔으로 같은 인덱스에서 정렬까지 처리)
+ */
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+class ReadItemMapperIntegrationTests {
+
+    private static final String SELECT_ALL = "com.cube.simple.mapper.read.ReadItemMapper.selectAll";
+
+    @Autowired
+    @Qualifier("readSqlSessionFactory")
+    private SqlSessionFactory readSqlSessionFactory;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Test
+    @DisplayName("기본(sort 없음): PK 순서로 읽고 별도 정렬 없음")
+    void defaultOrderUsesPrimaryKey() throws Exception {
+        String plan = explain(null, null, null, null, false);
+        assertTrue(plan.contains("PRIMARY_KEY"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    @DisplayName("sort=price: idx_item_price_id 순서로 읽고 별도 정렬 없음")
+    void sortByPriceUsesIndex() throws Exception {
+        String plan = explain(null, null, null, ItemSortCode.PRICE, false);
+        assertTrue(plan.contains("IDX_ITEM_PRICE_ID"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    @DisplayName("minPrice/maxPrice + sort=price: idx_item_price_id 범위 스캔 + 별도 정렬 없음")
+    void priceRangeUsesIndex() throws Exception {
+        String plan = explain(null, 1000L, 50000L, ItemSortCode.PRICE, false);
+        assertTrue(plan.contains("IDX_ITEM_PRICE_ID"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    @DisplayName("sort=createDate: idx_item_create_date_id 순서로 읽고 별도 정렬 없음")
+    void sortByCreateDateUsesIndex() throws Exception {
+        String plan = explain(null, null, null, ItemSortCode.CREATE_DATE, false);
+        assertTrue(plan.contains("IDX_ITEM_CREATE_DATE_ID"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    @DisplayName("sort=name: idx_item_name_id 순서로 읽고 별도 정렬 없음")
+    void sortByNameUsesIndex() throws Exception {
+        String plan = explain(null, null, null, ItemSortCode.NAME, false);
+        assertTrue(plan.contains("IDX_ITEM_NAME_ID"), plan);
+        assertTrue(plan.contains("index sorted"), plan);
+    }
+
+    @Test
+    @DisplayName("category + sort: category 선행 인덱스 사용 (테이블 전체 스캔 아님)")
+    void categoryWithSortUsesCategoryIndex() throws Exception {
+        for (ItemSortCode sort : ItemSortCode.values()) {
+            for (boolean desc : new boolean[] { false, true }) {
+                String plan = explain("Food", null, null, sort, desc);
+                assertTrue(plan.contains("IDX_ITEM_CATEGORY_"), plan);
+                assertFalse(plan.contains("tableScan"), plan);
+            }
+        }
+    }
+
+    @Test
+    @DisplayName("가드: 검색어+sort, 가격 범위+price 외 정렬, minPrice > maxPrice 는 IllegalArgumentException")
+    void unsupportedCombinationsRejected() {
+        assertThrows(IllegalArgumentException.class,
+                () -> itemService.selectAll(1, 5, null, "coffee", null, null, null, ItemSortCode.NAME, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> itemService.selectAll(1, 5, null, null, null, 1000L, null, ItemSortCode.CREATE_DATE, false));
+        assertThrows(IllegalArgumentException.class,
+                () -> itemService.selectAll(1, 5, null, null, null, 5000L, 1000L, null, false));
+    }
+
+    private String explain(String category, Long minPrice, Long maxPrice, ItemSortCode sort, boolean desc) throws Exception {
+        MapperMethod.ParamMap<Object> param = new MapperMethod.ParamMap<>();
+        param.put("page", 1);
+        param.put("size", 20);
+        param.put("category", category);
+        param.put("search", null);
+        param.put("tokens", List.of());
+        param.put("columns", null);
+        param.put("minPrice", minPrice);
+        param.put("maxPrice", maxPrice);
+        param.put("sort", sort);
+        param.put("desc", desc);
+
+        MappedStatement statement = readSqlSessionFactory.getConfiguration().getMappedStatement(SELECT_ALL);
+        BoundSql boundSql = statement.getBoundSql(param);
+
+        try (SqlSession session = readSqlSessionFactory.openSession();
+             PreparedStatement ps = session.getConnection().prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            new DefaultParameterHandler(statement, param, boundSql).setParameters(ps);
+            try (ResultSet rs = ps.executeQuery()) {
+                rs.next();
+                String plan = rs.getString(1);
+                log.info("EXPLAIN : {}", plan);
+                return plan;
+            }
+        }
+    }
+}
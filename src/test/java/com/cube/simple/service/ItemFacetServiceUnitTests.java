@@ -0,0 +1,98 @@
+package com.cube.simple.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cube.simple.dto.ItemFacets;
+import com.cube.simple.dto.PriceBucket;
+import com.cube.simple.model.Item;
+
+import lombok.extern.slf4j.Slf4j;
+
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+class ItemFacetServiceUnitTests {
+
+    // DB 에 없는 카테고리 (재구성하면 사라짐)
+    private static final String CATEGORY = "facet-test";
+
+    @Autowired
+    private ItemFacetService itemFacetService;
+
+    @Autowired
+    private EntityVersionService entityVersionService;
+
+    @AfterEach
+    void tearDown() {
+        itemFacetService.rebuild();
+    }
+
+    @Test
+    @DisplayName("가격 구간은 from 이상 to 미만, 첫 경계 미만/null 은 첫 구간, 마지막 경계 이상은 마지막 구간")
+    void bucketBoundaries() {
+        // 구간: [0,10000) [10000,50000) [50000,100000) [100000,500000) [500000,∞)
+        itemFacetService.apply(List.of(), List.of(
+                item(0L), item(9999L), item(10000L), item(49999L), item(50000L),
+                item(99999L), item(100000L), item(500000L), item(1000000L), item(null), item(-1L)));
+
+        List<PriceBucket> prices = itemFacetService.facets(CATEGORY, null).getPrices();
+        log.info("price buckets : {}", prices);
+        assertEquals(5, prices.size());
+        assertEquals(0L, prices.get(0).getFrom());
+        assertEquals(10000L, prices.get(0).getTo());
+        assertNull(prices.get(4).getTo());
+        assertEquals(List.of(4L, 2L, 2L, 1L, 2L), prices.stream().map(PriceBucket::getCount).toList());
+    }
+
+    @Test
+    @DisplayName("apply 는 이전 상태를 빼고 이후 상태를 더함 (등록/수정/삭제)")
+    void applies() {
+        itemFacetService.apply(List.of(), List.of(item(5000L), item(20000L)));
+        assertEquals(2L, itemFacetService.facets(null, null).getCategories().get(CATEGORY));
+
+        // 가격 변경: 첫 구간 → 마지막 구간
+        itemFacetService.apply(List.of(item(5000L)), List.of(item(600000L)));
+        ItemFacets facets = itemFacetService.facets(CATEGORY, null);
+        assertEquals(2L, facets.getCategories().get(CATEGORY));
+        assertEquals(0L, facets.getPrices().get(0).getCount());
+        assertEquals(1L, facets.getPrices().get(4).getCount());
+
+        itemFacetService.apply(List.of(item(20000L), item(600000L)), List.of());
+        assertFalse(itemFacetService.facets(null, null).getCategories().containsKey(CATEGORY));
+    }
+
+    @Test
+    @DisplayName("다른 노드의 변경이 감지되면 현재 집계로 바로 응답하고 백그라운드에서 재구성")
+    void rebuildsInBackground() throws Exception {
+        itemFacetService.apply(List.of(), List.of(item(5000L)));
+        // 이 노드가 반영하지 않은 쓰기 (다른 노드)
+        entityVersionService.bump(EntityVersionService.ITEM);
+        entityVersionService.bump(EntityVersionService.ITEM);
+
+        assertEquals(1L, itemFacetService.facets(null, null).getCategories().get(CATEGORY));
+
+        long deadline = System.currentTimeMillis() + 5000L;
+        while (itemFacetService.facets(null, null).getCategories().containsKey(CATEGORY)
+                && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        assertFalse(itemFacetService.facets(null, null).getCategories().containsKey(CATEGORY));
+        assertTrue(itemFacetService.facets(null, null).getCategories().containsKey("A"));
+    }
+
+    private static Item item(Long price) {
+        return Item.builder().category(CATEGORY).price(price).build();
+    }
+}
@@ -0,0 +1,133 @@
+package com.cube.simple.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cube.simple.mapper.read.ReadItemMapper;
+import com.cube.simple.model.Item;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * 검색 색인(ItemToken) 결과/성능 검증
+ *
+ * - 색인 검색은 토큰으로 후보를 줄인 뒤 LIKE 로 확인하므로 결과는 LIKE 만 쓴 검색과 같아야 한다. (정렬은 점수순이라 id 집합으로 비교)
+ * - 대량 비교는 -Dtest=ItemSearchServiceIntegrationTests -Ditem.search.benchmark.rows=1000000 으로 따로 실행
+ *   (행을 추가하고 끝나면 Item/ItemToken 에서 지우지만 카운터/패싯은 되돌리지 않음)
+ */
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+class ItemSearchServiceIntegrationTests {
+
+    private static final List<String> SEARCHES = List.of("item here", "here item", "Three", "01 Three", "Awesome", "없는 검색어");
+    private static final String[] WORDS = { "coffee", "tea", "shop", "seoul", "busan", "맛있는", "커피", "전문점", "bakery", "fresh" };
+    private static final int RUNS = 20;
+
+    @Autowired
+    private ItemSearchService itemSearchService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ReadItemMapper readItemMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    @DisplayName("색인 검색 결과는 LIKE 부분 문자열 검색과 같음 (토큰은 모두 있지만 이어지지 않은 행 제외)")
+    void matchesLikeSearch() {
+        for (String search : SEARCHES) {
+            List<String> tokens = itemSearchService.tokens(search);
+            assertFalse(tokens.isEmpty(), search);
+            assertEquals(ids(search, List.of()), ids(search, tokens), search);
+        }
+        assertTrue(ids("here item", itemSearchService.tokens("here item")).isEmpty());
+        assertEquals(readItemMapper.selectCount(null, "item here", List.of(), null, null),
+                readItemMapper.selectCount(null, "item here", itemSearchService.tokens("item here"), null, null));
+    }
+
+    @Test
+    @DisplayName("재색인은 다시 실행해도 같은 결과 (묶음 단위 트랜잭션)")
+    void rebuildIsIdempotent() {
+        itemSearchService.rebuild();
+        Long first = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ItemToken", Long.class);
+        itemSearchService.rebuild();
+        assertEquals(first, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ItemToken", Long.class));
+        assertTrue(itemSearchService.isIndexed());
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "item.search.benchmark.rows", matches = "\\d+")
+    @DisplayName("대량 데이터에서 LIKE 검색과 색인 검색 소요 시간 비교")
+    void benchmark() {
+        int rows = Integer.parseInt(System.getProperty("item.search.benchmark.rows"));
+        Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM Item", Long.class);
+        Random random = new Random(42);
+        try {
+            long started = System.currentTimeMillis();
+            List<Item> batch = new ArrayList<>();
+            for (int i = 0; i < rows; i++) {
+                batch.add(Item.builder()
+                        .name(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)] + " " + i)
+                        .description(WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)])
+                        .category("bench-" + random.nextInt(20))
+                        .image("bench")
+                        .price((long) random.nextInt(1000000))
+                        .build());
+                if (batch.size() == 5000 || i == rows - 1) {
+                    itemService.insertAll(batch);
+                    batch = new ArrayList<>();
+                }
+            }
+            log.info("Benchmark seeded : {} rows, {}ms", rows, System.currentTimeMillis() - started);
+
+            for (String search : List.of("coffee shop", "맛있는 커피", "seoul bakery 7")) {
+                List<String> tokens = itemSearchService.tokens(search);
+                long like = time(search, List.of());
+                long indexed = time(search, tokens);
+                log.info("Benchmark search '{}' : like {}ms, index {}ms (median of {}), count {}", search, like, indexed, RUNS,
+                        readItemMapper.selectCount(null, search, tokens, null, null));
+                assertEquals(ids(search, List.of()), ids(search, tokens), search);
+            }
+        } finally {
+            jdbcTemplate.update("DELETE FROM ItemToken WHERE item_id > ?", maxId);
+            jdbcTemplate.update("DELETE FROM Item WHERE id > ?", maxId);
+        }
+    }
+
+    // 첫 페이지 20건 조회 소요 시간 중앙값
+    private long time(String search, List<String> tokens) {
+        long[] elapsed = new long[RUNS];
+        for (int i = 0; i < RUNS; i++) {
+            long started = System.nanoTime();
+            readItemMapper.selectAll(1, 20, null, search, tokens, null, null, null, null, false);
+            elapsed[i] = (System.nanoTime() - started) / 1_000_000;
+        }
+        Arrays.sort(elapsed);
+        return elapsed[RUNS / 2];
+    }
+
+    private List<Long> ids(String search, List<String> tokens) {
+        return readItemMapper.selectAll(1, 10000, null, search, tokens, null, null, null, null, false).stream()
+                .map(Item::getId)
+                .sorted()
+                .toList();
+    }
+}
@@ -0,0 +1,220 @@
+package com.cube.simple.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Queue;
+import java.util.Set;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.cube.simple.enums.CacheWriteModeCode;
+import com.cube.simple.mapper.read.ReadItemMapper;
+import com.cube.simple.model.Item;
+
+import lombok.extern.slf4j.Slf4j;
+
+@ActiveProfiles("local")
+@Slf4j
+// 주기 flush 가 테스트 중간에 끼어들지 않도록 간격을 늘림
+@SpringBootTest(properties = "item.write-behind.flush-interval-ms=3600000")
+class ItemWriteBehindServiceUnitTests {
+
+    @Autowired
+    private CachedItemService cachedItemService;
+
+    @Autowired
+    private ItemWriteBehindService itemWriteBehindService;
+
+    @Autowired
+    private ItemService itemService;
+
+    @Autowired
+    private ReadItemMapper readItemMapper;
+
+    @Autowired
+    private CacheManager cacheManager;
+
+    private Item original;
+    private Item other;
+    private RecordingItemService recording;
+
+    @BeforeEach
+    void setUp() {
+        original = readItemMapper.selectById(2L);
+        other = readItemMapper.selectById(3L);
+        recording = new RecordingItemService(itemService);
+        ReflectionTestUtils.setField(itemWriteBehindService, "itemService", recording);
+    }
+
+    @AfterEach
+    void tearDown() {
+        ReflectionTestUtils.setField(itemWriteBehindService, "itemService", itemService);
+        mode(CacheWriteModeCode.EVICT);
+        queue().clear();
+        dead().clear();
+        ReflectionTestUtils.setField(itemWriteBehindService, "attempts", 0);
+        itemService.update(original);
+        itemService.update(other);
+        cacheManager.getCache("item").evict(2L);
+        cacheManager.getCache("item").evict(3L);
+    }
+
+    @Test
+    @DisplayName("evict 는 커밋 후 캐시 삭제, through 는 저장된 행으로 갱신")
+    void evictAndThrough() {
+        Cache cache = cacheManager.getCache("item");
+
+        mode(CacheWriteModeCode.EVICT);
+        cachedItemService.selectById(2L);
+        cachedItemService.update(Item.builder().id(2L).name("evicted").build());
+        assertNull(cache.get(2L));
+        assertEquals("evicted", readItemMapper.selectById(2L).getName());
+
+        mode(CacheWriteModeCode.THROUGH);
+        cachedItemService.update(Item.builder().id(2L).name("through").build());
+        Item cached = cache.get(2L, Item.class);
+        assertEquals("through", cached.getName());
+        assertEquals(original.getPrice(), cached.getPrice(), "부분 수정이어도 저장된 행 전체를 캐시");
+        assertTrue(queue().isEmpty());
+    }
+
+    @Test
+    @DisplayName("behind 는 캐시 먼저 갱신, DB 는 flush 에서 반영 - 다른 모드에서는 flush 하지 않음")
+    void behind() {
+        mode(CacheWriteModeCode.BEHIND);
+        cachedItemService.update(Item.builder().id(2L).name("behind").build());
+
+        assertEquals("behind", cachedItemService.selectById(2L).getName());
+        assertEquals(original.getName(), readItemMapper.selectById(2L).getName());
+        assertEquals(1, queue().size());
+
+        ReflectionTestUtils.setField(itemWriteBehindService, "writeMode", CacheWriteModeCode.EVICT);
+        itemWriteBehindService.flush();
+        assertTrue(recording.batches.isEmpty());
+
+        ReflectionTestUtils.setField(itemWriteBehindService, "writeMode", CacheWriteModeCode.BEHIND);
+        itemWriteBehindService.flush();
+        assertEquals("behind", readItemMapper.selectById(2L).getName());
+        assertTrue(queue().isEmpty());
+    }
+
+    @Test
+    @DisplayName("같은 id 의 변경은 1건으로 합쳐 반영하고 변경 전/후 카테고리를 모음")
+    void coalesces() {
+        mode(CacheWriteModeCode.BEHIND);
+        itemWriteBehindService.enqueue(Item.builder().id(2L).name("first").build());
+        itemWriteBehindService.enqueue(Item.builder().id(2L).price(1234L).build());
+        itemWriteBehindService.enqueue(Item.builder().id(2L).name("second").category("Z").build());
+
+        itemWriteBehindService.flush();
+
+        assertEquals(1, recording.batches.size());
+        List<Item> batch = recording.batches.get(0);
+        assertEquals(1, batch.size());
+        assertEquals("second", batch.get(0).getName());
+        assertEquals(1234L, batch.get(0).getPrice());
+        assertEquals(Set.of(original.getCategory(), "Z"), Set.copyOf(recording.categories));
+
+        Item saved = readItemMapper.selectById(2L);
+        assertEquals("second", saved.getName());
+        assertEquals(1234L, saved.getPrice());
+        assertEquals("Z", saved.getCategory());
+    }
+
+    @Test
+    @DisplayName("DB 반영이 실패하면 큐에 남겨 두고 다음 flush 에서 다시 반영")
+    void retriesAfterFailure() {
+        mode(CacheWriteModeCode.BEHIND);
+        itemWriteBehindService.enqueue(Item.builder().id(2L).name("retried").build());
+
+        recording.failures = 1;
+        itemWriteBehindService.flush();
+        assertEquals(1, queue().size());
+        assertEquals(original.getName(), readItemMapper.selectById(2L).getName());
+
+        itemWriteBehindService.flush();
+        assertTrue(queue().isEmpty());
+        assertEquals("retried", readItemMapper.selectById(2L).getName());
+        assertEquals(2, recording.batches.size());
+    }
+
+    @Test
+    @DisplayName("묶음이 max-attempts 번 실패하면 1건씩 반영하고 DB 가 거부한 변경만 dead-letter 로 옮김")
+    void movesRejectedChangesToDeadLetters() {
+        mode(CacheWriteModeCode.BEHIND);
+        itemWriteBehindService.enqueue(Item.builder().id(2L).name("rejected").build());
+        itemWriteBehindService.enqueue(Item.builder().id(3L).name("applied").build());
+        recording.rejected = 2L;
+
+        itemWriteBehindService.flush();
+        itemWriteBehindService.flush();
+        assertEquals(2, queue().size());
+        assertTrue(dead().isEmpty());
+
+        itemWriteBehindService.flush();
+        assertTrue(queue().isEmpty());
+        assertEquals(1, dead().size());
+        assertTrue(dead().peek().contains("rejected"));
+        assertEquals(original.getName(), readItemMapper.selectById(2L).getName());
+        assertEquals("applied", readItemMapper.selectById(3L).getName());
+    }
+
+    private void mode(CacheWriteModeCode mode) {
+        ReflectionTestUtils.setField(cachedItemService, "writeMode", mode);
+        ReflectionTestUtils.setField(itemWriteBehindService, "writeMode", mode);
+    }
+
+    @SuppressWarnings("unchecked")
+    private Queue<Item> queue() {
+        return (Queue<Item>) ReflectionTestUtils.getField(itemWriteBehindService, "local");
+    }
+
+    @SuppressWarnings("unchecked")
+    private Queue<String> dead() {
+        return (Queue<String>) ReflectionTestUtils.getField(itemWriteBehindService, "localDead");
+    }
+
+    // 반영된 묶음을 기록하고, failures 만큼은 DB 반영 전에 실패, rejected id 가 있는 묶음은 무결성 위반으로 실패
+    private static class RecordingItemService extends ItemService {
+
+        private final ItemService delegate;
+        private final List<List<Item>> batches = new ArrayList<>();
+        private final List<String> categories = new ArrayList<>();
+        private int failures;
+        private Long rejected;
+
+        RecordingItemService(ItemService delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public List<Long> updateAll(List<Item> items, Collection<String> categories) {
+            batches.add(List.copyOf(items));
+            if (failures > 0) {
+                failures--;
+                throw new IllegalStateException("db down");
+            }
+            if (items.stream().anyMatch(item -> item.getId().equals(rejected))) {
+                throw new DataIntegrityViolationException("rejected");
+            }
+            List<Long> ids = delegate.updateAll(items, categories);
+            this.categories.addAll(categories);
+            return ids;
+        }
+    }
+}
@@ -0,0 +1,201 @@
+package com.cube.simple.tool;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import com.cube.simple.tool.RequestLogParser.Event;
+import com.cube.simple.tool.RequestLogParser.Read;
+import com.cube.simple.tool.RequestLogParser.Write;
+
+/**
+ * 캐시 정책 시뮬레이터 - 요청 로그를 재생해 정책/용량/TTL/무효화 방식별 적중률, 메모리, DB 부하를 비교 (오프라인 도구)
+ *
+ * 실행 (Spring 없이 JDK 만 사용, 배포 jar 에 포함되지 않도록 테스트 소스에 둠)
+ *   mvn -q test-compile
+ *   java -cp target/test-classes com.cube.simple.tool.CacheSimulator log/simple-*.log \
+ *        --policy=lru,lfu,wtinylfu --capacity=1000,10000,0 --ttl=60s,10m --eviction=tag,all
+ *
+ * - capacity: 캐시 전체 최대 항목 수 (0 = 무제한), ttl: 적재 후 만료 (0 = 없음)
+ * - eviction: tag = 변경된 카테고리 + "all" 태그 키만 무효화 (ItemCacheKeys), all = 쓰기마다 목록/건수 전체 무효화
+ * - 결과 항목
+ *   hit%        : 캐시 적중률 (키 조회 기준, ?ids= 다건 조회는 id 마다 1회)
+ *   db          : 미스 = DB 조회 수, db/s peak: 1초 구간 최대 DB 조회 수
+ *   dbTime      : 미스 요청의 로그 응답 시간 합계 (미스 1회 비용을 해당 요청의 실측 시간으로 근사)
+ *   avgMB/peakMB: 캐시에 들어 있는 값 크기 합계 (응답 JSON 본문 길이 + 키 길이, 4KB 에서 잘린 본문은 4KB 로 계산)
+ * - 실제 캐시와의 차이: 노드별 L1, 조기 갱신(XFetch), 단일 비행(single-flight), Bloom filter 는 반영하지 않음
+ */
+public class CacheSimulator {
+
+    private static final String ITEM = "item:";
+    private static final String ITEMS = "items:";
+    private static final String ITEM_COUNT = "itemCount:";
+
+    public enum Eviction { TAG, ALL }
+
+    /**
+     * 한 조합의 시뮬레이션 결과
+     */
+    public record Result(SimulatedCache.Policy policy, long capacity, Duration ttl, Eviction eviction,
+            long reads, long hits, long misses, long peakMissesPerSecond, long missMillis,
+            double averageBytes, long peakBytes, long evictions, long expirations) {
+
+        public double hitRatio() {
+            return reads == 0 ? 0 : (double) hits / reads;
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        List<Path> files = new ArrayList<>();
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            if (arg.startsWith("--") && arg.contains("=")) {
+                options.put(arg.substring(2, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else {
+                files.add(Path.of(arg));
+            }
+        }
+        if (files.isEmpty()) {
+            System.err.println("usage: CacheSimulator <log files...> [--policy=lru,lfu,wtinylfu] "
+                    + "[--capacity=1000,10000,0] [--ttl=60s,10m] [--eviction=tag,all]");
+            System.exit(1);
+        }
+
+        RequestLogParser parser = new RequestLogParser();
+        for (Path file : files) {
+            parser.parse(file);
+        }
+        List<Event> events = parser.getEvents();
+        events.sort((a, b) -> Long.compare(a.time(), b.time()));
+        System.out.printf("lines %d, requests %d, events %d, truncated bodies %d%n",
+                parser.getLines(), parser.getRequests(), events.size(), parser.getTruncated());
+
+        List<Result> results = new ArrayList<>();
+        for (String policy : list(options.getOrDefault("policy", "lru,lfu,wtinylfu"))) {
+            for (String capacity : list(options.getOrDefault("capacity", "1000,10000,0"))) {
+                for (String ttl : list(options.getOrDefault("ttl", "60s,10m"))) {
+                    for (String eviction : list(options.getOrDefault("eviction", "tag,all"))) {
+                        results.add(simulate(events, SimulatedCache.Policy.valueOf(policy.toUpperCase(Locale.ROOT)),
+                                Long.parseLong(capacity), duration(ttl), Eviction.valueOf(eviction.toUpperCase(Locale.ROOT))));
+                    }
+                }
+            }
+        }
+        print(results, System.out);
+    }
+
+    /**
+     * 이벤트를 시간순으로 재생
+     */
+    public static Result simulate(List<Event> events, SimulatedCache.Policy policy, long capacity, Duration ttl,
+            Eviction eviction) {
+        SimulatedCache cache = SimulatedCache.create(policy, capacity, ttl.toMillis());
+        // 목록/건수 키 → 카테고리 태그 ("" = category 조건 없음)
+        Map<String, String> tags = new HashMap<>();
+
+        long reads = 0;
+        long hits = 0;
+        long misses = 0;
+        long missMillis = 0;
+        long second = Long.MIN_VALUE;
+        long missesInSecond = 0;
+        long peakMissesPerSecond = 0;
+        double byteMillis = 0;
+        long peakBytes = 0;
+        long first = events.isEmpty() ? 0 : events.get(0).time();
+        long last = first;
+
+        for (Event event : events) {
+            byteMillis += (double) cache.bytes() * (event.time() - last);
+            last = event.time();
+
+            if (event instanceof Read read) {
+                reads++;
+                if (cache.get(read.key(), read.time())) {
+                    hits++;
+                    continue;
+                }
+                misses++;
+                missMillis += read.durationMs();
+                if (read.time() / 1000 != second) {
+                    second = read.time() / 1000;
+                    missesInSecond = 0;
+                }
+                peakMissesPerSecond = Math.max(peakMissesPerSecond, ++missesInSecond);
+                cache.put(read.key(), read.bytes() + read.key().length(), read.time());
+                if (read.tag() != null) {
+                    tags.put(read.key(), read.tag());
+                }
+                peakBytes = Math.max(peakBytes, cache.bytes());
+            } else if (event instanceof Write write) {
+                if (write.itemId() != null) {
+                    cache.remove(ITEM + write.itemId());
+                }
+                Set<String> categories = write.categories();
+                if (eviction == Eviction.ALL || categories == null) {
+                    cache.removeIf(key -> key.startsWith(ITEMS) || key.startsWith(ITEM_COUNT));
+                } else {
+                    cache.removeIf(key -> {
+                        String tag = tags.get(key);
+                        return tag != null && (tag.isEmpty() || categories.contains(tag));
+                    });
+                }
+            }
+        }
+        long span = last - first;
+        double averageBytes = span > 0 ? byteMillis / span : cache.bytes();
+        return new Result(policy, capacity, ttl, eviction, reads, hits, misses, peakMissesPerSecond, missMillis,
+                averageBytes, peakBytes, cache.evictions(), cache.expirations());
+    }
+
+    public static void print(List<Result> results, PrintStream out) {
+        out.printf("%-9s %9s %8s %5s %9s %7s %9s %8s %10s %8s %8s %9s %9s%n",
+                "policy", "capacity", "ttl", "evict", "reads", "hit%", "db", "db/s", "dbTime(s)",
+                "avgMB", "peakMB", "evictions", "expired");
+        for (Result r : results) {
+            out.printf("%-9s %9s %8s %5s %9d %7.2f %9d %8d %10.1f %8.2f %8.2f %9d %9d%n",
+                    r.policy().name().toLowerCase(Locale.ROOT),
+                    r.capacity() == 0 ? "unbounded" : String.valueOf(r.capacity()),
+                    r.ttl().isZero() ? "none" : r.ttl().toString().substring(2).toLowerCase(Locale.ROOT),
+                    r.eviction().name().toLowerCase(Locale.ROOT),
+                    r.reads(), r.hitRatio() * 100, r.misses(), r.peakMissesPerSecond(), r.missMillis() / 1000.0,
+                    r.averageBytes() / (1024 * 1024), r.peakBytes() / (1024.0 * 1024), r.evictions(), r.expirations());
+        }
+    }
+
+    private static List<String> list(String value) {
+        List<String> values = new ArrayList<>();
+        for (String part : value.split(",")) {
+            if (!part.isBlank()) {
+                values.add(part.trim());
+            }
+        }
+        return values;
+    }
+
+    // 60s, 10m, 1h, 500ms, 0
+    static Duration duration(String value) {
+        String text = value.trim().toLowerCase(Locale.ROOT);
+        if (text.equals("0") || text.equals("none")) {
+            return Duration.ZERO;
+        }
+        if (text.endsWith("ms")) {
+            return Duration.ofMillis(Long.parseLong(text.substring(0, text.length() - 2)));
+        }
+        long amount = Long.parseLong(text.substring(0, text.length() - 1));
+        return switch (text.charAt(text.length() - 1)) {
+            case 's' -> Duration.ofSeconds(amount);
+            case 'm' -> Duration.ofMinutes(amount);
+            case 'h' -> Duration.ofHours(amount);
+            case 'd' -> Duration.ofDays(amount);
+            default -> throw new IllegalArgumentException("unknown duration : " + value);
+        };
+    }
+}
@@ -0,0 +1,120 @@
+package com.cube.simple.tool;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cube.simple.tool.CacheSimulator.Eviction;
+import com.cube.simple.tool.RequestLogParser.Event;
+import com.cube.simple.tool.RequestLogParser.Read;
+import com.cube.simple.tool.RequestLogParser.Write;
+
+import lombok.extern.slf4j.Slf4j;
+
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+class CacheSimulatorUnitTests {
+
+    private static final String PREFIX = " [http-nio-8080-exec-1] INFO  c.c.s.filter.CachingRequestResponseFilter - ";
+
+    @Test
+    @DisplayName("요청 로그를 CachedItemService 캐시 키로 변환")
+    void parsesKeys() {
+        RequestLogParser parser = parse(
+                get("12:00:00.000", "/api/cached/items", "page=0&size=10&category=A", "[]"),
+                get("12:00:01.000", "/api/cached/items/count", "search=%ED%95%9C", "{\"data\":3}"),
+                get("12:00:02.000", "/api/cached/items/7", "", "{\"data\":{\"id\":7,\"category\":\"B\"}}"),
+                put("12:00:03.000", "/api/cached/items/7", "{\"data\":{\"category\":\"C\"}}"));
+
+        List<Event> events = parser.getEvents();
+        assertEquals(4, events.size());
+        assertEquals("items:1-10-A-", ((Read) events.get(0)).key());
+        assertEquals("A", ((Read) events.get(0)).tag());
+        assertEquals("itemCount:-한-false", ((Read) events.get(1)).key());
+        assertEquals("item:7", ((Read) events.get(2)).key());
+        Write write = assertInstanceOf(Write.class, events.get(3));
+        assertEquals(7L, write.itemId());
+        assertEquals(Set.of("B", "C"), write.categories());
+    }
+
+    @Test
+    @DisplayName("태그 무효화는 다른 카테고리 목록을 남기고, 전체 무효화는 모두 지움")
+    void tagVersusAllEviction() {
+        RequestLogParser parser = parse(
+                get("12:00:00.000", "/api/cached/items", "category=A", "[]"),
+                get("12:00:00.100", "/api/cached/items", "category=B", "[]"),
+                post("12:00:01.000", "/api/cached/items", "{\"data\":{\"category\":\"A\"}}"),
+                get("12:00:02.000", "/api/cached/items", "category=A", "[]"),
+                get("12:00:02.100", "/api/cached/items", "category=B", "[]"));
+
+        CacheSimulator.Result tag = CacheSimulator.simulate(parser.getEvents(), SimulatedCache.Policy.LRU, 0,
+                Duration.ZERO, Eviction.TAG);
+        CacheSimulator.Result all = CacheSimulator.simulate(parser.getEvents(), SimulatedCache.Policy.LRU, 0,
+                Duration.ZERO, Eviction.ALL);
+        CacheSimulator.print(List.of(tag, all), System.out);
+
+        assertEquals(1, tag.hits());
+        assertEquals(0, all.hits());
+    }
+
+    @Test
+    @DisplayName("TTL 이 지나면 미스, 용량을 넘으면 LRU 로 제거")
+    void ttlAndCapacity() {
+        RequestLogParser parser = parse(
+                get("12:00:00.000", "/api/cached/items/1", "", "{}"),
+                get("12:00:00.500", "/api/cached/items/2", "", "{}"),
+                get("12:00:00.600", "/api/cached/items/2", "", "{}"),
+                get("12:00:02.000", "/api/cached/items/1", "", "{}"));
+
+        CacheSimulator.Result bounded = CacheSimulator.simulate(parser.getEvents(), SimulatedCache.Policy.LRU, 1,
+                Duration.ZERO, Eviction.TAG);
+        assertEquals(1, bounded.hits());
+        assertEquals(2, bounded.evictions());
+
+        CacheSimulator.Result expiring = CacheSimulator.simulate(parser.getEvents(), SimulatedCache.Policy.WTINYLFU, 0,
+                Duration.ofSeconds(1), Eviction.TAG);
+        assertEquals(1, expiring.hits());
+        assertEquals(1, expiring.expirations());
+    }
+
+    private static RequestLogParser parse(String... lines) {
+        RequestLogParser parser = new RequestLogParser();
+        for (String line : lines) {
+            for (String part : line.split("\n")) {
+                parser.parse(part);
+            }
+        }
+        return parser;
+    }
+
+    private static String get(String time, String uri, String query, String response) {
+        return request(time, "GET", uri, query, "") + "\n" + response(time, "GET", uri, response);
+    }
+
+    private static String post(String time, String uri, String body) {
+        return request(time, "POST", uri, "", body) + "\n" + response(time, "POST", uri, "{}");
+    }
+
+    private static String put(String time, String uri, String body) {
+        return request(time, "PUT", uri, "", body) + "\n" + response(time, "PUT", uri, "{}");
+    }
+
+    private static String request(String time, String method, String uri, String query, String body) {
+        return "2025-01-01 " + time + PREFIX + "[REQUEST] method=" + method + " uri=" + uri + " query=" + query
+                + " clientIp=127.0.0.1 contentType=application/json headers={host=localhost} body=" + body;
+    }
+
+    private static String response(String time, String method, String uri, String body) {
+        return "2025-01-01 " + time + PREFIX + "[RESPONSE] method=" + method + " uri=" + uri
+                + " durationMs=5 status=200 contentType=application/json body=" + body;
+    }
+}
@@ -0,0 +1,245 @@
+package com.cube.simple.tool;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * CachingRequestResponseFilter 의 [REQUEST]/[RESPONSE] 로그를 CachedItemService 캐시 접근/무효화 이벤트로 변환
+ *
+ * - 같은 스레드의 [REQUEST] 다음 [RESPONSE] 를 한 요청으로 묶음 (필터가 finally 에서 연속으로 기록)
+ * - 2xx 응답만 사용, 이벤트 시각은 로그 시각(요청 종료 시점)
+ * - 읽기 (CachedItemService 와 같은 키 규칙)
+ *   GET /api/cached/items          → "items:page-size-category-search" (태그 = category, 없으면 "")
+ *   GET /api/cached/items/count    → "itemCount:category-search-approximate"
+ *   GET /api/cached/items/{id}     → "item:id"
+ *   GET /api/cached/items?ids=...  → id 마다 "item:id"
+ * - 쓰기: POST / PUT /{id} / DELETE /{id} → 변경 전/후 category 태그 무효화
+ *   변경 전 카테고리는 로그에서 마지막으로 본 단건 조회 응답의 category, 모르면 전체 무효화로 계산
+ * - 값 크기는 응답 본문 길이 (4KB 에서 잘린 본문은 4KB 로 계산 → truncated 로 집계)
+ */
+public class RequestLogParser {
+
+    private static final String BASE = "/api/cached/items";
+    private static final String TRUNCATED = "...(truncated)";
+
+    private static final Pattern LINE = Pattern.compile(
+            "^(\\d{4}-\\d{2}-\\d{2} \\d{2}:\\d{2}:\\d{2}\\.\\d{3}) \\[([^\\]]+)\\] .*?\\[(REQUEST|RESPONSE)\\] method=(\\S+) uri=(\\S+) (.*)$");
+    private static final Pattern REQUEST = Pattern.compile("^query=(\\S*) .*? body=(.*)$");
+    private static final Pattern RESPONSE = Pattern.compile("^durationMs=(\\d+) status=(\\d+) contentType=.*? body=(.*)$");
+    private static final Pattern CATEGORY = Pattern.compile("\"category\"\\s*:\\s*\"((?:[^\"\\\\]|\\\\.)*)\"");
+    private static final DateTimeFormatter TIME = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss.SSS");
+
+    /**
+     * 캐시 이벤트
+     */
+    public sealed interface Event permits Read, Write {
+        long time();
+    }
+
+    /**
+     * 캐시 조회 (미스이면 DB 조회 후 적재)
+     *
+     * @param tag 목록/건수 키의 카테고리 태그 ("" = category 조건 없음), 단건 키는 null
+     */
+    public record Read(long time, String key, String tag, long bytes, long durationMs) implements Event {}
+
+    /**
+     * 쓰기 (커밋 후 무효화)
+     *
+     * @param itemId     "item" 캐시에서 지울 id (등록은 null)
+     * @param categories 목록/건수 태그 무효화 대상 카테고리 (null = 알 수 없음 → 전체)
+     */
+    public record Write(long time, Long itemId, Set<String> categories) implements Event {}
+
+    private record Pending(String method, String uri, String query, String body) {}
+
+    private final Map<String, Pending> pending = new HashMap<>();
+    // id → 마지막으로 본 카테고리 (수정/삭제의 변경 전 카테고리 추정용)
+    private final Map<Long, String> categories = new HashMap<>();
+    private final List<Event> events = new ArrayList<>();
+    private long lines;
+    private long requests;
+    private long truncated;
+
+    public void parse(Path file) throws IOException {
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                parse(line);
+            }
+        }
+    }
+
+    public void parse(String line) {
+        lines++;
+        Matcher matcher = LINE.matcher(line);
+        if (!matcher.matches()) {
+            return;
+        }
+        String thread = matcher.group(2);
+        String method = matcher.group(4);
+        String uri = matcher.group(5);
+        String rest = matcher.group(6);
+
+        if ("REQUEST".equals(matcher.group(3))) {
+            Matcher request = REQUEST.matcher(rest);
+            if (request.matches() && uri.startsWith(BASE)) {
+                pending.put(thread, new Pending(method, uri, request.group(1), request.group(2)));
+            }
+            return;
+        }
+
+        Pending request = pending.remove(thread);
+        Matcher response = RESPONSE.matcher(rest);
+        if (request == null || !request.uri().equals(uri) || !response.matches()) {
+            return;
+        }
+        int status = Integer.parseInt(response.group(2));
+        if (status < 200 || status >= 300) {
+            return;
+        }
+        requests++;
+        long time = LocalDateTime.parse(matcher.group(1), TIME).atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        String body = response.group(3);
+        if (body.endsWith(TRUNCATED)) {
+            truncated++;
+        }
+        long bytes = Math.min(body.length(), 4 * 1024);
+        long durationMs = Long.parseLong(response.group(1));
+        events(time, request, body, bytes, durationMs);
+    }
+
+    public List<Event> getEvents() {
+        return events;
+    }
+
+    public long getLines() {
+        return lines;
+    }
+
+    public long getRequests() {
+        return requests;
+    }
+
+    public long getTruncated() {
+        return truncated;
+    }
+
+    private void events(long time, Pending request, String body, long bytes, long durationMs) {
+        String path = request.uri().substring(BASE.length());
+        Map<String, String> params = params(request.query());
+
+        switch (request.method()) {
+            case "GET" -> {
+                if (path.isEmpty() && params.containsKey("ids")) {
+                    String[] ids = params.get("ids").split(",");
+                    for (String id : ids) {
+                        if (!id.isBlank()) {
+                            events.add(new Read(time, "item:" + id.trim(), null, bytes / ids.length, durationMs));
+                        }
+                    }
+                } else if (path.isEmpty()) {
+                    int page = Math.max(1, integer(params.get("page"), 1));
+                    int size = integer(params.get("size"), 5);
+                    String category = text(params.get("category"));
+                    String search = text(params.get("search"));
+                    events.add(new Read(time, "items:" + page + "-" + size + "-" + category + "-" + search,
+                            category, bytes, durationMs));
+                } else if ("/count".equals(path)) {
+                    String category = text(params.get("category"));
+                    String search = text(params.get("search"));
+                    boolean approximate = Boolean.parseBoolean(params.get("approximate"));
+                    events.add(new Read(time, "itemCount:" + category + "-" + search + "-" + approximate,
+                            category, bytes, durationMs));
+                } else {
+                    Long id = id(path);
+                    String category = category(body);
+                    if (id != null && category != null) {
+                        categories.put(id, category);
+                    }
+                    events.add(new Read(time, "item:" + path.substring(1), null, bytes, durationMs));
+                }
+            }
+            case "POST" -> {
+                String category = category(request.body());
+                events.add(new Write(time, null, category == null ? null : Set.of(category)));
+            }
+            case "PUT", "DELETE" -> {
+                Long id = id(path);
+                String before = id == null ? null : categories.get(id);
+                String after = "PUT".equals(request.method()) ? category(request.body()) : null;
+                Set<String> tags = null;
+                if (before != null) {
+                    tags = new HashSet<>();
+                    tags.add(before);
+                    if (after != null) {
+                        tags.add(after);
+                        categories.put(id, after);
+                    }
+                }
+                if ("DELETE".equals(request.method()) && id != null) {
+                    categories.remove(id);
+                }
+                events.add(new Write(time, id, tags));
+            }
+            default -> {
+            }
+        }
+    }
+
+    private static Map<String, String> params(String query) {
+        Map<String, String> params = new HashMap<>();
+        if (query == null || query.isEmpty()) {
+            return params;
+        }
+        for (String pair : query.split("&")) {
+            int index = pair.indexOf('=');
+            String name = URLDecoder.decode(index < 0 ? pair : pair.substring(0, index), StandardCharsets.UTF_8);
+            String value = index < 0 ? "" : URLDecoder.decode(pair.substring(index + 1), StandardCharsets.UTF_8);
+            // 같은 이름이 여러 번 오면 (ids=1&ids=2) 쉼표로 이어 붙임
+            params.merge(name, value, (a, b) -> a + "," + b);
+        }
+        return params;
+    }
+
+    private static String category(String body) {
+        Matcher matcher = CATEGORY.matcher(body);
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static Long id(String path) {
+        try {
+            return path.length() > 1 ? Long.valueOf(path.substring(1)) : null;
+        } catch (NumberFormatException ex) {
+            return null;
+        }
+    }
+
+    private static int integer(String value, int defaultValue) {
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value);
+        } catch (NumberFormatException ex) {
+            return defaultValue;
+        }
+    }
+
+    // CachedItemService 와 같이 빈 문자열은 조건 없음("")으로 취급
+    private static String text(String value) {
+        return value == null || value.isBlank() ? "" : value;
+    }
+}
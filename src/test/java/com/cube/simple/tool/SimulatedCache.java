@@ -0,0 +1,341 @@
+package com.cube.simple.tool;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.function.Predicate;
+
+/**
+ * 정책 시뮬레이션용 캐시 (키와 크기만 보관, 단일 스레드)
+ *
+ * - capacity: 최대 항목 수 (0 = 무제한, Redis maxmemory 없이 TTL 만 쓰는 경우)
+ * - ttl     : 적재 후 만료 시간 (0 = 없음), 시각은 로그 시각 기준
+ * - 정책
+ *   LRU       : 가장 오래 사용하지 않은 항목 제거 (Redis allkeys-lru 근사)
+ *   LFU       : 조회 수가 가장 적은 항목 제거, 같으면 오래된 것 (Redis allkeys-lfu 근사, 감쇠 없음)
+ *   W-TinyLFU : window LRU(1%) + 주 영역 SLRU(probation 20% / protected 80%),
+ *               window 에서 밀려난 후보는 빈도 sketch 추정치가 주 영역 희생자보다 클 때만 들어감 (Caffeine 방식)
+ */
+public abstract class SimulatedCache {
+
+    public enum Policy { LRU, LFU, WTINYLFU }
+
+    protected static final class Node {
+        final String key;
+        final long bytes;
+        final long expiresAt;
+        long frequency;
+        long sequence;
+
+        Node(String key, long bytes, long expiresAt) {
+            this.key = key;
+            this.bytes = bytes;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    protected final long capacity;
+    private final long ttlMillis;
+    private final Map<String, Node> nodes = new HashMap<>();
+    private long bytes;
+    private long evictions;
+    private long expirations;
+
+    protected SimulatedCache(long capacity, long ttlMillis) {
+        this.capacity = capacity;
+        this.ttlMillis = ttlMillis;
+    }
+
+    public static SimulatedCache create(Policy policy, long capacity, long ttlMillis) {
+        return switch (policy) {
+            case LRU -> new Lru(capacity, ttlMillis);
+            case LFU -> new Lfu(capacity, ttlMillis);
+            case WTINYLFU -> new WindowTinyLfu(capacity, ttlMillis);
+        };
+    }
+
+    /**
+     * @return 적중 여부 (만료된 항목은 제거 후 미스)
+     */
+    public boolean get(String key, long now) {
+        record(key);
+        Node node = nodes.get(key);
+        if (node == null) {
+            return false;
+        }
+        if (node.expiresAt > 0 && node.expiresAt <= now) {
+            remove(key);
+            expirations++;
+            return false;
+        }
+        onHit(node);
+        return true;
+    }
+
+    public void put(String key, long size, long now) {
+        remove(key);
+        Node node = new Node(key, size, ttlMillis > 0 ? now + ttlMillis : 0L);
+        nodes.put(key, node);
+        bytes += size;
+        onInsert(node);
+        while (capacity > 0 && nodes.size() > capacity) {
+            Node victim = victim();
+            if (victim == null) {
+                break;
+            }
+            remove(victim.key);
+            evictions++;
+        }
+    }
+
+    public void remove(String key) {
+        Node node = nodes.remove(key);
+        if (node != null) {
+            bytes -= node.bytes;
+            onRemove(node);
+        }
+    }
+
+    public void removeIf(Predicate<String> filter) {
+        for (String key : new ArrayList<>(nodes.keySet())) {
+            if (filter.test(key)) {
+                remove(key);
+            }
+        }
+    }
+
+    public long size() {
+        return nodes.size();
+    }
+
+    public long bytes() {
+        return bytes;
+    }
+
+    public long evictions() {
+        return evictions;
+    }
+
+    public long expirations() {
+        return expirations;
+    }
+
+    // 조회 빈도 기록 (적중/미스 모두)
+    protected void record(String key) {
+    }
+
+    protected abstract void onHit(Node node);
+
+    protected abstract void onInsert(Node node);
+
+    protected abstract void onRemove(Node node);
+
+    // 용량 초과 시 제거할 항목 (없으면 null)
+    protected abstract Node victim();
+
+    private static <V> V eldest(LinkedHashMap<String, V> map) {
+        Iterator<V> iterator = map.values().iterator();
+        return iterator.hasNext() ? iterator.next() : null;
+    }
+
+    private static final class Lru extends SimulatedCache {
+
+        private final LinkedHashMap<String, Node> order = new LinkedHashMap<>(16, 0.75f, true);
+
+        Lru(long capacity, long ttlMillis) {
+            super(capacity, ttlMillis);
+        }
+
+        @Override
+        protected void onHit(Node node) {
+            order.get(node.key);
+        }
+
+        @Override
+        protected void onInsert(Node node) {
+            order.put(node.key, node);
+        }
+
+        @Override
+        protected void onRemove(Node node) {
+            order.remove(node.key);
+        }
+
+        @Override
+        protected Node victim() {
+            return eldest(order);
+        }
+    }
+
+    private static final class Lfu extends SimulatedCache {
+
+        private final TreeSet<Node> order = new TreeSet<>(Comparator
+                .comparingLong((Node node) -> node.frequency)
+                .thenComparingLong(node -> node.sequence));
+        private long sequence;
+
+        Lfu(long capacity, long ttlMillis) {
+            super(capacity, ttlMillis);
+        }
+
+        @Override
+        protected void onHit(Node node) {
+            order.remove(node);
+            node.frequency++;
+            node.sequence = ++sequence;
+            order.add(node);
+        }
+
+        @Override
+        protected void onInsert(Node node) {
+            node.frequency = 1;
+            node.sequence = ++sequence;
+            order.add(node);
+        }
+
+        @Override
+        protected void onRemove(Node node) {
+            order.remove(node);
+        }
+
+        @Override
+        protected Node victim() {
+            return order.isEmpty() ? null : order.first();
+        }
+    }
+
+    private static final class WindowTinyLfu extends SimulatedCache {
+
+        private final LinkedHashMap<String, Node> window = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<String, Node> probation = new LinkedHashMap<>(16, 0.75f, true);
+        private final LinkedHashMap<String, Node> protectedSegment = new LinkedHashMap<>(16, 0.75f, true);
+        private final long windowCapacity;
+        private final long mainCapacity;
+        private final long protectedCapacity;
+        private final FrequencySketch sketch;
+        private Node candidate;
+
+        WindowTinyLfu(long capacity, long ttlMillis) {
+            super(capacity, ttlMillis);
+            this.windowCapacity = capacity > 0 ? Math.max(1, capacity / 100) : Long.MAX_VALUE;
+            this.mainCapacity = capacity > 0 ? Math.max(0, capacity - windowCapacity) : Long.MAX_VALUE;
+            this.protectedCapacity = capacity > 0 ? mainCapacity * 8 / 10 : Long.MAX_VALUE;
+            this.sketch = new FrequencySketch(capacity > 0 ? capacity : 1 << 16);
+        }
+
+        @Override
+        protected void record(String key) {
+            sketch.increment(key);
+        }
+
+        @Override
+        protected void onHit(Node node) {
+            if (window.containsKey(node.key)) {
+                window.get(node.key);
+            } else if (probation.remove(node.key) != null) {
+                protectedSegment.put(node.key, node);
+                if (protectedSegment.size() > protectedCapacity) {
+                    Node demoted = eldest(protectedSegment);
+                    protectedSegment.remove(demoted.key);
+                    probation.put(demoted.key, demoted);
+                }
+            } else {
+                protectedSegment.get(node.key);
+            }
+        }
+
+        @Override
+        protected void onInsert(Node node) {
+            window.put(node.key, node);
+        }
+
+        @Override
+        protected void onRemove(Node node) {
+            if (window.remove(node.key) == null && probation.remove(node.key) == null) {
+                protectedSegment.remove(node.key);
+            }
+            if (candidate == node) {
+                candidate = null;
+            }
+        }
+
+        @Override
+        protected Node victim() {
+            if (window.size() > windowCapacity) {
+                candidate = eldest(window);
+                window.remove(candidate.key);
+                probation.put(candidate.key, candidate);
+            }
+            if (probation.size() + protectedSegment.size() > mainCapacity) {
+                Node victim = eldest(probation);
+                if (victim == null) {
+                    victim = eldest(protectedSegment);
+                }
+                if (candidate == null || victim == candidate) {
+                    return victim;
+                }
+                // 후보가 더 자주 조회되었으면 주 영역 희생자를 내보내고, 아니면 후보를 버림
+                return sketch.frequency(candidate.key) > sketch.frequency(victim.key) ? victim : candidate;
+            }
+            return eldest(window);
+        }
+    }
+
+    /**
+     * 4행 count-min sketch, 기록 수가 sampleSize(용량의 10배)에 이르면 모든 카운터를 절반으로 (최근 빈도 유지)
+     */
+    private static final class FrequencySketch {
+
+        private static final int DEPTH = 4;
+
+        private final int[] counters;
+        private final int mask;
+        private final long sampleSize;
+        private long additions;
+
+        FrequencySketch(long capacity) {
+            int width = Integer.highestOneBit((int) Math.min(1 << 24, Math.max(64, capacity * 2)));
+            this.counters = new int[DEPTH * width];
+            this.mask = width - 1;
+            this.sampleSize = 10 * capacity;
+        }
+
+        void increment(String key) {
+            int hash = spread(key.hashCode());
+            for (int d = 0; d < DEPTH; d++) {
+                counters[index(hash, d)]++;
+            }
+            if (++additions >= sampleSize) {
+                for (int i = 0; i < counters.length; i++) {
+                    counters[i] >>>= 1;
+                }
+                additions /= 2;
+            }
+        }
+
+        int frequency(String key) {
+            int hash = spread(key.hashCode());
+            int frequency = Integer.MAX_VALUE;
+            for (int d = 0; d < DEPTH; d++) {
+                frequency = Math.min(frequency, counters[index(hash, d)]);
+            }
+            return frequency;
+        }
+
+        private int index(int hash, int depth) {
+            int h = hash * (0x9E3779B9 + depth * 0x632BE5AB);
+            return depth * (mask + 1) + ((h >>> 8) & mask);
+        }
+
+        private static int spread(int hash) {
+            hash ^= hash >>> 17;
+            hash *= 0xED5AD4BB;
+            hash ^= hash >>> 11;
+            return hash;
+        }
+    }
+}
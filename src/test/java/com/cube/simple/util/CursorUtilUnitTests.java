@@ -0,0 +1,58 @@
+package com.cube.simple.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import lombok.extern.slf4j.Slf4j;
+
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+class CursorUtilUnitTests {
+
+    private final CursorUtil cursors = new CursorUtil();
+
+    @Test
+    @DisplayName("encode() → decode(): 원래 id 복원")
+    void roundTrip() {
+        String cursor = cursors.encode(12345L);
+        assertEquals(12345L, cursors.decode(cursor));
+    }
+
+    @Test
+    @DisplayName("encode(): URL-safe 토큰 (패딩/특수문자 없음)")
+    void encodeIsUrlSafe() {
+        String cursor = cursors.encode(Long.MAX_VALUE);
+        assertFalse(cursor.contains("="));
+        assertFalse(cursor.contains("+"));
+        assertFalse(cursor.contains("/"));
+    }
+
+    @Test
+    @DisplayName("decode(null/빈문자열): 첫 페이지 → null")
+    void decodeBlankReturnsNull() {
+        assertNull(cursors.decode(null));
+        assertNull(cursors.decode(""));
+        assertNull(cursors.decode("  "));
+    }
+
+    @Test
+    @DisplayName("decode(): 변조/형식 오류 커서는 IllegalArgumentException")
+    void decodeInvalidThrows() {
+        assertThrows(IllegalArgumentException.class, () -> cursors.decode("not-a-cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> cursors.decode("MTIz")); // "123" (버전 접두어 없음)
+    }
+
+    @Test
+    @DisplayName("encode(null): NullPointerException 발생")
+    void encodeNullThrows() {
+        assertThrows(NullPointerException.class, () -> cursors.encode(null));
+    }
+}
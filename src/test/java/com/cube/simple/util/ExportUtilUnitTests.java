@@ -0,0 +1,31 @@
+package com.cube.simple.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import lombok.extern.slf4j.Slf4j;
+
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+class ExportUtilUnitTests {
+
+    private final ExportUtil export = new ExportUtil();
+
+    @Test
+    @DisplayName("csv(): 일반 값은 그대로, null 은 빈 칸")
+    void csvPlain() {
+        assertEquals("1,One,,A\r\n", export.csv(1L, "One", null, "A"));
+    }
+
+    @Test
+    @DisplayName("csv(): 구분자/따옴표/개행 포함 값은 따옴표로 감싸고 내부 따옴표는 이스케이프")
+    void csvEscaped() {
+        assertEquals("\"a,b\",\"say \"\"hi\"\"\",\"line\nbreak\"\r\n",
+                export.csv("a,b", "say \"hi\"", "line\nbreak"));
+    }
+}
@@ -0,0 +1,63 @@
+package com.cube.simple.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import com.cube.simple.model.Item;
+
+import lombok.extern.slf4j.Slf4j;
+
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+class FieldsUtilUnitTests {
+
+    private static final List<String> ALLOWED = List.of("id", "price", "name", "category", "createDate");
+
+    private final FieldsUtil fieldsUtil = new FieldsUtil();
+
+    @Test
+    @DisplayName("parse(): id 항상 포함, 허용 목록 순서로 정렬")
+    void parse() {
+        assertEquals(List.of("id", "price", "name"), fieldsUtil.parse(" name , price,", ALLOWED));
+    }
+
+    @Test
+    @DisplayName("parse(null/빈문자열): 전체 필드 → null")
+    void parseBlankReturnsNull() {
+        assertNull(fieldsUtil.parse(null, ALLOWED));
+        assertNull(fieldsUtil.parse(" ", ALLOWED));
+    }
+
+    @Test
+    @DisplayName("parse(): 허용되지 않은 필드(SQL 포함)는 IllegalArgumentException")
+    void parseUnknownThrows() {
+        assertThrows(IllegalArgumentException.class, () -> fieldsUtil.parse("name,password", ALLOWED));
+        assertThrows(IllegalArgumentException.class, () -> fieldsUtil.parse("name;DROP TABLE Item", ALLOWED));
+    }
+
+    @Test
+    @DisplayName("columns(): camelCase → snake_case")
+    void columns() {
+        assertEquals(List.of("id", "create_date"), fieldsUtil.columns(List.of("id", "createDate")));
+        assertNull(fieldsUtil.columns(null));
+    }
+
+    @Test
+    @DisplayName("project(): 요청 필드만 가진 Map")
+    void project() {
+        Item item = Item.builder().id(1L).name("커피").price(3000L).description("설명").build();
+        List<Map<String, Object>> rows = fieldsUtil.project(List.of(item), List.of("id", "name"));
+        assertEquals(Map.of("id", 1L, "name", "커피"), rows.get(0));
+        assertEquals(List.of("id", "name"), List.copyOf(rows.get(0).keySet()));
+    }
+}
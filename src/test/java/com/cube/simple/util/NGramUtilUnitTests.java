@@ -0,0 +1,53 @@
+package com.cube.simple.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+
+import lombok.extern.slf4j.Slf4j;
+
+@ActiveProfiles("local")
+@Slf4j
+@SpringBootTest
+class NGramUtilUnitTests {
+
+    private final NGramUtil ngrams = new NGramUtil();
+
+    @Test
+    @DisplayName("tokenize(): 영문은 소문자 bi-gram, 반복 토큰은 횟수 합산")
+    void tokenizeLatin() {
+        Map<String, Integer> tokens = ngrams.tokenize("Awesome awe");
+        assertEquals(2, tokens.get("aw"));
+        assertEquals(2, tokens.get("we"));
+        assertEquals(1, tokens.get("so"));
+    }
+
+    @Test
+    @DisplayName("tokenize(): 한국어/중국어 bi-gram")
+    void tokenizeCjk() {
+        assertEquals(List.of("맛있", "있는"), List.copyOf(ngrams.tokenize("맛있는").keySet()));
+        assertEquals(List.of("首爾"), List.copyOf(ngrams.tokenize("首爾").keySet()));
+    }
+
+    @Test
+    @DisplayName("tokenize(null/빈문자열): 빈 결과")
+    void tokenizeBlank() {
+        assertTrue(ngrams.tokenize(null).isEmpty());
+        assertTrue(ngrams.tokenize("  ").isEmpty());
+    }
+
+    @Test
+    @DisplayName("query(): 중복 없는 토큰, 1글자 단어가 있으면 빈 목록(LIKE 대체)")
+    void query() {
+        assertEquals(List.of("on", "ne"), ngrams.query("One one"));
+        assertTrue(ngrams.query("#01 A").isEmpty());
+        assertTrue(ngrams.query("").isEmpty());
+    }
+}